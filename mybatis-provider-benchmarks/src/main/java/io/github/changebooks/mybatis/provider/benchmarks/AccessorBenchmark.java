@@ -0,0 +1,59 @@
+package io.github.changebooks.mybatis.provider.benchmarks;
+
+import io.github.changebooks.mybatis.provider.tag.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Null-check every column of a record
+ * reflect {@link Field} of each element, the baseline, And {@link TagResultFilter}, which reads by the same Field
+ *
+ * @author changebooks@qq.com
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessorBenchmark {
+
+    @Param({"50", "300"})
+    public int columns;
+
+    private List<TagResult> elements;
+
+    private Object record;
+
+    @Setup
+    public void setUp() {
+        TagResultMap resultMap = TagResultMapParser.parse(Entities.entityType(columns));
+
+        elements = resultMap.getElements();
+        record = Entities.newRecord(columns, 2);
+    }
+
+    @Benchmark
+    public void reflectField(Blackhole blackhole) throws IllegalAccessException {
+        for (TagResult element : elements) {
+            blackhole.consume(element.getField().get(record) != null);
+        }
+    }
+
+    @Benchmark
+    public void getValue(Blackhole blackhole) throws IllegalAccessException {
+        for (TagResult element : elements) {
+            blackhole.consume(TagResultFilter.getValue(element, record) != null);
+        }
+    }
+
+    @Benchmark
+    public List<TagResult> removeNull() throws IllegalAccessException {
+        return TagResultFilter.removeNull(elements, record);
+    }
+
+}
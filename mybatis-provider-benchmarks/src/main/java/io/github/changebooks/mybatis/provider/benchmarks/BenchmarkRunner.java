@@ -0,0 +1,47 @@
+package io.github.changebooks.mybatis.provider.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run all benchmarks with the gc profiler, write the JSON result
+ *
+ * <pre>
+ * java -jar target/benchmarks.jar [result.json] [include regex]
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+public final class BenchmarkRunner {
+    /**
+     * the default JSON result
+     */
+    public static final String DEFAULT_RESULT = "jmh-result.json";
+
+    /**
+     * the default include regex, all benchmarks in this package
+     */
+    public static final String DEFAULT_INCLUDE = BenchmarkRunner.class.getPackage().getName() + ".*";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        String result = args.length > 0 ? args[0] : DEFAULT_RESULT;
+        String include = args.length > 1 ? args[1] : DEFAULT_INCLUDE;
+
+        Options options = new OptionsBuilder().
+                include(include).
+                addProfiler(GCProfiler.class).
+                resultFormat(ResultFormatType.JSON).
+                result(result).
+                build();
+
+        new Runner(options).run();
+    }
+
+}
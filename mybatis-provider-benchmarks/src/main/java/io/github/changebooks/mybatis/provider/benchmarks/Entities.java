@@ -0,0 +1,140 @@
+package io.github.changebooks.mybatis.provider.benchmarks;
+
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity300;
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity5;
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity50;
+import io.github.changebooks.mybatis.provider.benchmarks.mapper.Entity300Mapper;
+import io.github.changebooks.mybatis.provider.benchmarks.mapper.Entity50Mapper;
+import io.github.changebooks.mybatis.provider.benchmarks.mapper.Entity5Mapper;
+import io.github.changebooks.mybatis.provider.benchmarks.provider.Entity300Provider;
+import io.github.changebooks.mybatis.provider.benchmarks.provider.Entity50Provider;
+import io.github.changebooks.mybatis.provider.benchmarks.provider.Entity5Provider;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Synthetic entities, providers And mappers, by column count
+ *
+ * @author changebooks@qq.com
+ */
+public final class Entities {
+
+    private Entities() {
+    }
+
+    /**
+     * the entity class
+     *
+     * @param columns 5, 50 or 300
+     * @return Entity5, Entity50 or Entity300
+     */
+    public static Class<?> entityType(int columns) {
+        switch (columns) {
+            case 5:
+                return Entity5.class;
+            case 50:
+                return Entity50.class;
+            case 300:
+                return Entity300.class;
+            default:
+                throw new IllegalArgumentException("unsupported columns: " + columns);
+        }
+    }
+
+    /**
+     * the mapper interface
+     *
+     * @param columns 5, 50 or 300
+     * @return Entity5Mapper, Entity50Mapper or Entity300Mapper
+     */
+    public static Class<?> mapperType(int columns) {
+        switch (columns) {
+            case 5:
+                return Entity5Mapper.class;
+            case 50:
+                return Entity50Mapper.class;
+            case 300:
+                return Entity300Mapper.class;
+            default:
+                throw new IllegalArgumentException("unsupported columns: " + columns);
+        }
+    }
+
+    /**
+     * create the provider, as mybatis does per call
+     *
+     * @param columns 5, 50 or 300
+     * @return Entity5Provider, Entity50Provider or Entity300Provider
+     */
+    @SuppressWarnings("unchecked")
+    public static BaseProvider<Object> newProvider(int columns) {
+        switch (columns) {
+            case 5:
+                return (BaseProvider<Object>) (BaseProvider<?>) new Entity5Provider();
+            case 50:
+                return (BaseProvider<Object>) (BaseProvider<?>) new Entity50Provider();
+            case 300:
+                return (BaseProvider<Object>) (BaseProvider<?>) new Entity300Provider();
+            default:
+                throw new IllegalArgumentException("unsupported columns: " + columns);
+        }
+    }
+
+    /**
+     * create the record, every step-th column has a value, others are null
+     *
+     * @param columns 5, 50 or 300
+     * @param step    1 fills every column, 2 fills every other column
+     * @return the record
+     */
+    public static Object newRecord(int columns, int step) {
+        Class<?> type = entityType(columns);
+
+        try {
+            Object result = type.getDeclaredConstructor().newInstance();
+
+            Field[] fields = type.getDeclaredFields();
+            for (int i = 0; i < fields.length; i++) {
+                Field field = fields[i];
+                if (Modifier.isStatic(field.getModifiers()) || i % step != 0) {
+                    continue;
+                }
+
+                field.setAccessible(true);
+                field.set(result, sampleValue(field.getType(), i));
+            }
+
+            return result;
+        } catch (ReflectiveOperationException tr) {
+            throw new IllegalStateException(tr);
+        }
+    }
+
+    /**
+     * the sample value of the java type
+     *
+     * @param type  the java type
+     * @param index the column index
+     * @return the sample value
+     */
+    public static Object sampleValue(Class<?> type, int index) {
+        if (type == String.class) {
+            return "value_" + index;
+        } else if (type == Integer.class) {
+            return index;
+        } else if (type == Long.class) {
+            return (long) index;
+        } else if (type == BigDecimal.class) {
+            return BigDecimal.valueOf(index);
+        } else if (type == Date.class) {
+            return new Date(index);
+        } else {
+            throw new IllegalArgumentException("unsupported type: " + type);
+        }
+    }
+
+}
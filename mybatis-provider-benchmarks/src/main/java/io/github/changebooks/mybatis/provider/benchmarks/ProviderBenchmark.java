@@ -0,0 +1,103 @@
+package io.github.changebooks.mybatis.provider.benchmarks;
+
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Every {@link io.github.changebooks.mybatis.provider.sql.SqlBuilder} path of {@link BaseProvider}
+ *
+ * @author changebooks@qq.com
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProviderBenchmark {
+
+    private static final String[] CONDITIONS = {"column_1 = #{column1}", "id > #{id}"};
+
+    private static final String[] ORDERS = {"id DESC"};
+
+    @Param({"5", "50", "300"})
+    public int columns;
+
+    private BaseProvider<Object> provider;
+
+    /**
+     * all columns Non-Null
+     */
+    private Object fullRecord;
+
+    /**
+     * 4 different Non-Null shapes
+     */
+    private Object[] records;
+
+    private int next;
+
+    @Setup
+    public void setUp() {
+        provider = Entities.newProvider(columns);
+        fullRecord = Entities.newRecord(columns, 1);
+        records = new Object[]{
+                Entities.newRecord(columns, 1),
+                Entities.newRecord(columns, 2),
+                Entities.newRecord(columns, 3),
+                Entities.newRecord(columns, 4)
+        };
+    }
+
+    /**
+     * mybatis creates the provider per call, the constructor renders the static sql
+     */
+    @Benchmark
+    public Object newProvider() {
+        return Entities.newProvider(columns);
+    }
+
+    @Benchmark
+    public String selectList() {
+        return provider.selectList(CONDITIONS, ORDERS, 20L, 10);
+    }
+
+    @Benchmark
+    public String selectCount() {
+        return provider.selectCount(CONDITIONS);
+    }
+
+    @Benchmark
+    public String selectOne() {
+        return provider.selectOne();
+    }
+
+    @Benchmark
+    public String insertOne() {
+        return provider.insertOne();
+    }
+
+    @Benchmark
+    public String updateOne() {
+        return provider.updateOne(fullRecord);
+    }
+
+    @Benchmark
+    public String updateOneShapes() {
+        Object record = records[next++ & 3];
+        return provider.updateOne(record);
+    }
+
+    @Benchmark
+    public String updateOneUncached() {
+        return provider.buildUpdateOne(fullRecord).toString();
+    }
+
+    @Benchmark
+    public String deleteOne() {
+        return provider.deleteOne();
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.github.changebooks.mybatis.provider.benchmarks;
+
+import io.github.changebooks.mybatis.provider.AnnotationParser;
+import io.github.changebooks.mybatis.provider.ResultMapUtils;
+import io.github.changebooks.mybatis.provider.tag.TagResultMap;
+import io.github.changebooks.mybatis.provider.tag.TagResultMapParser;
+import org.apache.ibatis.session.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Startup-time ResultMap registration
+ *
+ * @author changebooks@qq.com
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RegistrationBenchmark {
+
+    @Param({"5", "50", "300"})
+    public int columns;
+
+    private Class<?> entityType;
+
+    private Class<?> mapperType;
+
+    private Configuration configuration;
+
+    @Setup
+    public void setUp() {
+        entityType = Entities.entityType(columns);
+        mapperType = Entities.mapperType(columns);
+    }
+
+    /**
+     * a fresh Configuration with the mapper added, as at startup
+     */
+    @Setup(Level.Invocation)
+    public void setUpConfiguration() {
+        configuration = new Configuration();
+        configuration.addMapper(mapperType);
+    }
+
+    /**
+     * parse the entity, bypassing the process-wide cache
+     */
+    @Benchmark
+    public TagResultMap parseEntity() {
+        return TagResultMapParser.create(entityType);
+    }
+
+    @Benchmark
+    public Map<String, TagResultMap> parse() {
+        return AnnotationParser.parse(mapperType, ResultMapUtils.DEFAULT_ID);
+    }
+
+    @Benchmark
+    public Configuration addResultMaps() {
+        ResultMapUtils.addResultMaps(configuration);
+        return configuration;
+    }
+
+}
@@ -0,0 +1,92 @@
+package io.github.changebooks.mybatis.provider.benchmarks;
+
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import io.github.changebooks.mybatis.provider.sql.*;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+import io.github.changebooks.mybatis.provider.tag.TagResultFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SqlRenderer#SQL} vs {@link SqlRenderer#TEXT}, the dynamic paths rendered per call
+ * The setup fails if the two renderers differ
+ *
+ * @author changebooks@qq.com
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RendererBenchmark {
+
+    private static final String[] CONDITIONS = {"column_1 = #{column1}", "id > #{id}"};
+
+    private static final String[] ORDERS = {"id DESC"};
+
+    @Param({"5", "50", "300"})
+    public int columns;
+
+    @Param({"SQL", "TEXT"})
+    public SqlRenderer renderer;
+
+    private SqlBuilder.SqlSelect selectBuilder;
+
+    private SqlBuilder.SqlUpdate<Object> updateBuilder;
+
+    private Object record;
+
+    @Setup
+    public void setUp() {
+        BaseProvider<Object> provider = Entities.newProvider(columns);
+        List<TagResult> columns = TagResultFilter.removeId(provider.getElements());
+
+        SqlSelectBuilder sqlSelect = new SqlSelectBuilder(provider.getTable(), provider.getColumns(), provider.getWhereId(), provider.getSortKeys());
+        SqlSelectBuilder textSelect = new SqlSelectTextBuilder(provider.getTable(), provider.getColumns(), provider.getWhereId(), provider.getSortKeys());
+
+        // uncached, every call renders
+        SqlUpdateBuilder<Object> sqlUpdate = new SqlUpdateBuilder<>(provider.getTable(), columns, provider.getWhereId(), new SqlCache<>(0));
+        SqlUpdateBuilder<Object> textUpdate = new SqlUpdateTextBuilder<>(provider.getTable(), columns, provider.getWhereId(), new SqlCache<>(0));
+
+        record = Entities.newRecord(this.columns, 2);
+
+        check(sqlSelect.selectListSql(CONDITIONS, ORDERS, 20L, 10), textSelect.selectListSql(CONDITIONS, ORDERS, 20L, 10));
+        check(sqlSelect.selectCountSql(CONDITIONS), textSelect.selectCountSql(CONDITIONS));
+        check(sqlSelect.selectKeysetSql(CONDITIONS, false, true), textSelect.selectKeysetSql(CONDITIONS, false, true));
+        check(sqlUpdate.updateOneSql(record), textUpdate.updateOneSql(record));
+
+        selectBuilder = renderer == SqlRenderer.TEXT ? textSelect : sqlSelect;
+        updateBuilder = renderer == SqlRenderer.TEXT ? textUpdate : sqlUpdate;
+    }
+
+    @Benchmark
+    public String selectList() {
+        return selectBuilder.selectListSql(CONDITIONS, ORDERS, 20L, 10);
+    }
+
+    @Benchmark
+    public String selectCount() {
+        return selectBuilder.selectCountSql(CONDITIONS);
+    }
+
+    @Benchmark
+    public String selectKeyset() {
+        return selectBuilder.selectKeysetSql(CONDITIONS, false, true);
+    }
+
+    @Benchmark
+    public String updateOne() {
+        return updateBuilder.updateOneSql(record);
+    }
+
+    private static void check(String expected, String actual) {
+        if (!Objects.equals(expected, actual)) {
+            throw new IllegalStateException("renderers differ, expected: " + expected + ", actual: " + actual);
+        }
+    }
+
+}
@@ -0,0 +1,3318 @@
+package io.github.changebooks.mybatis.provider.benchmarks.entity;
+
+import io.github.changebooks.mybatis.provider.annotation.MybatisResult;
+import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Synthetic entity, 300 columns
+ *
+ * @author changebooks@qq.com
+ */
+@MybatisResultMap(table = "entity_300")
+public final class Entity300 implements Serializable {
+    @MybatisResult(column = "id", jdbcType = JdbcType.BIGINT, id = true, autoIncrement = true)
+    private Long id;
+
+    @MybatisResult(column = "column_1", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column1;
+
+    @MybatisResult(column = "column_2", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column2;
+
+    @MybatisResult(column = "column_3", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column3;
+
+    @MybatisResult(column = "column_4", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column4;
+
+    @MybatisResult(column = "column_5", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column5;
+
+    @MybatisResult(column = "column_6", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column6;
+
+    @MybatisResult(column = "column_7", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column7;
+
+    @MybatisResult(column = "column_8", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column8;
+
+    @MybatisResult(column = "column_9", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column9;
+
+    @MybatisResult(column = "column_10", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column10;
+
+    @MybatisResult(column = "column_11", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column11;
+
+    @MybatisResult(column = "column_12", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column12;
+
+    @MybatisResult(column = "column_13", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column13;
+
+    @MybatisResult(column = "column_14", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column14;
+
+    @MybatisResult(column = "column_15", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column15;
+
+    @MybatisResult(column = "column_16", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column16;
+
+    @MybatisResult(column = "column_17", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column17;
+
+    @MybatisResult(column = "column_18", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column18;
+
+    @MybatisResult(column = "column_19", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column19;
+
+    @MybatisResult(column = "column_20", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column20;
+
+    @MybatisResult(column = "column_21", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column21;
+
+    @MybatisResult(column = "column_22", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column22;
+
+    @MybatisResult(column = "column_23", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column23;
+
+    @MybatisResult(column = "column_24", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column24;
+
+    @MybatisResult(column = "column_25", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column25;
+
+    @MybatisResult(column = "column_26", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column26;
+
+    @MybatisResult(column = "column_27", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column27;
+
+    @MybatisResult(column = "column_28", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column28;
+
+    @MybatisResult(column = "column_29", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column29;
+
+    @MybatisResult(column = "column_30", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column30;
+
+    @MybatisResult(column = "column_31", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column31;
+
+    @MybatisResult(column = "column_32", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column32;
+
+    @MybatisResult(column = "column_33", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column33;
+
+    @MybatisResult(column = "column_34", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column34;
+
+    @MybatisResult(column = "column_35", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column35;
+
+    @MybatisResult(column = "column_36", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column36;
+
+    @MybatisResult(column = "column_37", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column37;
+
+    @MybatisResult(column = "column_38", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column38;
+
+    @MybatisResult(column = "column_39", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column39;
+
+    @MybatisResult(column = "column_40", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column40;
+
+    @MybatisResult(column = "column_41", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column41;
+
+    @MybatisResult(column = "column_42", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column42;
+
+    @MybatisResult(column = "column_43", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column43;
+
+    @MybatisResult(column = "column_44", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column44;
+
+    @MybatisResult(column = "column_45", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column45;
+
+    @MybatisResult(column = "column_46", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column46;
+
+    @MybatisResult(column = "column_47", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column47;
+
+    @MybatisResult(column = "column_48", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column48;
+
+    @MybatisResult(column = "column_49", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column49;
+
+    @MybatisResult(column = "column_50", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column50;
+
+    @MybatisResult(column = "column_51", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column51;
+
+    @MybatisResult(column = "column_52", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column52;
+
+    @MybatisResult(column = "column_53", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column53;
+
+    @MybatisResult(column = "column_54", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column54;
+
+    @MybatisResult(column = "column_55", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column55;
+
+    @MybatisResult(column = "column_56", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column56;
+
+    @MybatisResult(column = "column_57", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column57;
+
+    @MybatisResult(column = "column_58", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column58;
+
+    @MybatisResult(column = "column_59", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column59;
+
+    @MybatisResult(column = "column_60", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column60;
+
+    @MybatisResult(column = "column_61", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column61;
+
+    @MybatisResult(column = "column_62", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column62;
+
+    @MybatisResult(column = "column_63", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column63;
+
+    @MybatisResult(column = "column_64", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column64;
+
+    @MybatisResult(column = "column_65", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column65;
+
+    @MybatisResult(column = "column_66", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column66;
+
+    @MybatisResult(column = "column_67", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column67;
+
+    @MybatisResult(column = "column_68", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column68;
+
+    @MybatisResult(column = "column_69", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column69;
+
+    @MybatisResult(column = "column_70", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column70;
+
+    @MybatisResult(column = "column_71", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column71;
+
+    @MybatisResult(column = "column_72", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column72;
+
+    @MybatisResult(column = "column_73", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column73;
+
+    @MybatisResult(column = "column_74", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column74;
+
+    @MybatisResult(column = "column_75", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column75;
+
+    @MybatisResult(column = "column_76", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column76;
+
+    @MybatisResult(column = "column_77", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column77;
+
+    @MybatisResult(column = "column_78", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column78;
+
+    @MybatisResult(column = "column_79", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column79;
+
+    @MybatisResult(column = "column_80", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column80;
+
+    @MybatisResult(column = "column_81", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column81;
+
+    @MybatisResult(column = "column_82", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column82;
+
+    @MybatisResult(column = "column_83", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column83;
+
+    @MybatisResult(column = "column_84", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column84;
+
+    @MybatisResult(column = "column_85", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column85;
+
+    @MybatisResult(column = "column_86", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column86;
+
+    @MybatisResult(column = "column_87", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column87;
+
+    @MybatisResult(column = "column_88", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column88;
+
+    @MybatisResult(column = "column_89", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column89;
+
+    @MybatisResult(column = "column_90", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column90;
+
+    @MybatisResult(column = "column_91", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column91;
+
+    @MybatisResult(column = "column_92", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column92;
+
+    @MybatisResult(column = "column_93", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column93;
+
+    @MybatisResult(column = "column_94", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column94;
+
+    @MybatisResult(column = "column_95", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column95;
+
+    @MybatisResult(column = "column_96", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column96;
+
+    @MybatisResult(column = "column_97", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column97;
+
+    @MybatisResult(column = "column_98", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column98;
+
+    @MybatisResult(column = "column_99", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column99;
+
+    @MybatisResult(column = "column_100", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column100;
+
+    @MybatisResult(column = "column_101", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column101;
+
+    @MybatisResult(column = "column_102", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column102;
+
+    @MybatisResult(column = "column_103", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column103;
+
+    @MybatisResult(column = "column_104", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column104;
+
+    @MybatisResult(column = "column_105", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column105;
+
+    @MybatisResult(column = "column_106", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column106;
+
+    @MybatisResult(column = "column_107", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column107;
+
+    @MybatisResult(column = "column_108", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column108;
+
+    @MybatisResult(column = "column_109", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column109;
+
+    @MybatisResult(column = "column_110", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column110;
+
+    @MybatisResult(column = "column_111", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column111;
+
+    @MybatisResult(column = "column_112", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column112;
+
+    @MybatisResult(column = "column_113", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column113;
+
+    @MybatisResult(column = "column_114", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column114;
+
+    @MybatisResult(column = "column_115", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column115;
+
+    @MybatisResult(column = "column_116", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column116;
+
+    @MybatisResult(column = "column_117", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column117;
+
+    @MybatisResult(column = "column_118", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column118;
+
+    @MybatisResult(column = "column_119", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column119;
+
+    @MybatisResult(column = "column_120", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column120;
+
+    @MybatisResult(column = "column_121", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column121;
+
+    @MybatisResult(column = "column_122", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column122;
+
+    @MybatisResult(column = "column_123", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column123;
+
+    @MybatisResult(column = "column_124", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column124;
+
+    @MybatisResult(column = "column_125", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column125;
+
+    @MybatisResult(column = "column_126", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column126;
+
+    @MybatisResult(column = "column_127", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column127;
+
+    @MybatisResult(column = "column_128", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column128;
+
+    @MybatisResult(column = "column_129", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column129;
+
+    @MybatisResult(column = "column_130", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column130;
+
+    @MybatisResult(column = "column_131", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column131;
+
+    @MybatisResult(column = "column_132", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column132;
+
+    @MybatisResult(column = "column_133", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column133;
+
+    @MybatisResult(column = "column_134", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column134;
+
+    @MybatisResult(column = "column_135", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column135;
+
+    @MybatisResult(column = "column_136", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column136;
+
+    @MybatisResult(column = "column_137", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column137;
+
+    @MybatisResult(column = "column_138", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column138;
+
+    @MybatisResult(column = "column_139", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column139;
+
+    @MybatisResult(column = "column_140", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column140;
+
+    @MybatisResult(column = "column_141", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column141;
+
+    @MybatisResult(column = "column_142", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column142;
+
+    @MybatisResult(column = "column_143", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column143;
+
+    @MybatisResult(column = "column_144", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column144;
+
+    @MybatisResult(column = "column_145", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column145;
+
+    @MybatisResult(column = "column_146", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column146;
+
+    @MybatisResult(column = "column_147", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column147;
+
+    @MybatisResult(column = "column_148", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column148;
+
+    @MybatisResult(column = "column_149", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column149;
+
+    @MybatisResult(column = "column_150", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column150;
+
+    @MybatisResult(column = "column_151", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column151;
+
+    @MybatisResult(column = "column_152", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column152;
+
+    @MybatisResult(column = "column_153", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column153;
+
+    @MybatisResult(column = "column_154", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column154;
+
+    @MybatisResult(column = "column_155", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column155;
+
+    @MybatisResult(column = "column_156", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column156;
+
+    @MybatisResult(column = "column_157", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column157;
+
+    @MybatisResult(column = "column_158", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column158;
+
+    @MybatisResult(column = "column_159", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column159;
+
+    @MybatisResult(column = "column_160", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column160;
+
+    @MybatisResult(column = "column_161", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column161;
+
+    @MybatisResult(column = "column_162", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column162;
+
+    @MybatisResult(column = "column_163", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column163;
+
+    @MybatisResult(column = "column_164", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column164;
+
+    @MybatisResult(column = "column_165", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column165;
+
+    @MybatisResult(column = "column_166", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column166;
+
+    @MybatisResult(column = "column_167", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column167;
+
+    @MybatisResult(column = "column_168", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column168;
+
+    @MybatisResult(column = "column_169", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column169;
+
+    @MybatisResult(column = "column_170", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column170;
+
+    @MybatisResult(column = "column_171", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column171;
+
+    @MybatisResult(column = "column_172", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column172;
+
+    @MybatisResult(column = "column_173", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column173;
+
+    @MybatisResult(column = "column_174", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column174;
+
+    @MybatisResult(column = "column_175", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column175;
+
+    @MybatisResult(column = "column_176", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column176;
+
+    @MybatisResult(column = "column_177", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column177;
+
+    @MybatisResult(column = "column_178", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column178;
+
+    @MybatisResult(column = "column_179", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column179;
+
+    @MybatisResult(column = "column_180", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column180;
+
+    @MybatisResult(column = "column_181", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column181;
+
+    @MybatisResult(column = "column_182", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column182;
+
+    @MybatisResult(column = "column_183", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column183;
+
+    @MybatisResult(column = "column_184", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column184;
+
+    @MybatisResult(column = "column_185", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column185;
+
+    @MybatisResult(column = "column_186", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column186;
+
+    @MybatisResult(column = "column_187", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column187;
+
+    @MybatisResult(column = "column_188", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column188;
+
+    @MybatisResult(column = "column_189", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column189;
+
+    @MybatisResult(column = "column_190", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column190;
+
+    @MybatisResult(column = "column_191", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column191;
+
+    @MybatisResult(column = "column_192", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column192;
+
+    @MybatisResult(column = "column_193", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column193;
+
+    @MybatisResult(column = "column_194", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column194;
+
+    @MybatisResult(column = "column_195", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column195;
+
+    @MybatisResult(column = "column_196", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column196;
+
+    @MybatisResult(column = "column_197", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column197;
+
+    @MybatisResult(column = "column_198", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column198;
+
+    @MybatisResult(column = "column_199", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column199;
+
+    @MybatisResult(column = "column_200", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column200;
+
+    @MybatisResult(column = "column_201", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column201;
+
+    @MybatisResult(column = "column_202", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column202;
+
+    @MybatisResult(column = "column_203", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column203;
+
+    @MybatisResult(column = "column_204", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column204;
+
+    @MybatisResult(column = "column_205", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column205;
+
+    @MybatisResult(column = "column_206", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column206;
+
+    @MybatisResult(column = "column_207", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column207;
+
+    @MybatisResult(column = "column_208", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column208;
+
+    @MybatisResult(column = "column_209", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column209;
+
+    @MybatisResult(column = "column_210", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column210;
+
+    @MybatisResult(column = "column_211", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column211;
+
+    @MybatisResult(column = "column_212", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column212;
+
+    @MybatisResult(column = "column_213", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column213;
+
+    @MybatisResult(column = "column_214", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column214;
+
+    @MybatisResult(column = "column_215", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column215;
+
+    @MybatisResult(column = "column_216", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column216;
+
+    @MybatisResult(column = "column_217", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column217;
+
+    @MybatisResult(column = "column_218", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column218;
+
+    @MybatisResult(column = "column_219", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column219;
+
+    @MybatisResult(column = "column_220", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column220;
+
+    @MybatisResult(column = "column_221", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column221;
+
+    @MybatisResult(column = "column_222", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column222;
+
+    @MybatisResult(column = "column_223", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column223;
+
+    @MybatisResult(column = "column_224", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column224;
+
+    @MybatisResult(column = "column_225", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column225;
+
+    @MybatisResult(column = "column_226", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column226;
+
+    @MybatisResult(column = "column_227", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column227;
+
+    @MybatisResult(column = "column_228", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column228;
+
+    @MybatisResult(column = "column_229", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column229;
+
+    @MybatisResult(column = "column_230", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column230;
+
+    @MybatisResult(column = "column_231", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column231;
+
+    @MybatisResult(column = "column_232", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column232;
+
+    @MybatisResult(column = "column_233", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column233;
+
+    @MybatisResult(column = "column_234", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column234;
+
+    @MybatisResult(column = "column_235", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column235;
+
+    @MybatisResult(column = "column_236", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column236;
+
+    @MybatisResult(column = "column_237", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column237;
+
+    @MybatisResult(column = "column_238", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column238;
+
+    @MybatisResult(column = "column_239", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column239;
+
+    @MybatisResult(column = "column_240", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column240;
+
+    @MybatisResult(column = "column_241", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column241;
+
+    @MybatisResult(column = "column_242", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column242;
+
+    @MybatisResult(column = "column_243", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column243;
+
+    @MybatisResult(column = "column_244", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column244;
+
+    @MybatisResult(column = "column_245", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column245;
+
+    @MybatisResult(column = "column_246", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column246;
+
+    @MybatisResult(column = "column_247", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column247;
+
+    @MybatisResult(column = "column_248", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column248;
+
+    @MybatisResult(column = "column_249", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column249;
+
+    @MybatisResult(column = "column_250", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column250;
+
+    @MybatisResult(column = "column_251", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column251;
+
+    @MybatisResult(column = "column_252", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column252;
+
+    @MybatisResult(column = "column_253", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column253;
+
+    @MybatisResult(column = "column_254", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column254;
+
+    @MybatisResult(column = "column_255", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column255;
+
+    @MybatisResult(column = "column_256", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column256;
+
+    @MybatisResult(column = "column_257", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column257;
+
+    @MybatisResult(column = "column_258", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column258;
+
+    @MybatisResult(column = "column_259", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column259;
+
+    @MybatisResult(column = "column_260", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column260;
+
+    @MybatisResult(column = "column_261", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column261;
+
+    @MybatisResult(column = "column_262", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column262;
+
+    @MybatisResult(column = "column_263", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column263;
+
+    @MybatisResult(column = "column_264", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column264;
+
+    @MybatisResult(column = "column_265", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column265;
+
+    @MybatisResult(column = "column_266", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column266;
+
+    @MybatisResult(column = "column_267", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column267;
+
+    @MybatisResult(column = "column_268", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column268;
+
+    @MybatisResult(column = "column_269", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column269;
+
+    @MybatisResult(column = "column_270", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column270;
+
+    @MybatisResult(column = "column_271", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column271;
+
+    @MybatisResult(column = "column_272", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column272;
+
+    @MybatisResult(column = "column_273", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column273;
+
+    @MybatisResult(column = "column_274", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column274;
+
+    @MybatisResult(column = "column_275", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column275;
+
+    @MybatisResult(column = "column_276", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column276;
+
+    @MybatisResult(column = "column_277", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column277;
+
+    @MybatisResult(column = "column_278", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column278;
+
+    @MybatisResult(column = "column_279", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column279;
+
+    @MybatisResult(column = "column_280", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column280;
+
+    @MybatisResult(column = "column_281", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column281;
+
+    @MybatisResult(column = "column_282", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column282;
+
+    @MybatisResult(column = "column_283", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column283;
+
+    @MybatisResult(column = "column_284", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column284;
+
+    @MybatisResult(column = "column_285", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column285;
+
+    @MybatisResult(column = "column_286", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column286;
+
+    @MybatisResult(column = "column_287", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column287;
+
+    @MybatisResult(column = "column_288", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column288;
+
+    @MybatisResult(column = "column_289", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column289;
+
+    @MybatisResult(column = "column_290", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column290;
+
+    @MybatisResult(column = "column_291", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column291;
+
+    @MybatisResult(column = "column_292", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column292;
+
+    @MybatisResult(column = "column_293", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column293;
+
+    @MybatisResult(column = "column_294", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column294;
+
+    @MybatisResult(column = "column_295", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column295;
+
+    @MybatisResult(column = "column_296", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column296;
+
+    @MybatisResult(column = "column_297", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column297;
+
+    @MybatisResult(column = "column_298", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column298;
+
+    @MybatisResult(column = "column_299", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column299;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getColumn1() {
+        return column1;
+    }
+
+    public void setColumn1(String column1) {
+        this.column1 = column1;
+    }
+
+    public Integer getColumn2() {
+        return column2;
+    }
+
+    public void setColumn2(Integer column2) {
+        this.column2 = column2;
+    }
+
+    public Long getColumn3() {
+        return column3;
+    }
+
+    public void setColumn3(Long column3) {
+        this.column3 = column3;
+    }
+
+    public BigDecimal getColumn4() {
+        return column4;
+    }
+
+    public void setColumn4(BigDecimal column4) {
+        this.column4 = column4;
+    }
+
+    public Date getColumn5() {
+        return column5;
+    }
+
+    public void setColumn5(Date column5) {
+        this.column5 = column5;
+    }
+
+    public String getColumn6() {
+        return column6;
+    }
+
+    public void setColumn6(String column6) {
+        this.column6 = column6;
+    }
+
+    public Integer getColumn7() {
+        return column7;
+    }
+
+    public void setColumn7(Integer column7) {
+        this.column7 = column7;
+    }
+
+    public Long getColumn8() {
+        return column8;
+    }
+
+    public void setColumn8(Long column8) {
+        this.column8 = column8;
+    }
+
+    public BigDecimal getColumn9() {
+        return column9;
+    }
+
+    public void setColumn9(BigDecimal column9) {
+        this.column9 = column9;
+    }
+
+    public Date getColumn10() {
+        return column10;
+    }
+
+    public void setColumn10(Date column10) {
+        this.column10 = column10;
+    }
+
+    public String getColumn11() {
+        return column11;
+    }
+
+    public void setColumn11(String column11) {
+        this.column11 = column11;
+    }
+
+    public Integer getColumn12() {
+        return column12;
+    }
+
+    public void setColumn12(Integer column12) {
+        this.column12 = column12;
+    }
+
+    public Long getColumn13() {
+        return column13;
+    }
+
+    public void setColumn13(Long column13) {
+        this.column13 = column13;
+    }
+
+    public BigDecimal getColumn14() {
+        return column14;
+    }
+
+    public void setColumn14(BigDecimal column14) {
+        this.column14 = column14;
+    }
+
+    public Date getColumn15() {
+        return column15;
+    }
+
+    public void setColumn15(Date column15) {
+        this.column15 = column15;
+    }
+
+    public String getColumn16() {
+        return column16;
+    }
+
+    public void setColumn16(String column16) {
+        this.column16 = column16;
+    }
+
+    public Integer getColumn17() {
+        return column17;
+    }
+
+    public void setColumn17(Integer column17) {
+        this.column17 = column17;
+    }
+
+    public Long getColumn18() {
+        return column18;
+    }
+
+    public void setColumn18(Long column18) {
+        this.column18 = column18;
+    }
+
+    public BigDecimal getColumn19() {
+        return column19;
+    }
+
+    public void setColumn19(BigDecimal column19) {
+        this.column19 = column19;
+    }
+
+    public Date getColumn20() {
+        return column20;
+    }
+
+    public void setColumn20(Date column20) {
+        this.column20 = column20;
+    }
+
+    public String getColumn21() {
+        return column21;
+    }
+
+    public void setColumn21(String column21) {
+        this.column21 = column21;
+    }
+
+    public Integer getColumn22() {
+        return column22;
+    }
+
+    public void setColumn22(Integer column22) {
+        this.column22 = column22;
+    }
+
+    public Long getColumn23() {
+        return column23;
+    }
+
+    public void setColumn23(Long column23) {
+        this.column23 = column23;
+    }
+
+    public BigDecimal getColumn24() {
+        return column24;
+    }
+
+    public void setColumn24(BigDecimal column24) {
+        this.column24 = column24;
+    }
+
+    public Date getColumn25() {
+        return column25;
+    }
+
+    public void setColumn25(Date column25) {
+        this.column25 = column25;
+    }
+
+    public String getColumn26() {
+        return column26;
+    }
+
+    public void setColumn26(String column26) {
+        this.column26 = column26;
+    }
+
+    public Integer getColumn27() {
+        return column27;
+    }
+
+    public void setColumn27(Integer column27) {
+        this.column27 = column27;
+    }
+
+    public Long getColumn28() {
+        return column28;
+    }
+
+    public void setColumn28(Long column28) {
+        this.column28 = column28;
+    }
+
+    public BigDecimal getColumn29() {
+        return column29;
+    }
+
+    public void setColumn29(BigDecimal column29) {
+        this.column29 = column29;
+    }
+
+    public Date getColumn30() {
+        return column30;
+    }
+
+    public void setColumn30(Date column30) {
+        this.column30 = column30;
+    }
+
+    public String getColumn31() {
+        return column31;
+    }
+
+    public void setColumn31(String column31) {
+        this.column31 = column31;
+    }
+
+    public Integer getColumn32() {
+        return column32;
+    }
+
+    public void setColumn32(Integer column32) {
+        this.column32 = column32;
+    }
+
+    public Long getColumn33() {
+        return column33;
+    }
+
+    public void setColumn33(Long column33) {
+        this.column33 = column33;
+    }
+
+    public BigDecimal getColumn34() {
+        return column34;
+    }
+
+    public void setColumn34(BigDecimal column34) {
+        this.column34 = column34;
+    }
+
+    public Date getColumn35() {
+        return column35;
+    }
+
+    public void setColumn35(Date column35) {
+        this.column35 = column35;
+    }
+
+    public String getColumn36() {
+        return column36;
+    }
+
+    public void setColumn36(String column36) {
+        this.column36 = column36;
+    }
+
+    public Integer getColumn37() {
+        return column37;
+    }
+
+    public void setColumn37(Integer column37) {
+        this.column37 = column37;
+    }
+
+    public Long getColumn38() {
+        return column38;
+    }
+
+    public void setColumn38(Long column38) {
+        this.column38 = column38;
+    }
+
+    public BigDecimal getColumn39() {
+        return column39;
+    }
+
+    public void setColumn39(BigDecimal column39) {
+        this.column39 = column39;
+    }
+
+    public Date getColumn40() {
+        return column40;
+    }
+
+    public void setColumn40(Date column40) {
+        this.column40 = column40;
+    }
+
+    public String getColumn41() {
+        return column41;
+    }
+
+    public void setColumn41(String column41) {
+        this.column41 = column41;
+    }
+
+    public Integer getColumn42() {
+        return column42;
+    }
+
+    public void setColumn42(Integer column42) {
+        this.column42 = column42;
+    }
+
+    public Long getColumn43() {
+        return column43;
+    }
+
+    public void setColumn43(Long column43) {
+        this.column43 = column43;
+    }
+
+    public BigDecimal getColumn44() {
+        return column44;
+    }
+
+    public void setColumn44(BigDecimal column44) {
+        this.column44 = column44;
+    }
+
+    public Date getColumn45() {
+        return column45;
+    }
+
+    public void setColumn45(Date column45) {
+        this.column45 = column45;
+    }
+
+    public String getColumn46() {
+        return column46;
+    }
+
+    public void setColumn46(String column46) {
+        this.column46 = column46;
+    }
+
+    public Integer getColumn47() {
+        return column47;
+    }
+
+    public void setColumn47(Integer column47) {
+        this.column47 = column47;
+    }
+
+    public Long getColumn48() {
+        return column48;
+    }
+
+    public void setColumn48(Long column48) {
+        this.column48 = column48;
+    }
+
+    public BigDecimal getColumn49() {
+        return column49;
+    }
+
+    public void setColumn49(BigDecimal column49) {
+        this.column49 = column49;
+    }
+
+    public Date getColumn50() {
+        return column50;
+    }
+
+    public void setColumn50(Date column50) {
+        this.column50 = column50;
+    }
+
+    public String getColumn51() {
+        return column51;
+    }
+
+    public void setColumn51(String column51) {
+        this.column51 = column51;
+    }
+
+    public Integer getColumn52() {
+        return column52;
+    }
+
+    public void setColumn52(Integer column52) {
+        this.column52 = column52;
+    }
+
+    public Long getColumn53() {
+        return column53;
+    }
+
+    public void setColumn53(Long column53) {
+        this.column53 = column53;
+    }
+
+    public BigDecimal getColumn54() {
+        return column54;
+    }
+
+    public void setColumn54(BigDecimal column54) {
+        this.column54 = column54;
+    }
+
+    public Date getColumn55() {
+        return column55;
+    }
+
+    public void setColumn55(Date column55) {
+        this.column55 = column55;
+    }
+
+    public String getColumn56() {
+        return column56;
+    }
+
+    public void setColumn56(String column56) {
+        this.column56 = column56;
+    }
+
+    public Integer getColumn57() {
+        return column57;
+    }
+
+    public void setColumn57(Integer column57) {
+        this.column57 = column57;
+    }
+
+    public Long getColumn58() {
+        return column58;
+    }
+
+    public void setColumn58(Long column58) {
+        this.column58 = column58;
+    }
+
+    public BigDecimal getColumn59() {
+        return column59;
+    }
+
+    public void setColumn59(BigDecimal column59) {
+        this.column59 = column59;
+    }
+
+    public Date getColumn60() {
+        return column60;
+    }
+
+    public void setColumn60(Date column60) {
+        this.column60 = column60;
+    }
+
+    public String getColumn61() {
+        return column61;
+    }
+
+    public void setColumn61(String column61) {
+        this.column61 = column61;
+    }
+
+    public Integer getColumn62() {
+        return column62;
+    }
+
+    public void setColumn62(Integer column62) {
+        this.column62 = column62;
+    }
+
+    public Long getColumn63() {
+        return column63;
+    }
+
+    public void setColumn63(Long column63) {
+        this.column63 = column63;
+    }
+
+    public BigDecimal getColumn64() {
+        return column64;
+    }
+
+    public void setColumn64(BigDecimal column64) {
+        this.column64 = column64;
+    }
+
+    public Date getColumn65() {
+        return column65;
+    }
+
+    public void setColumn65(Date column65) {
+        this.column65 = column65;
+    }
+
+    public String getColumn66() {
+        return column66;
+    }
+
+    public void setColumn66(String column66) {
+        this.column66 = column66;
+    }
+
+    public Integer getColumn67() {
+        return column67;
+    }
+
+    public void setColumn67(Integer column67) {
+        this.column67 = column67;
+    }
+
+    public Long getColumn68() {
+        return column68;
+    }
+
+    public void setColumn68(Long column68) {
+        this.column68 = column68;
+    }
+
+    public BigDecimal getColumn69() {
+        return column69;
+    }
+
+    public void setColumn69(BigDecimal column69) {
+        this.column69 = column69;
+    }
+
+    public Date getColumn70() {
+        return column70;
+    }
+
+    public void setColumn70(Date column70) {
+        this.column70 = column70;
+    }
+
+    public String getColumn71() {
+        return column71;
+    }
+
+    public void setColumn71(String column71) {
+        this.column71 = column71;
+    }
+
+    public Integer getColumn72() {
+        return column72;
+    }
+
+    public void setColumn72(Integer column72) {
+        this.column72 = column72;
+    }
+
+    public Long getColumn73() {
+        return column73;
+    }
+
+    public void setColumn73(Long column73) {
+        this.column73 = column73;
+    }
+
+    public BigDecimal getColumn74() {
+        return column74;
+    }
+
+    public void setColumn74(BigDecimal column74) {
+        this.column74 = column74;
+    }
+
+    public Date getColumn75() {
+        return column75;
+    }
+
+    public void setColumn75(Date column75) {
+        this.column75 = column75;
+    }
+
+    public String getColumn76() {
+        return column76;
+    }
+
+    public void setColumn76(String column76) {
+        this.column76 = column76;
+    }
+
+    public Integer getColumn77() {
+        return column77;
+    }
+
+    public void setColumn77(Integer column77) {
+        this.column77 = column77;
+    }
+
+    public Long getColumn78() {
+        return column78;
+    }
+
+    public void setColumn78(Long column78) {
+        this.column78 = column78;
+    }
+
+    public BigDecimal getColumn79() {
+        return column79;
+    }
+
+    public void setColumn79(BigDecimal column79) {
+        this.column79 = column79;
+    }
+
+    public Date getColumn80() {
+        return column80;
+    }
+
+    public void setColumn80(Date column80) {
+        this.column80 = column80;
+    }
+
+    public String getColumn81() {
+        return column81;
+    }
+
+    public void setColumn81(String column81) {
+        this.column81 = column81;
+    }
+
+    public Integer getColumn82() {
+        return column82;
+    }
+
+    public void setColumn82(Integer column82) {
+        this.column82 = column82;
+    }
+
+    public Long getColumn83() {
+        return column83;
+    }
+
+    public void setColumn83(Long column83) {
+        this.column83 = column83;
+    }
+
+    public BigDecimal getColumn84() {
+        return column84;
+    }
+
+    public void setColumn84(BigDecimal column84) {
+        this.column84 = column84;
+    }
+
+    public Date getColumn85() {
+        return column85;
+    }
+
+    public void setColumn85(Date column85) {
+        this.column85 = column85;
+    }
+
+    public String getColumn86() {
+        return column86;
+    }
+
+    public void setColumn86(String column86) {
+        this.column86 = column86;
+    }
+
+    public Integer getColumn87() {
+        return column87;
+    }
+
+    public void setColumn87(Integer column87) {
+        this.column87 = column87;
+    }
+
+    public Long getColumn88() {
+        return column88;
+    }
+
+    public void setColumn88(Long column88) {
+        this.column88 = column88;
+    }
+
+    public BigDecimal getColumn89() {
+        return column89;
+    }
+
+    public void setColumn89(BigDecimal column89) {
+        this.column89 = column89;
+    }
+
+    public Date getColumn90() {
+        return column90;
+    }
+
+    public void setColumn90(Date column90) {
+        this.column90 = column90;
+    }
+
+    public String getColumn91() {
+        return column91;
+    }
+
+    public void setColumn91(String column91) {
+        this.column91 = column91;
+    }
+
+    public Integer getColumn92() {
+        return column92;
+    }
+
+    public void setColumn92(Integer column92) {
+        this.column92 = column92;
+    }
+
+    public Long getColumn93() {
+        return column93;
+    }
+
+    public void setColumn93(Long column93) {
+        this.column93 = column93;
+    }
+
+    public BigDecimal getColumn94() {
+        return column94;
+    }
+
+    public void setColumn94(BigDecimal column94) {
+        this.column94 = column94;
+    }
+
+    public Date getColumn95() {
+        return column95;
+    }
+
+    public void setColumn95(Date column95) {
+        this.column95 = column95;
+    }
+
+    public String getColumn96() {
+        return column96;
+    }
+
+    public void setColumn96(String column96) {
+        this.column96 = column96;
+    }
+
+    public Integer getColumn97() {
+        return column97;
+    }
+
+    public void setColumn97(Integer column97) {
+        this.column97 = column97;
+    }
+
+    public Long getColumn98() {
+        return column98;
+    }
+
+    public void setColumn98(Long column98) {
+        this.column98 = column98;
+    }
+
+    public BigDecimal getColumn99() {
+        return column99;
+    }
+
+    public void setColumn99(BigDecimal column99) {
+        this.column99 = column99;
+    }
+
+    public Date getColumn100() {
+        return column100;
+    }
+
+    public void setColumn100(Date column100) {
+        this.column100 = column100;
+    }
+
+    public String getColumn101() {
+        return column101;
+    }
+
+    public void setColumn101(String column101) {
+        this.column101 = column101;
+    }
+
+    public Integer getColumn102() {
+        return column102;
+    }
+
+    public void setColumn102(Integer column102) {
+        this.column102 = column102;
+    }
+
+    public Long getColumn103() {
+        return column103;
+    }
+
+    public void setColumn103(Long column103) {
+        this.column103 = column103;
+    }
+
+    public BigDecimal getColumn104() {
+        return column104;
+    }
+
+    public void setColumn104(BigDecimal column104) {
+        this.column104 = column104;
+    }
+
+    public Date getColumn105() {
+        return column105;
+    }
+
+    public void setColumn105(Date column105) {
+        this.column105 = column105;
+    }
+
+    public String getColumn106() {
+        return column106;
+    }
+
+    public void setColumn106(String column106) {
+        this.column106 = column106;
+    }
+
+    public Integer getColumn107() {
+        return column107;
+    }
+
+    public void setColumn107(Integer column107) {
+        this.column107 = column107;
+    }
+
+    public Long getColumn108() {
+        return column108;
+    }
+
+    public void setColumn108(Long column108) {
+        this.column108 = column108;
+    }
+
+    public BigDecimal getColumn109() {
+        return column109;
+    }
+
+    public void setColumn109(BigDecimal column109) {
+        this.column109 = column109;
+    }
+
+    public Date getColumn110() {
+        return column110;
+    }
+
+    public void setColumn110(Date column110) {
+        this.column110 = column110;
+    }
+
+    public String getColumn111() {
+        return column111;
+    }
+
+    public void setColumn111(String column111) {
+        this.column111 = column111;
+    }
+
+    public Integer getColumn112() {
+        return column112;
+    }
+
+    public void setColumn112(Integer column112) {
+        this.column112 = column112;
+    }
+
+    public Long getColumn113() {
+        return column113;
+    }
+
+    public void setColumn113(Long column113) {
+        this.column113 = column113;
+    }
+
+    public BigDecimal getColumn114() {
+        return column114;
+    }
+
+    public void setColumn114(BigDecimal column114) {
+        this.column114 = column114;
+    }
+
+    public Date getColumn115() {
+        return column115;
+    }
+
+    public void setColumn115(Date column115) {
+        this.column115 = column115;
+    }
+
+    public String getColumn116() {
+        return column116;
+    }
+
+    public void setColumn116(String column116) {
+        this.column116 = column116;
+    }
+
+    public Integer getColumn117() {
+        return column117;
+    }
+
+    public void setColumn117(Integer column117) {
+        this.column117 = column117;
+    }
+
+    public Long getColumn118() {
+        return column118;
+    }
+
+    public void setColumn118(Long column118) {
+        this.column118 = column118;
+    }
+
+    public BigDecimal getColumn119() {
+        return column119;
+    }
+
+    public void setColumn119(BigDecimal column119) {
+        this.column119 = column119;
+    }
+
+    public Date getColumn120() {
+        return column120;
+    }
+
+    public void setColumn120(Date column120) {
+        this.column120 = column120;
+    }
+
+    public String getColumn121() {
+        return column121;
+    }
+
+    public void setColumn121(String column121) {
+        this.column121 = column121;
+    }
+
+    public Integer getColumn122() {
+        return column122;
+    }
+
+    public void setColumn122(Integer column122) {
+        this.column122 = column122;
+    }
+
+    public Long getColumn123() {
+        return column123;
+    }
+
+    public void setColumn123(Long column123) {
+        this.column123 = column123;
+    }
+
+    public BigDecimal getColumn124() {
+        return column124;
+    }
+
+    public void setColumn124(BigDecimal column124) {
+        this.column124 = column124;
+    }
+
+    public Date getColumn125() {
+        return column125;
+    }
+
+    public void setColumn125(Date column125) {
+        this.column125 = column125;
+    }
+
+    public String getColumn126() {
+        return column126;
+    }
+
+    public void setColumn126(String column126) {
+        this.column126 = column126;
+    }
+
+    public Integer getColumn127() {
+        return column127;
+    }
+
+    public void setColumn127(Integer column127) {
+        this.column127 = column127;
+    }
+
+    public Long getColumn128() {
+        return column128;
+    }
+
+    public void setColumn128(Long column128) {
+        this.column128 = column128;
+    }
+
+    public BigDecimal getColumn129() {
+        return column129;
+    }
+
+    public void setColumn129(BigDecimal column129) {
+        this.column129 = column129;
+    }
+
+    public Date getColumn130() {
+        return column130;
+    }
+
+    public void setColumn130(Date column130) {
+        this.column130 = column130;
+    }
+
+    public String getColumn131() {
+        return column131;
+    }
+
+    public void setColumn131(String column131) {
+        this.column131 = column131;
+    }
+
+    public Integer getColumn132() {
+        return column132;
+    }
+
+    public void setColumn132(Integer column132) {
+        this.column132 = column132;
+    }
+
+    public Long getColumn133() {
+        return column133;
+    }
+
+    public void setColumn133(Long column133) {
+        this.column133 = column133;
+    }
+
+    public BigDecimal getColumn134() {
+        return column134;
+    }
+
+    public void setColumn134(BigDecimal column134) {
+        this.column134 = column134;
+    }
+
+    public Date getColumn135() {
+        return column135;
+    }
+
+    public void setColumn135(Date column135) {
+        this.column135 = column135;
+    }
+
+    public String getColumn136() {
+        return column136;
+    }
+
+    public void setColumn136(String column136) {
+        this.column136 = column136;
+    }
+
+    public Integer getColumn137() {
+        return column137;
+    }
+
+    public void setColumn137(Integer column137) {
+        this.column137 = column137;
+    }
+
+    public Long getColumn138() {
+        return column138;
+    }
+
+    public void setColumn138(Long column138) {
+        this.column138 = column138;
+    }
+
+    public BigDecimal getColumn139() {
+        return column139;
+    }
+
+    public void setColumn139(BigDecimal column139) {
+        this.column139 = column139;
+    }
+
+    public Date getColumn140() {
+        return column140;
+    }
+
+    public void setColumn140(Date column140) {
+        this.column140 = column140;
+    }
+
+    public String getColumn141() {
+        return column141;
+    }
+
+    public void setColumn141(String column141) {
+        this.column141 = column141;
+    }
+
+    public Integer getColumn142() {
+        return column142;
+    }
+
+    public void setColumn142(Integer column142) {
+        this.column142 = column142;
+    }
+
+    public Long getColumn143() {
+        return column143;
+    }
+
+    public void setColumn143(Long column143) {
+        this.column143 = column143;
+    }
+
+    public BigDecimal getColumn144() {
+        return column144;
+    }
+
+    public void setColumn144(BigDecimal column144) {
+        this.column144 = column144;
+    }
+
+    public Date getColumn145() {
+        return column145;
+    }
+
+    public void setColumn145(Date column145) {
+        this.column145 = column145;
+    }
+
+    public String getColumn146() {
+        return column146;
+    }
+
+    public void setColumn146(String column146) {
+        this.column146 = column146;
+    }
+
+    public Integer getColumn147() {
+        return column147;
+    }
+
+    public void setColumn147(Integer column147) {
+        this.column147 = column147;
+    }
+
+    public Long getColumn148() {
+        return column148;
+    }
+
+    public void setColumn148(Long column148) {
+        this.column148 = column148;
+    }
+
+    public BigDecimal getColumn149() {
+        return column149;
+    }
+
+    public void setColumn149(BigDecimal column149) {
+        this.column149 = column149;
+    }
+
+    public Date getColumn150() {
+        return column150;
+    }
+
+    public void setColumn150(Date column150) {
+        this.column150 = column150;
+    }
+
+    public String getColumn151() {
+        return column151;
+    }
+
+    public void setColumn151(String column151) {
+        this.column151 = column151;
+    }
+
+    public Integer getColumn152() {
+        return column152;
+    }
+
+    public void setColumn152(Integer column152) {
+        this.column152 = column152;
+    }
+
+    public Long getColumn153() {
+        return column153;
+    }
+
+    public void setColumn153(Long column153) {
+        this.column153 = column153;
+    }
+
+    public BigDecimal getColumn154() {
+        return column154;
+    }
+
+    public void setColumn154(BigDecimal column154) {
+        this.column154 = column154;
+    }
+
+    public Date getColumn155() {
+        return column155;
+    }
+
+    public void setColumn155(Date column155) {
+        this.column155 = column155;
+    }
+
+    public String getColumn156() {
+        return column156;
+    }
+
+    public void setColumn156(String column156) {
+        this.column156 = column156;
+    }
+
+    public Integer getColumn157() {
+        return column157;
+    }
+
+    public void setColumn157(Integer column157) {
+        this.column157 = column157;
+    }
+
+    public Long getColumn158() {
+        return column158;
+    }
+
+    public void setColumn158(Long column158) {
+        this.column158 = column158;
+    }
+
+    public BigDecimal getColumn159() {
+        return column159;
+    }
+
+    public void setColumn159(BigDecimal column159) {
+        this.column159 = column159;
+    }
+
+    public Date getColumn160() {
+        return column160;
+    }
+
+    public void setColumn160(Date column160) {
+        this.column160 = column160;
+    }
+
+    public String getColumn161() {
+        return column161;
+    }
+
+    public void setColumn161(String column161) {
+        this.column161 = column161;
+    }
+
+    public Integer getColumn162() {
+        return column162;
+    }
+
+    public void setColumn162(Integer column162) {
+        this.column162 = column162;
+    }
+
+    public Long getColumn163() {
+        return column163;
+    }
+
+    public void setColumn163(Long column163) {
+        this.column163 = column163;
+    }
+
+    public BigDecimal getColumn164() {
+        return column164;
+    }
+
+    public void setColumn164(BigDecimal column164) {
+        this.column164 = column164;
+    }
+
+    public Date getColumn165() {
+        return column165;
+    }
+
+    public void setColumn165(Date column165) {
+        this.column165 = column165;
+    }
+
+    public String getColumn166() {
+        return column166;
+    }
+
+    public void setColumn166(String column166) {
+        this.column166 = column166;
+    }
+
+    public Integer getColumn167() {
+        return column167;
+    }
+
+    public void setColumn167(Integer column167) {
+        this.column167 = column167;
+    }
+
+    public Long getColumn168() {
+        return column168;
+    }
+
+    public void setColumn168(Long column168) {
+        this.column168 = column168;
+    }
+
+    public BigDecimal getColumn169() {
+        return column169;
+    }
+
+    public void setColumn169(BigDecimal column169) {
+        this.column169 = column169;
+    }
+
+    public Date getColumn170() {
+        return column170;
+    }
+
+    public void setColumn170(Date column170) {
+        this.column170 = column170;
+    }
+
+    public String getColumn171() {
+        return column171;
+    }
+
+    public void setColumn171(String column171) {
+        this.column171 = column171;
+    }
+
+    public Integer getColumn172() {
+        return column172;
+    }
+
+    public void setColumn172(Integer column172) {
+        this.column172 = column172;
+    }
+
+    public Long getColumn173() {
+        return column173;
+    }
+
+    public void setColumn173(Long column173) {
+        this.column173 = column173;
+    }
+
+    public BigDecimal getColumn174() {
+        return column174;
+    }
+
+    public void setColumn174(BigDecimal column174) {
+        this.column174 = column174;
+    }
+
+    public Date getColumn175() {
+        return column175;
+    }
+
+    public void setColumn175(Date column175) {
+        this.column175 = column175;
+    }
+
+    public String getColumn176() {
+        return column176;
+    }
+
+    public void setColumn176(String column176) {
+        this.column176 = column176;
+    }
+
+    public Integer getColumn177() {
+        return column177;
+    }
+
+    public void setColumn177(Integer column177) {
+        this.column177 = column177;
+    }
+
+    public Long getColumn178() {
+        return column178;
+    }
+
+    public void setColumn178(Long column178) {
+        this.column178 = column178;
+    }
+
+    public BigDecimal getColumn179() {
+        return column179;
+    }
+
+    public void setColumn179(BigDecimal column179) {
+        this.column179 = column179;
+    }
+
+    public Date getColumn180() {
+        return column180;
+    }
+
+    public void setColumn180(Date column180) {
+        this.column180 = column180;
+    }
+
+    public String getColumn181() {
+        return column181;
+    }
+
+    public void setColumn181(String column181) {
+        this.column181 = column181;
+    }
+
+    public Integer getColumn182() {
+        return column182;
+    }
+
+    public void setColumn182(Integer column182) {
+        this.column182 = column182;
+    }
+
+    public Long getColumn183() {
+        return column183;
+    }
+
+    public void setColumn183(Long column183) {
+        this.column183 = column183;
+    }
+
+    public BigDecimal getColumn184() {
+        return column184;
+    }
+
+    public void setColumn184(BigDecimal column184) {
+        this.column184 = column184;
+    }
+
+    public Date getColumn185() {
+        return column185;
+    }
+
+    public void setColumn185(Date column185) {
+        this.column185 = column185;
+    }
+
+    public String getColumn186() {
+        return column186;
+    }
+
+    public void setColumn186(String column186) {
+        this.column186 = column186;
+    }
+
+    public Integer getColumn187() {
+        return column187;
+    }
+
+    public void setColumn187(Integer column187) {
+        this.column187 = column187;
+    }
+
+    public Long getColumn188() {
+        return column188;
+    }
+
+    public void setColumn188(Long column188) {
+        this.column188 = column188;
+    }
+
+    public BigDecimal getColumn189() {
+        return column189;
+    }
+
+    public void setColumn189(BigDecimal column189) {
+        this.column189 = column189;
+    }
+
+    public Date getColumn190() {
+        return column190;
+    }
+
+    public void setColumn190(Date column190) {
+        this.column190 = column190;
+    }
+
+    public String getColumn191() {
+        return column191;
+    }
+
+    public void setColumn191(String column191) {
+        this.column191 = column191;
+    }
+
+    public Integer getColumn192() {
+        return column192;
+    }
+
+    public void setColumn192(Integer column192) {
+        this.column192 = column192;
+    }
+
+    public Long getColumn193() {
+        return column193;
+    }
+
+    public void setColumn193(Long column193) {
+        this.column193 = column193;
+    }
+
+    public BigDecimal getColumn194() {
+        return column194;
+    }
+
+    public void setColumn194(BigDecimal column194) {
+        this.column194 = column194;
+    }
+
+    public Date getColumn195() {
+        return column195;
+    }
+
+    public void setColumn195(Date column195) {
+        this.column195 = column195;
+    }
+
+    public String getColumn196() {
+        return column196;
+    }
+
+    public void setColumn196(String column196) {
+        this.column196 = column196;
+    }
+
+    public Integer getColumn197() {
+        return column197;
+    }
+
+    public void setColumn197(Integer column197) {
+        this.column197 = column197;
+    }
+
+    public Long getColumn198() {
+        return column198;
+    }
+
+    public void setColumn198(Long column198) {
+        this.column198 = column198;
+    }
+
+    public BigDecimal getColumn199() {
+        return column199;
+    }
+
+    public void setColumn199(BigDecimal column199) {
+        this.column199 = column199;
+    }
+
+    public Date getColumn200() {
+        return column200;
+    }
+
+    public void setColumn200(Date column200) {
+        this.column200 = column200;
+    }
+
+    public String getColumn201() {
+        return column201;
+    }
+
+    public void setColumn201(String column201) {
+        this.column201 = column201;
+    }
+
+    public Integer getColumn202() {
+        return column202;
+    }
+
+    public void setColumn202(Integer column202) {
+        this.column202 = column202;
+    }
+
+    public Long getColumn203() {
+        return column203;
+    }
+
+    public void setColumn203(Long column203) {
+        this.column203 = column203;
+    }
+
+    public BigDecimal getColumn204() {
+        return column204;
+    }
+
+    public void setColumn204(BigDecimal column204) {
+        this.column204 = column204;
+    }
+
+    public Date getColumn205() {
+        return column205;
+    }
+
+    public void setColumn205(Date column205) {
+        this.column205 = column205;
+    }
+
+    public String getColumn206() {
+        return column206;
+    }
+
+    public void setColumn206(String column206) {
+        this.column206 = column206;
+    }
+
+    public Integer getColumn207() {
+        return column207;
+    }
+
+    public void setColumn207(Integer column207) {
+        this.column207 = column207;
+    }
+
+    public Long getColumn208() {
+        return column208;
+    }
+
+    public void setColumn208(Long column208) {
+        this.column208 = column208;
+    }
+
+    public BigDecimal getColumn209() {
+        return column209;
+    }
+
+    public void setColumn209(BigDecimal column209) {
+        this.column209 = column209;
+    }
+
+    public Date getColumn210() {
+        return column210;
+    }
+
+    public void setColumn210(Date column210) {
+        this.column210 = column210;
+    }
+
+    public String getColumn211() {
+        return column211;
+    }
+
+    public void setColumn211(String column211) {
+        this.column211 = column211;
+    }
+
+    public Integer getColumn212() {
+        return column212;
+    }
+
+    public void setColumn212(Integer column212) {
+        this.column212 = column212;
+    }
+
+    public Long getColumn213() {
+        return column213;
+    }
+
+    public void setColumn213(Long column213) {
+        this.column213 = column213;
+    }
+
+    public BigDecimal getColumn214() {
+        return column214;
+    }
+
+    public void setColumn214(BigDecimal column214) {
+        this.column214 = column214;
+    }
+
+    public Date getColumn215() {
+        return column215;
+    }
+
+    public void setColumn215(Date column215) {
+        this.column215 = column215;
+    }
+
+    public String getColumn216() {
+        return column216;
+    }
+
+    public void setColumn216(String column216) {
+        this.column216 = column216;
+    }
+
+    public Integer getColumn217() {
+        return column217;
+    }
+
+    public void setColumn217(Integer column217) {
+        this.column217 = column217;
+    }
+
+    public Long getColumn218() {
+        return column218;
+    }
+
+    public void setColumn218(Long column218) {
+        this.column218 = column218;
+    }
+
+    public BigDecimal getColumn219() {
+        return column219;
+    }
+
+    public void setColumn219(BigDecimal column219) {
+        this.column219 = column219;
+    }
+
+    public Date getColumn220() {
+        return column220;
+    }
+
+    public void setColumn220(Date column220) {
+        this.column220 = column220;
+    }
+
+    public String getColumn221() {
+        return column221;
+    }
+
+    public void setColumn221(String column221) {
+        this.column221 = column221;
+    }
+
+    public Integer getColumn222() {
+        return column222;
+    }
+
+    public void setColumn222(Integer column222) {
+        this.column222 = column222;
+    }
+
+    public Long getColumn223() {
+        return column223;
+    }
+
+    public void setColumn223(Long column223) {
+        this.column223 = column223;
+    }
+
+    public BigDecimal getColumn224() {
+        return column224;
+    }
+
+    public void setColumn224(BigDecimal column224) {
+        this.column224 = column224;
+    }
+
+    public Date getColumn225() {
+        return column225;
+    }
+
+    public void setColumn225(Date column225) {
+        this.column225 = column225;
+    }
+
+    public String getColumn226() {
+        return column226;
+    }
+
+    public void setColumn226(String column226) {
+        this.column226 = column226;
+    }
+
+    public Integer getColumn227() {
+        return column227;
+    }
+
+    public void setColumn227(Integer column227) {
+        this.column227 = column227;
+    }
+
+    public Long getColumn228() {
+        return column228;
+    }
+
+    public void setColumn228(Long column228) {
+        this.column228 = column228;
+    }
+
+    public BigDecimal getColumn229() {
+        return column229;
+    }
+
+    public void setColumn229(BigDecimal column229) {
+        this.column229 = column229;
+    }
+
+    public Date getColumn230() {
+        return column230;
+    }
+
+    public void setColumn230(Date column230) {
+        this.column230 = column230;
+    }
+
+    public String getColumn231() {
+        return column231;
+    }
+
+    public void setColumn231(String column231) {
+        this.column231 = column231;
+    }
+
+    public Integer getColumn232() {
+        return column232;
+    }
+
+    public void setColumn232(Integer column232) {
+        this.column232 = column232;
+    }
+
+    public Long getColumn233() {
+        return column233;
+    }
+
+    public void setColumn233(Long column233) {
+        this.column233 = column233;
+    }
+
+    public BigDecimal getColumn234() {
+        return column234;
+    }
+
+    public void setColumn234(BigDecimal column234) {
+        this.column234 = column234;
+    }
+
+    public Date getColumn235() {
+        return column235;
+    }
+
+    public void setColumn235(Date column235) {
+        this.column235 = column235;
+    }
+
+    public String getColumn236() {
+        return column236;
+    }
+
+    public void setColumn236(String column236) {
+        this.column236 = column236;
+    }
+
+    public Integer getColumn237() {
+        return column237;
+    }
+
+    public void setColumn237(Integer column237) {
+        this.column237 = column237;
+    }
+
+    public Long getColumn238() {
+        return column238;
+    }
+
+    public void setColumn238(Long column238) {
+        this.column238 = column238;
+    }
+
+    public BigDecimal getColumn239() {
+        return column239;
+    }
+
+    public void setColumn239(BigDecimal column239) {
+        this.column239 = column239;
+    }
+
+    public Date getColumn240() {
+        return column240;
+    }
+
+    public void setColumn240(Date column240) {
+        this.column240 = column240;
+    }
+
+    public String getColumn241() {
+        return column241;
+    }
+
+    public void setColumn241(String column241) {
+        this.column241 = column241;
+    }
+
+    public Integer getColumn242() {
+        return column242;
+    }
+
+    public void setColumn242(Integer column242) {
+        this.column242 = column242;
+    }
+
+    public Long getColumn243() {
+        return column243;
+    }
+
+    public void setColumn243(Long column243) {
+        this.column243 = column243;
+    }
+
+    public BigDecimal getColumn244() {
+        return column244;
+    }
+
+    public void setColumn244(BigDecimal column244) {
+        this.column244 = column244;
+    }
+
+    public Date getColumn245() {
+        return column245;
+    }
+
+    public void setColumn245(Date column245) {
+        this.column245 = column245;
+    }
+
+    public String getColumn246() {
+        return column246;
+    }
+
+    public void setColumn246(String column246) {
+        this.column246 = column246;
+    }
+
+    public Integer getColumn247() {
+        return column247;
+    }
+
+    public void setColumn247(Integer column247) {
+        this.column247 = column247;
+    }
+
+    public Long getColumn248() {
+        return column248;
+    }
+
+    public void setColumn248(Long column248) {
+        this.column248 = column248;
+    }
+
+    public BigDecimal getColumn249() {
+        return column249;
+    }
+
+    public void setColumn249(BigDecimal column249) {
+        this.column249 = column249;
+    }
+
+    public Date getColumn250() {
+        return column250;
+    }
+
+    public void setColumn250(Date column250) {
+        this.column250 = column250;
+    }
+
+    public String getColumn251() {
+        return column251;
+    }
+
+    public void setColumn251(String column251) {
+        this.column251 = column251;
+    }
+
+    public Integer getColumn252() {
+        return column252;
+    }
+
+    public void setColumn252(Integer column252) {
+        this.column252 = column252;
+    }
+
+    public Long getColumn253() {
+        return column253;
+    }
+
+    public void setColumn253(Long column253) {
+        this.column253 = column253;
+    }
+
+    public BigDecimal getColumn254() {
+        return column254;
+    }
+
+    public void setColumn254(BigDecimal column254) {
+        this.column254 = column254;
+    }
+
+    public Date getColumn255() {
+        return column255;
+    }
+
+    public void setColumn255(Date column255) {
+        this.column255 = column255;
+    }
+
+    public String getColumn256() {
+        return column256;
+    }
+
+    public void setColumn256(String column256) {
+        this.column256 = column256;
+    }
+
+    public Integer getColumn257() {
+        return column257;
+    }
+
+    public void setColumn257(Integer column257) {
+        this.column257 = column257;
+    }
+
+    public Long getColumn258() {
+        return column258;
+    }
+
+    public void setColumn258(Long column258) {
+        this.column258 = column258;
+    }
+
+    public BigDecimal getColumn259() {
+        return column259;
+    }
+
+    public void setColumn259(BigDecimal column259) {
+        this.column259 = column259;
+    }
+
+    public Date getColumn260() {
+        return column260;
+    }
+
+    public void setColumn260(Date column260) {
+        this.column260 = column260;
+    }
+
+    public String getColumn261() {
+        return column261;
+    }
+
+    public void setColumn261(String column261) {
+        this.column261 = column261;
+    }
+
+    public Integer getColumn262() {
+        return column262;
+    }
+
+    public void setColumn262(Integer column262) {
+        this.column262 = column262;
+    }
+
+    public Long getColumn263() {
+        return column263;
+    }
+
+    public void setColumn263(Long column263) {
+        this.column263 = column263;
+    }
+
+    public BigDecimal getColumn264() {
+        return column264;
+    }
+
+    public void setColumn264(BigDecimal column264) {
+        this.column264 = column264;
+    }
+
+    public Date getColumn265() {
+        return column265;
+    }
+
+    public void setColumn265(Date column265) {
+        this.column265 = column265;
+    }
+
+    public String getColumn266() {
+        return column266;
+    }
+
+    public void setColumn266(String column266) {
+        this.column266 = column266;
+    }
+
+    public Integer getColumn267() {
+        return column267;
+    }
+
+    public void setColumn267(Integer column267) {
+        this.column267 = column267;
+    }
+
+    public Long getColumn268() {
+        return column268;
+    }
+
+    public void setColumn268(Long column268) {
+        this.column268 = column268;
+    }
+
+    public BigDecimal getColumn269() {
+        return column269;
+    }
+
+    public void setColumn269(BigDecimal column269) {
+        this.column269 = column269;
+    }
+
+    public Date getColumn270() {
+        return column270;
+    }
+
+    public void setColumn270(Date column270) {
+        this.column270 = column270;
+    }
+
+    public String getColumn271() {
+        return column271;
+    }
+
+    public void setColumn271(String column271) {
+        this.column271 = column271;
+    }
+
+    public Integer getColumn272() {
+        return column272;
+    }
+
+    public void setColumn272(Integer column272) {
+        this.column272 = column272;
+    }
+
+    public Long getColumn273() {
+        return column273;
+    }
+
+    public void setColumn273(Long column273) {
+        this.column273 = column273;
+    }
+
+    public BigDecimal getColumn274() {
+        return column274;
+    }
+
+    public void setColumn274(BigDecimal column274) {
+        this.column274 = column274;
+    }
+
+    public Date getColumn275() {
+        return column275;
+    }
+
+    public void setColumn275(Date column275) {
+        this.column275 = column275;
+    }
+
+    public String getColumn276() {
+        return column276;
+    }
+
+    public void setColumn276(String column276) {
+        this.column276 = column276;
+    }
+
+    public Integer getColumn277() {
+        return column277;
+    }
+
+    public void setColumn277(Integer column277) {
+        this.column277 = column277;
+    }
+
+    public Long getColumn278() {
+        return column278;
+    }
+
+    public void setColumn278(Long column278) {
+        this.column278 = column278;
+    }
+
+    public BigDecimal getColumn279() {
+        return column279;
+    }
+
+    public void setColumn279(BigDecimal column279) {
+        this.column279 = column279;
+    }
+
+    public Date getColumn280() {
+        return column280;
+    }
+
+    public void setColumn280(Date column280) {
+        this.column280 = column280;
+    }
+
+    public String getColumn281() {
+        return column281;
+    }
+
+    public void setColumn281(String column281) {
+        this.column281 = column281;
+    }
+
+    public Integer getColumn282() {
+        return column282;
+    }
+
+    public void setColumn282(Integer column282) {
+        this.column282 = column282;
+    }
+
+    public Long getColumn283() {
+        return column283;
+    }
+
+    public void setColumn283(Long column283) {
+        this.column283 = column283;
+    }
+
+    public BigDecimal getColumn284() {
+        return column284;
+    }
+
+    public void setColumn284(BigDecimal column284) {
+        this.column284 = column284;
+    }
+
+    public Date getColumn285() {
+        return column285;
+    }
+
+    public void setColumn285(Date column285) {
+        this.column285 = column285;
+    }
+
+    public String getColumn286() {
+        return column286;
+    }
+
+    public void setColumn286(String column286) {
+        this.column286 = column286;
+    }
+
+    public Integer getColumn287() {
+        return column287;
+    }
+
+    public void setColumn287(Integer column287) {
+        this.column287 = column287;
+    }
+
+    public Long getColumn288() {
+        return column288;
+    }
+
+    public void setColumn288(Long column288) {
+        this.column288 = column288;
+    }
+
+    public BigDecimal getColumn289() {
+        return column289;
+    }
+
+    public void setColumn289(BigDecimal column289) {
+        this.column289 = column289;
+    }
+
+    public Date getColumn290() {
+        return column290;
+    }
+
+    public void setColumn290(Date column290) {
+        this.column290 = column290;
+    }
+
+    public String getColumn291() {
+        return column291;
+    }
+
+    public void setColumn291(String column291) {
+        this.column291 = column291;
+    }
+
+    public Integer getColumn292() {
+        return column292;
+    }
+
+    public void setColumn292(Integer column292) {
+        this.column292 = column292;
+    }
+
+    public Long getColumn293() {
+        return column293;
+    }
+
+    public void setColumn293(Long column293) {
+        this.column293 = column293;
+    }
+
+    public BigDecimal getColumn294() {
+        return column294;
+    }
+
+    public void setColumn294(BigDecimal column294) {
+        this.column294 = column294;
+    }
+
+    public Date getColumn295() {
+        return column295;
+    }
+
+    public void setColumn295(Date column295) {
+        this.column295 = column295;
+    }
+
+    public String getColumn296() {
+        return column296;
+    }
+
+    public void setColumn296(String column296) {
+        this.column296 = column296;
+    }
+
+    public Integer getColumn297() {
+        return column297;
+    }
+
+    public void setColumn297(Integer column297) {
+        this.column297 = column297;
+    }
+
+    public Long getColumn298() {
+        return column298;
+    }
+
+    public void setColumn298(Long column298) {
+        this.column298 = column298;
+    }
+
+    public BigDecimal getColumn299() {
+        return column299;
+    }
+
+    public void setColumn299(BigDecimal column299) {
+        this.column299 = column299;
+    }
+
+}
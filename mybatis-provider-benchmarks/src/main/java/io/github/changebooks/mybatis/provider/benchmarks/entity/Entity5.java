@@ -0,0 +1,72 @@
+package io.github.changebooks.mybatis.provider.benchmarks.entity;
+
+import io.github.changebooks.mybatis.provider.annotation.MybatisResult;
+import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+
+/**
+ * Synthetic entity, 5 columns
+ *
+ * @author changebooks@qq.com
+ */
+@MybatisResultMap(table = "entity_5")
+public final class Entity5 implements Serializable {
+    @MybatisResult(column = "id", jdbcType = JdbcType.BIGINT, id = true, autoIncrement = true)
+    private Long id;
+
+    @MybatisResult(column = "column_1", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column1;
+
+    @MybatisResult(column = "column_2", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column2;
+
+    @MybatisResult(column = "column_3", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column3;
+
+    @MybatisResult(column = "column_4", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column4;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getColumn1() {
+        return column1;
+    }
+
+    public void setColumn1(String column1) {
+        this.column1 = column1;
+    }
+
+    public Integer getColumn2() {
+        return column2;
+    }
+
+    public void setColumn2(Integer column2) {
+        this.column2 = column2;
+    }
+
+    public Long getColumn3() {
+        return column3;
+    }
+
+    public void setColumn3(Long column3) {
+        this.column3 = column3;
+    }
+
+    public BigDecimal getColumn4() {
+        return column4;
+    }
+
+    public void setColumn4(BigDecimal column4) {
+        this.column4 = column4;
+    }
+
+}
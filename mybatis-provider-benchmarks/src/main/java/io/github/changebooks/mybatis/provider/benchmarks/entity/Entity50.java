@@ -0,0 +1,568 @@
+package io.github.changebooks.mybatis.provider.benchmarks.entity;
+
+import io.github.changebooks.mybatis.provider.annotation.MybatisResult;
+import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+
+/**
+ * Synthetic entity, 50 columns
+ *
+ * @author changebooks@qq.com
+ */
+@MybatisResultMap(table = "entity_50")
+public final class Entity50 implements Serializable {
+    @MybatisResult(column = "id", jdbcType = JdbcType.BIGINT, id = true, autoIncrement = true)
+    private Long id;
+
+    @MybatisResult(column = "column_1", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column1;
+
+    @MybatisResult(column = "column_2", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column2;
+
+    @MybatisResult(column = "column_3", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column3;
+
+    @MybatisResult(column = "column_4", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column4;
+
+    @MybatisResult(column = "column_5", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column5;
+
+    @MybatisResult(column = "column_6", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column6;
+
+    @MybatisResult(column = "column_7", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column7;
+
+    @MybatisResult(column = "column_8", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column8;
+
+    @MybatisResult(column = "column_9", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column9;
+
+    @MybatisResult(column = "column_10", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column10;
+
+    @MybatisResult(column = "column_11", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column11;
+
+    @MybatisResult(column = "column_12", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column12;
+
+    @MybatisResult(column = "column_13", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column13;
+
+    @MybatisResult(column = "column_14", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column14;
+
+    @MybatisResult(column = "column_15", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column15;
+
+    @MybatisResult(column = "column_16", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column16;
+
+    @MybatisResult(column = "column_17", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column17;
+
+    @MybatisResult(column = "column_18", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column18;
+
+    @MybatisResult(column = "column_19", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column19;
+
+    @MybatisResult(column = "column_20", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column20;
+
+    @MybatisResult(column = "column_21", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column21;
+
+    @MybatisResult(column = "column_22", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column22;
+
+    @MybatisResult(column = "column_23", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column23;
+
+    @MybatisResult(column = "column_24", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column24;
+
+    @MybatisResult(column = "column_25", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column25;
+
+    @MybatisResult(column = "column_26", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column26;
+
+    @MybatisResult(column = "column_27", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column27;
+
+    @MybatisResult(column = "column_28", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column28;
+
+    @MybatisResult(column = "column_29", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column29;
+
+    @MybatisResult(column = "column_30", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column30;
+
+    @MybatisResult(column = "column_31", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column31;
+
+    @MybatisResult(column = "column_32", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column32;
+
+    @MybatisResult(column = "column_33", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column33;
+
+    @MybatisResult(column = "column_34", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column34;
+
+    @MybatisResult(column = "column_35", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column35;
+
+    @MybatisResult(column = "column_36", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column36;
+
+    @MybatisResult(column = "column_37", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column37;
+
+    @MybatisResult(column = "column_38", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column38;
+
+    @MybatisResult(column = "column_39", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column39;
+
+    @MybatisResult(column = "column_40", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column40;
+
+    @MybatisResult(column = "column_41", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column41;
+
+    @MybatisResult(column = "column_42", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column42;
+
+    @MybatisResult(column = "column_43", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column43;
+
+    @MybatisResult(column = "column_44", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column44;
+
+    @MybatisResult(column = "column_45", jdbcType = JdbcType.TIMESTAMP, id = false, autoIncrement = false)
+    private Date column45;
+
+    @MybatisResult(column = "column_46", jdbcType = JdbcType.VARCHAR, id = false, autoIncrement = false)
+    private String column46;
+
+    @MybatisResult(column = "column_47", jdbcType = JdbcType.INTEGER, id = false, autoIncrement = false)
+    private Integer column47;
+
+    @MybatisResult(column = "column_48", jdbcType = JdbcType.BIGINT, id = false, autoIncrement = false)
+    private Long column48;
+
+    @MybatisResult(column = "column_49", jdbcType = JdbcType.DECIMAL, id = false, autoIncrement = false)
+    private BigDecimal column49;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getColumn1() {
+        return column1;
+    }
+
+    public void setColumn1(String column1) {
+        this.column1 = column1;
+    }
+
+    public Integer getColumn2() {
+        return column2;
+    }
+
+    public void setColumn2(Integer column2) {
+        this.column2 = column2;
+    }
+
+    public Long getColumn3() {
+        return column3;
+    }
+
+    public void setColumn3(Long column3) {
+        this.column3 = column3;
+    }
+
+    public BigDecimal getColumn4() {
+        return column4;
+    }
+
+    public void setColumn4(BigDecimal column4) {
+        this.column4 = column4;
+    }
+
+    public Date getColumn5() {
+        return column5;
+    }
+
+    public void setColumn5(Date column5) {
+        this.column5 = column5;
+    }
+
+    public String getColumn6() {
+        return column6;
+    }
+
+    public void setColumn6(String column6) {
+        this.column6 = column6;
+    }
+
+    public Integer getColumn7() {
+        return column7;
+    }
+
+    public void setColumn7(Integer column7) {
+        this.column7 = column7;
+    }
+
+    public Long getColumn8() {
+        return column8;
+    }
+
+    public void setColumn8(Long column8) {
+        this.column8 = column8;
+    }
+
+    public BigDecimal getColumn9() {
+        return column9;
+    }
+
+    public void setColumn9(BigDecimal column9) {
+        this.column9 = column9;
+    }
+
+    public Date getColumn10() {
+        return column10;
+    }
+
+    public void setColumn10(Date column10) {
+        this.column10 = column10;
+    }
+
+    public String getColumn11() {
+        return column11;
+    }
+
+    public void setColumn11(String column11) {
+        this.column11 = column11;
+    }
+
+    public Integer getColumn12() {
+        return column12;
+    }
+
+    public void setColumn12(Integer column12) {
+        this.column12 = column12;
+    }
+
+    public Long getColumn13() {
+        return column13;
+    }
+
+    public void setColumn13(Long column13) {
+        this.column13 = column13;
+    }
+
+    public BigDecimal getColumn14() {
+        return column14;
+    }
+
+    public void setColumn14(BigDecimal column14) {
+        this.column14 = column14;
+    }
+
+    public Date getColumn15() {
+        return column15;
+    }
+
+    public void setColumn15(Date column15) {
+        this.column15 = column15;
+    }
+
+    public String getColumn16() {
+        return column16;
+    }
+
+    public void setColumn16(String column16) {
+        this.column16 = column16;
+    }
+
+    public Integer getColumn17() {
+        return column17;
+    }
+
+    public void setColumn17(Integer column17) {
+        this.column17 = column17;
+    }
+
+    public Long getColumn18() {
+        return column18;
+    }
+
+    public void setColumn18(Long column18) {
+        this.column18 = column18;
+    }
+
+    public BigDecimal getColumn19() {
+        return column19;
+    }
+
+    public void setColumn19(BigDecimal column19) {
+        this.column19 = column19;
+    }
+
+    public Date getColumn20() {
+        return column20;
+    }
+
+    public void setColumn20(Date column20) {
+        this.column20 = column20;
+    }
+
+    public String getColumn21() {
+        return column21;
+    }
+
+    public void setColumn21(String column21) {
+        this.column21 = column21;
+    }
+
+    public Integer getColumn22() {
+        return column22;
+    }
+
+    public void setColumn22(Integer column22) {
+        this.column22 = column22;
+    }
+
+    public Long getColumn23() {
+        return column23;
+    }
+
+    public void setColumn23(Long column23) {
+        this.column23 = column23;
+    }
+
+    public BigDecimal getColumn24() {
+        return column24;
+    }
+
+    public void setColumn24(BigDecimal column24) {
+        this.column24 = column24;
+    }
+
+    public Date getColumn25() {
+        return column25;
+    }
+
+    public void setColumn25(Date column25) {
+        this.column25 = column25;
+    }
+
+    public String getColumn26() {
+        return column26;
+    }
+
+    public void setColumn26(String column26) {
+        this.column26 = column26;
+    }
+
+    public Integer getColumn27() {
+        return column27;
+    }
+
+    public void setColumn27(Integer column27) {
+        this.column27 = column27;
+    }
+
+    public Long getColumn28() {
+        return column28;
+    }
+
+    public void setColumn28(Long column28) {
+        this.column28 = column28;
+    }
+
+    public BigDecimal getColumn29() {
+        return column29;
+    }
+
+    public void setColumn29(BigDecimal column29) {
+        this.column29 = column29;
+    }
+
+    public Date getColumn30() {
+        return column30;
+    }
+
+    public void setColumn30(Date column30) {
+        this.column30 = column30;
+    }
+
+    public String getColumn31() {
+        return column31;
+    }
+
+    public void setColumn31(String column31) {
+        this.column31 = column31;
+    }
+
+    public Integer getColumn32() {
+        return column32;
+    }
+
+    public void setColumn32(Integer column32) {
+        this.column32 = column32;
+    }
+
+    public Long getColumn33() {
+        return column33;
+    }
+
+    public void setColumn33(Long column33) {
+        this.column33 = column33;
+    }
+
+    public BigDecimal getColumn34() {
+        return column34;
+    }
+
+    public void setColumn34(BigDecimal column34) {
+        this.column34 = column34;
+    }
+
+    public Date getColumn35() {
+        return column35;
+    }
+
+    public void setColumn35(Date column35) {
+        this.column35 = column35;
+    }
+
+    public String getColumn36() {
+        return column36;
+    }
+
+    public void setColumn36(String column36) {
+        this.column36 = column36;
+    }
+
+    public Integer getColumn37() {
+        return column37;
+    }
+
+    public void setColumn37(Integer column37) {
+        this.column37 = column37;
+    }
+
+    public Long getColumn38() {
+        return column38;
+    }
+
+    public void setColumn38(Long column38) {
+        this.column38 = column38;
+    }
+
+    public BigDecimal getColumn39() {
+        return column39;
+    }
+
+    public void setColumn39(BigDecimal column39) {
+        this.column39 = column39;
+    }
+
+    public Date getColumn40() {
+        return column40;
+    }
+
+    public void setColumn40(Date column40) {
+        this.column40 = column40;
+    }
+
+    public String getColumn41() {
+        return column41;
+    }
+
+    public void setColumn41(String column41) {
+        this.column41 = column41;
+    }
+
+    public Integer getColumn42() {
+        return column42;
+    }
+
+    public void setColumn42(Integer column42) {
+        this.column42 = column42;
+    }
+
+    public Long getColumn43() {
+        return column43;
+    }
+
+    public void setColumn43(Long column43) {
+        this.column43 = column43;
+    }
+
+    public BigDecimal getColumn44() {
+        return column44;
+    }
+
+    public void setColumn44(BigDecimal column44) {
+        this.column44 = column44;
+    }
+
+    public Date getColumn45() {
+        return column45;
+    }
+
+    public void setColumn45(Date column45) {
+        this.column45 = column45;
+    }
+
+    public String getColumn46() {
+        return column46;
+    }
+
+    public void setColumn46(String column46) {
+        this.column46 = column46;
+    }
+
+    public Integer getColumn47() {
+        return column47;
+    }
+
+    public void setColumn47(Integer column47) {
+        this.column47 = column47;
+    }
+
+    public Long getColumn48() {
+        return column48;
+    }
+
+    public void setColumn48(Long column48) {
+        this.column48 = column48;
+    }
+
+    public BigDecimal getColumn49() {
+        return column49;
+    }
+
+    public void setColumn49(BigDecimal column49) {
+        this.column49 = column49;
+    }
+
+}
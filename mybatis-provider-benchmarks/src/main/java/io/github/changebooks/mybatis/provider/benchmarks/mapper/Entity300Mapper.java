@@ -0,0 +1,36 @@
+package io.github.changebooks.mybatis.provider.benchmarks.mapper;
+
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity300;
+import io.github.changebooks.mybatis.provider.benchmarks.provider.Entity300Provider;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+/**
+ * Entity300 Mapper
+ *
+ * @author changebooks@qq.com
+ */
+public interface Entity300Mapper {
+
+    @SelectProvider(type = Entity300Provider.class, method = "selectList")
+    @ResultMap("BaseResultMap")
+    List<Entity300> selectList(String[] conditions, String[] orders, Long startRow, Integer pageSize);
+
+    @SelectProvider(type = Entity300Provider.class, method = "selectCount")
+    long selectCount(String[] conditions);
+
+    @SelectProvider(type = Entity300Provider.class, method = "selectOne")
+    @ResultMap("BaseResultMap")
+    Entity300 selectOne(@Param("id") long id);
+
+    @InsertProvider(type = Entity300Provider.class, method = "insertOne")
+    int insertOne(Entity300 record);
+
+    @UpdateProvider(type = Entity300Provider.class, method = "updateOne")
+    int updateOne(Entity300 record);
+
+    @DeleteProvider(type = Entity300Provider.class, method = "deleteOne")
+    int deleteOne(@Param("id") long id);
+
+}
@@ -0,0 +1,36 @@
+package io.github.changebooks.mybatis.provider.benchmarks.mapper;
+
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity50;
+import io.github.changebooks.mybatis.provider.benchmarks.provider.Entity50Provider;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+/**
+ * Entity50 Mapper
+ *
+ * @author changebooks@qq.com
+ */
+public interface Entity50Mapper {
+
+    @SelectProvider(type = Entity50Provider.class, method = "selectList")
+    @ResultMap("BaseResultMap")
+    List<Entity50> selectList(String[] conditions, String[] orders, Long startRow, Integer pageSize);
+
+    @SelectProvider(type = Entity50Provider.class, method = "selectCount")
+    long selectCount(String[] conditions);
+
+    @SelectProvider(type = Entity50Provider.class, method = "selectOne")
+    @ResultMap("BaseResultMap")
+    Entity50 selectOne(@Param("id") long id);
+
+    @InsertProvider(type = Entity50Provider.class, method = "insertOne")
+    int insertOne(Entity50 record);
+
+    @UpdateProvider(type = Entity50Provider.class, method = "updateOne")
+    int updateOne(Entity50 record);
+
+    @DeleteProvider(type = Entity50Provider.class, method = "deleteOne")
+    int deleteOne(@Param("id") long id);
+
+}
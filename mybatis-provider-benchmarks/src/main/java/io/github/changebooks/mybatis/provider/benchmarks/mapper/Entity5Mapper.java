@@ -0,0 +1,36 @@
+package io.github.changebooks.mybatis.provider.benchmarks.mapper;
+
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity5;
+import io.github.changebooks.mybatis.provider.benchmarks.provider.Entity5Provider;
+import org.apache.ibatis.annotations.*;
+
+import java.util.List;
+
+/**
+ * Entity5 Mapper
+ *
+ * @author changebooks@qq.com
+ */
+public interface Entity5Mapper {
+
+    @SelectProvider(type = Entity5Provider.class, method = "selectList")
+    @ResultMap("BaseResultMap")
+    List<Entity5> selectList(String[] conditions, String[] orders, Long startRow, Integer pageSize);
+
+    @SelectProvider(type = Entity5Provider.class, method = "selectCount")
+    long selectCount(String[] conditions);
+
+    @SelectProvider(type = Entity5Provider.class, method = "selectOne")
+    @ResultMap("BaseResultMap")
+    Entity5 selectOne(@Param("id") long id);
+
+    @InsertProvider(type = Entity5Provider.class, method = "insertOne")
+    int insertOne(Entity5 record);
+
+    @UpdateProvider(type = Entity5Provider.class, method = "updateOne")
+    int updateOne(Entity5 record);
+
+    @DeleteProvider(type = Entity5Provider.class, method = "deleteOne")
+    int deleteOne(@Param("id") long id);
+
+}
@@ -0,0 +1,12 @@
+package io.github.changebooks.mybatis.provider.benchmarks.provider;
+
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity300;
+
+/**
+ * Entity300 Provider
+ *
+ * @author changebooks@qq.com
+ */
+public class Entity300Provider extends BaseProvider<Entity300> {
+}
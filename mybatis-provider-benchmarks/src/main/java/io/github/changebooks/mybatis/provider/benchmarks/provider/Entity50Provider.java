@@ -0,0 +1,12 @@
+package io.github.changebooks.mybatis.provider.benchmarks.provider;
+
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity50;
+
+/**
+ * Entity50 Provider
+ *
+ * @author changebooks@qq.com
+ */
+public class Entity50Provider extends BaseProvider<Entity50> {
+}
@@ -0,0 +1,12 @@
+package io.github.changebooks.mybatis.provider.benchmarks.provider;
+
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import io.github.changebooks.mybatis.provider.benchmarks.entity.Entity5;
+
+/**
+ * Entity5 Provider
+ *
+ * @author changebooks@qq.com
+ */
+public class Entity5Provider extends BaseProvider<Entity5> {
+}
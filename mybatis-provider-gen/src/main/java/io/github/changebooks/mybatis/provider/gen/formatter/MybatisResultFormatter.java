@@ -2,6 +2,7 @@ package io.github.changebooks.mybatis.provider.gen.formatter;
 
 import io.github.changebooks.mybatis.provider.gen.schema.Column;
 import io.github.changebooks.mybatis.provider.gen.schema.Table;
+import io.github.changebooks.mybatis.provider.gen.type.JdbcType;
 
 import java.util.Optional;
 
@@ -21,6 +22,11 @@ public final class MybatisResultFormatter {
      */
     public static final String MYBATIS_RESULT = "%s@MybatisResult(column = \"%s\", jdbcType = JdbcType.%s, id = %b, autoIncrement = %b)\n";
 
+    /**
+     * &#064;MybatisResult of a large object column
+     */
+    public static final String MYBATIS_RESULT_LAZY = "%s@MybatisResult(column = \"%s\", jdbcType = JdbcType.%s, id = %b, autoIncrement = %b, lazy = true)\n";
+
     private MybatisResultFormatter() {
     }
 
@@ -62,7 +68,7 @@ public final class MybatisResultFormatter {
      *
      * @param column  字段描述
      * @param leftTab 左制表
-     * @return &#064;MybatisResult(column, jdbcType, id, autoIncrement)
+     * @return &#064;MybatisResult(column, jdbcType, id, autoIncrement), lazy if a large object column
      */
     public static String formatMybatisResult(Column column, String leftTab) {
         if (column != null) {
@@ -70,7 +76,8 @@ public final class MybatisResultFormatter {
             String jdbcType = column.getJdbcType();
             boolean id = column.isPrimaryKey();
             boolean autoIncrement = column.isAutoIncrement();
-            return formatMybatisResult(columnName, jdbcType, id, autoIncrement, leftTab);
+            boolean lazy = !id && JdbcType.isLob(jdbcType);
+            return formatMybatisResult(columnName, jdbcType, id, autoIncrement, lazy, leftTab);
         } else {
             return "";
         }
@@ -87,11 +94,26 @@ public final class MybatisResultFormatter {
      * @return &#064;MybatisResult(column, jdbcType, id, autoIncrement)
      */
     public static String formatMybatisResult(String column, String jdbcType, boolean id, boolean autoIncrement, String leftTab) {
+        return formatMybatisResult(column, jdbcType, id, autoIncrement, false, leftTab);
+    }
+
+    /**
+     * 格式化&#064;MybatisResult
+     *
+     * @param column        属性名
+     * @param jdbcType      Jdbc Type
+     * @param id            Primary Key ?
+     * @param autoIncrement Auto Increment ?
+     * @param lazy          Lazy ?
+     * @param leftTab       左制表
+     * @return &#064;MybatisResult(column, jdbcType, id, autoIncrement, lazy)
+     */
+    public static String formatMybatisResult(String column, String jdbcType, boolean id, boolean autoIncrement, boolean lazy, String leftTab) {
         column = Optional.ofNullable(column).orElse("").trim();
         jdbcType = Optional.ofNullable(jdbcType).orElse("").trim();
         leftTab = Optional.ofNullable(leftTab).orElse("");
 
-        return String.format(MYBATIS_RESULT,
+        return String.format(lazy ? MYBATIS_RESULT_LAZY : MYBATIS_RESULT,
                 // %s@MybatisResult(column = "%s", jdbcType = JdbcType.%s, id = %b, autoIncrement = %b)\n
                 leftTab, column, jdbcType, id, autoIncrement
         );
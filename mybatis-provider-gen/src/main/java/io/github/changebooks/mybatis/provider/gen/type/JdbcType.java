@@ -1,7 +1,11 @@
 package io.github.changebooks.mybatis.provider.gen.type;
 
 import java.sql.Types;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -13,6 +17,12 @@ public final class JdbcType {
 
     public static final Map<Integer, String> STANDARD_MAPPING = new ConcurrentHashMap<>(64);
 
+    /**
+     * the large object types, generated as &#064;MybatisResult(lazy = true)
+     */
+    public static final Set<String> LOB_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            "BLOB", "CLOB", "NCLOB", "LONGVARCHAR", "LONGVARBINARY", "LONGNVARCHAR")));
+
     static {
         STANDARD_MAPPING.put(Types.ARRAY, "ARRAY");
         STANDARD_MAPPING.put(Types.BIT, "BIT");
@@ -74,4 +84,14 @@ public final class JdbcType {
         return STANDARD_MAPPING.getOrDefault(type, "UNDEFINED");
     }
 
+    /**
+     * a large object type ? e.g. BLOB, TEXT is LONGVARCHAR
+     *
+     * @param jdbcType the jdbc type name
+     * @return {@code true} if in {@link #LOB_TYPES}
+     */
+    public static boolean isLob(String jdbcType) {
+        return jdbcType != null && LOB_TYPES.contains(jdbcType.trim());
+    }
+
 }
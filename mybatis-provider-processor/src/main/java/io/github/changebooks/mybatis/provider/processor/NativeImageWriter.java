@@ -0,0 +1,103 @@
+package io.github.changebooks.mybatis.provider.processor;
+
+import java.util.Collection;
+
+/**
+ * Write the native image configuration
+ * reflect-config.json, proxy-config.json And the services file
+ *
+ * @author changebooks@qq.com
+ */
+public final class NativeImageWriter {
+
+    private static final String INDENT = "  ";
+
+    private NativeImageWriter() {
+    }
+
+    /**
+     * one class name per line
+     *
+     * @param metas the binary names of the generated metadata
+     * @return the services file
+     */
+    public static String services(Collection<String> metas) {
+        StringBuilder result = new StringBuilder();
+
+        for (String meta : metas) {
+            result.append(meta).append('\n');
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * the java beans are bound by Mybatis, the metadata is created by ServiceLoader,
+     * the Providers are created And called by Mybatis
+     *
+     * @param types     the binary names of the &#064;MybatisResultMap classes
+     * @param metas     the binary names of the generated metadata
+     * @param providers the binary names of the BaseProvider classes
+     * @return reflect-config.json
+     */
+    public static String reflectConfig(Collection<String> types, Collection<String> metas, Collection<String> providers) {
+        StringBuilder result = new StringBuilder("[\n");
+
+        for (String type : types) {
+            result.append(INDENT).append("{\"name\": ").append(literal(type)).
+                    append(", \"allDeclaredConstructors\": true, \"allDeclaredFields\": true").
+                    append(", \"allDeclaredMethods\": true, \"allPublicMethods\": true},\n");
+        }
+
+        for (String meta : metas) {
+            result.append(INDENT).append("{\"name\": ").append(literal(meta)).
+                    append(", \"methods\": [{\"name\": \"<init>\", \"parameterTypes\": []}]},\n");
+        }
+
+        for (String provider : providers) {
+            result.append(INDENT).append("{\"name\": ").append(literal(provider)).
+                    append(", \"allDeclaredConstructors\": true, \"allPublicMethods\": true},\n");
+        }
+
+        return end(result, ']');
+    }
+
+    /**
+     * the mappers are proxied by Mybatis
+     *
+     * @param mappers the binary names of the mapper interfaces
+     * @return proxy-config.json
+     */
+    public static String proxyConfig(Collection<String> mappers) {
+        StringBuilder result = new StringBuilder("[\n");
+
+        for (String mapper : mappers) {
+            result.append(INDENT).append("{\"interfaces\": [").append(literal(mapper)).append("]},\n");
+        }
+
+        return end(result, ']');
+    }
+
+    /**
+     * remove the last comma, And close the array
+     */
+    private static String end(StringBuilder result, char close) {
+        int comma = result.length() - 2;
+        if (comma > 0 && result.charAt(comma) == ',') {
+            result.deleteCharAt(comma);
+        }
+
+        return result.append(close).append('\n').toString();
+    }
+
+    /**
+     * the json string, the quotes And the backslashes are escaped
+     *
+     * @param value the class name
+     * @return e.g. "sample.City"
+     */
+    private static String literal(String value) {
+        return '"' + value.replace("\\", "\\\\").replace("\"", "\\\"") + '"';
+    }
+
+}
@@ -0,0 +1,441 @@
+package io.github.changebooks.mybatis.provider.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.annotation.processing.SupportedOptions;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Generate XxxProviderMeta for each &#064;MybatisResultMap class at compile time
+ * So the Providers read the columns, the precomputed sql And the typed accessors without reflection
+ * <p>
+ * Write the native image configuration of the compiled classes at the last round
+ * META-INF/services/io.github.changebooks.mybatis.provider.meta.ProviderMeta, the generated metadata
+ * META-INF/native-image/mybatis-provider/reflect-config.json, the java beans, the metadata And the Providers
+ * META-INF/native-image/mybatis-provider/proxy-config.json, the mappers
+ *
+ * @author changebooks@qq.com
+ * @see io.github.changebooks.mybatis.provider.meta.ProviderMeta
+ */
+@SupportedAnnotationTypes({
+        ProviderMetaProcessor.RESULT_MAP,
+        ProviderMetaProcessor.SELECT_PROVIDER,
+        ProviderMetaProcessor.INSERT_PROVIDER,
+        ProviderMetaProcessor.UPDATE_PROVIDER,
+        ProviderMetaProcessor.DELETE_PROVIDER
+})
+@SupportedOptions(ProviderMetaProcessor.NATIVE_IMAGE_DIR)
+public class ProviderMetaProcessor extends AbstractProcessor {
+    /**
+     * &#064;MybatisResultMap
+     */
+    public static final String RESULT_MAP = "io.github.changebooks.mybatis.provider.annotation.MybatisResultMap";
+
+    /**
+     * &#064;MybatisResult
+     */
+    public static final String RESULT = "io.github.changebooks.mybatis.provider.annotation.MybatisResult";
+
+    /**
+     * &#064;SelectProvider, &#064;InsertProvider, &#064;UpdateProvider, &#064;DeleteProvider
+     */
+    public static final String SELECT_PROVIDER = "org.apache.ibatis.annotations.SelectProvider";
+    public static final String INSERT_PROVIDER = "org.apache.ibatis.annotations.InsertProvider";
+    public static final String UPDATE_PROVIDER = "org.apache.ibatis.annotations.UpdateProvider";
+    public static final String DELETE_PROVIDER = "org.apache.ibatis.annotations.DeleteProvider";
+
+    /**
+     * the Provider base class
+     */
+    public static final String BASE_PROVIDER = "io.github.changebooks.mybatis.provider.BaseProvider";
+
+    /**
+     * the option of the directory under META-INF/native-image, e.g. -Amybatis.provider.nativeImageDir=city
+     */
+    public static final String NATIVE_IMAGE_DIR = "mybatis.provider.nativeImageDir";
+
+    /**
+     * the default directory under META-INF/native-image
+     */
+    public static final String DEFAULT_NATIVE_IMAGE_DIR = "mybatis-provider";
+
+    /**
+     * the services file of the generated metadata
+     */
+    public static final String SERVICES = "META-INF/services/io.github.changebooks.mybatis.provider.meta.ProviderMeta";
+
+    /**
+     * the binary names of the generated metadata
+     */
+    private final Set<String> metas = new TreeSet<>();
+
+    /**
+     * the binary names of the &#064;MybatisResultMap classes
+     */
+    private final Set<String> types = new TreeSet<>();
+
+    /**
+     * the binary names of the BaseProvider classes used by the mappers
+     */
+    private final Set<String> providers = new TreeSet<>();
+
+    /**
+     * the binary names of the mapper interfaces
+     */
+    private final Set<String> mappers = new TreeSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            if (annotation.getQualifiedName().contentEquals(RESULT_MAP)) {
+                for (TypeElement type : ElementFilter.typesIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                    try {
+                        generate(type);
+                    } catch (IOException | RuntimeException tr) {
+                        processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                                "ProviderMeta isn't generated, " + tr, type);
+                    }
+                }
+            } else {
+                for (ExecutableElement method : ElementFilter.methodsIn(roundEnv.getElementsAnnotatedWith(annotation))) {
+                    addProvider(method, annotation.getQualifiedName().toString());
+                }
+            }
+        }
+
+        if (roundEnv.processingOver()) {
+            try {
+                writeNativeImage();
+            } catch (IOException | RuntimeException tr) {
+                processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                        "native image configuration isn't written, " + tr);
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * collect the mapper And its BaseProvider, e.g. &#064;SelectProvider(type = CityProvider.class)
+     *
+     * @param method the mapper method
+     * @param name   the qualified name of the annotation
+     */
+    private void addProvider(ExecutableElement method, String name) {
+        AnnotationMirror annotation = getAnnotation(method, name);
+        if (annotation == null) {
+            return;
+        }
+
+        TypeElement base = processingEnv.getElementUtils().getTypeElement(BASE_PROVIDER);
+        if (base == null) {
+            return;
+        }
+
+        TypeMirror baseType = processingEnv.getTypeUtils().erasure(base.asType());
+
+        for (String member : new String[]{"type", "value"}) {
+            Object value = getValueOrNull(annotation, member);
+            if (!(value instanceof DeclaredType)) {
+                continue;
+            }
+
+            TypeMirror provider = processingEnv.getTypeUtils().erasure((DeclaredType) value);
+            if (processingEnv.getTypeUtils().isSubtype(provider, baseType)) {
+                providers.add(getBinaryName((TypeElement) ((DeclaredType) value).asElement()));
+
+                Element mapper = method.getEnclosingElement();
+                if (mapper.getKind() == ElementKind.INTERFACE) {
+                    mappers.add(getBinaryName((TypeElement) mapper));
+                }
+            }
+        }
+    }
+
+    /**
+     * write the services file, reflect-config.json And proxy-config.json
+     *
+     * @throws IOException if the resource can't be written
+     */
+    private void writeNativeImage() throws IOException {
+        if (!metas.isEmpty()) {
+            writeResource(SERVICES, NativeImageWriter.services(metas));
+        }
+
+        if (types.isEmpty() && providers.isEmpty()) {
+            return;
+        }
+
+        String dir = processingEnv.getOptions().getOrDefault(NATIVE_IMAGE_DIR, DEFAULT_NATIVE_IMAGE_DIR);
+        String path = "META-INF/native-image/" + dir + "/";
+
+        writeResource(path + "reflect-config.json", NativeImageWriter.reflectConfig(types, metas, providers));
+
+        if (!mappers.isEmpty()) {
+            writeResource(path + "proxy-config.json", NativeImageWriter.proxyConfig(mappers));
+        }
+    }
+
+    /**
+     * write the resource into the class output
+     *
+     * @param name    the relative name, e.g. META-INF/services/xxx
+     * @param content the file content
+     * @throws IOException if the resource can't be written
+     */
+    private void writeResource(String name, String content) throws IOException {
+        FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", name);
+
+        try (Writer out = file.openWriter()) {
+            out.write(content);
+        }
+    }
+
+    /**
+     * the binary name, e.g. sample.Outer$City
+     *
+     * @param type the class
+     * @return the name of Class.forName
+     */
+    private String getBinaryName(TypeElement type) {
+        return processingEnv.getElementUtils().getBinaryName(type).toString();
+    }
+
+    /**
+     * generate the ProviderMeta of the java bean class
+     *
+     * @param type the &#064;MybatisResultMap class
+     * @throws IOException if the source file can't be written
+     */
+    private void generate(TypeElement type) throws IOException {
+        if (type.getKind() != ElementKind.CLASS || !isVisible(type)) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "ProviderMeta is skipped, the class isn't visible in its package", type);
+            return;
+        }
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = getBinaryName(type);
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1)) +
+                ProviderMetaWriter.SUFFIX;
+
+        AnnotationMirror resultMap = getAnnotation(type, RESULT_MAP);
+        String table = (String) getValue(resultMap, "table");
+
+        ProviderMetaWriter writer = new ProviderMetaWriter(packageName, simpleName,
+                type.getQualifiedName().toString(), !type.getTypeParameters().isEmpty(), table);
+
+        String logicalDelete = (String) getValueOrNull(resultMap, "logicalDelete");
+        if (logicalDelete != null && !logicalDelete.isEmpty()) {
+            writer.setLogicalDelete(logicalDelete,
+                    (String) getValueOrNull(resultMap, "deletedValue"),
+                    (String) getValueOrNull(resultMap, "liveValue"));
+        }
+
+        for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+            AnnotationMirror result = getAnnotation(field, RESULT);
+            if (result == null) {
+                continue;
+            }
+
+            String property = field.getSimpleName().toString();
+            boolean version = Boolean.TRUE.equals(getValueOrNull(result, "version"));
+
+            // the version is written back by updateVersion, so it's read by the reflect Field, resolved once here
+            writer.addElement((String) getValue(result, "column"),
+                    ((VariableElement) getValue(result, "jdbcType")).getSimpleName().toString(),
+                    property,
+                    getTypeLiteral(field.asType()),
+                    (Boolean) getValue(result, "id"),
+                    (Boolean) getValue(result, "autoIncrement"),
+                    Boolean.TRUE.equals(getValueOrNull(result, "lazy")),
+                    version,
+                    version ? null : getAccessor(type, field));
+        }
+
+        String name = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(name, type);
+
+        try (Writer out = file.openWriter()) {
+            out.write(writer.write());
+        }
+
+        types.add(binaryName);
+        metas.add(name);
+    }
+
+    /**
+     * the member read from the generated class in the same package
+     *
+     * @param type  the java bean class
+     * @param field the java bean field
+     * @return e.g. getName(), name; null if private without a getter
+     */
+    private String getAccessor(TypeElement type, VariableElement field) {
+        if (field.getModifiers().contains(Modifier.STATIC)) {
+            return null;
+        }
+
+        String name = field.getSimpleName().toString();
+        String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+
+        ExecutableElement getter = findGetter(type, "get" + suffix, field.asType());
+        if (getter == null && field.asType().getKind() == TypeKind.BOOLEAN) {
+            getter = findGetter(type, "is" + suffix, field.asType());
+        }
+
+        if (getter != null) {
+            return getter.getSimpleName() + "()";
+        }
+
+        return field.getModifiers().contains(Modifier.PRIVATE) ? null : name;
+    }
+
+    /**
+     * find the non-private, non-static, no arguments method
+     *
+     * @param type       the declaring class
+     * @param name       the method name
+     * @param returnType the return type
+     * @return null if not found
+     */
+    private ExecutableElement findGetter(TypeElement type, String name, TypeMirror returnType) {
+        for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+            Set<Modifier> modifiers = method.getModifiers();
+            if (method.getSimpleName().contentEquals(name) &&
+                    method.getParameters().isEmpty() &&
+                    !modifiers.contains(Modifier.PRIVATE) &&
+                    !modifiers.contains(Modifier.STATIC) &&
+                    processingEnv.getTypeUtils().isSameType(method.getReturnType(), returnType)) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * the class literal of the erased type
+     *
+     * @param type the field type
+     * @return e.g. int, java.lang.String, java.lang.String[]
+     */
+    private String getTypeLiteral(TypeMirror type) {
+        TypeMirror erased = processingEnv.getTypeUtils().erasure(type);
+
+        if (erased.getKind().isPrimitive()) {
+            return erased.getKind().name().toLowerCase();
+        }
+
+        if (erased.getKind() == TypeKind.ARRAY) {
+            return getTypeLiteral(((ArrayType) erased).getComponentType()) + "[]";
+        }
+
+        Element element = processingEnv.getTypeUtils().asElement(erased);
+        if (element instanceof TypeElement) {
+            return ((TypeElement) element).getQualifiedName().toString();
+        }
+
+        return "java.lang.Object";
+    }
+
+    /**
+     * the class And its enclosing classes aren't private ?
+     *
+     * @param type the java bean class
+     * @return {@code true} if visible in its package
+     */
+    private static boolean isVisible(TypeElement type) {
+        Element element = type;
+
+        while (element instanceof TypeElement) {
+            if (element.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+
+            if (element.getEnclosingElement() instanceof TypeElement && !element.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+
+            element = element.getEnclosingElement();
+        }
+
+        return true;
+    }
+
+    /**
+     * the annotation of the element
+     *
+     * @param element the annotated element
+     * @param name    the qualified name of the annotation
+     * @return null if not annotated
+     */
+    private static AnnotationMirror getAnnotation(Element element, String name) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            Element annotation = mirror.getAnnotationType().asElement();
+            if (((TypeElement) annotation).getQualifiedName().contentEquals(name)) {
+                return mirror;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * the annotation value, the default if absent
+     *
+     * @param mirror the annotation
+     * @param name   the annotation method
+     * @return e.g. String, Boolean, VariableElement of an enum
+     */
+    private Object getValue(AnnotationMirror mirror, String name) {
+        Object result = getValueOrNull(mirror, name);
+        if (result == null) {
+            throw new IllegalArgumentException("annotation value isn't found, name: " + name);
+        }
+
+        return result;
+    }
+
+    /**
+     * the annotation value, the default if absent
+     *
+     * @param mirror the annotation
+     * @param name   the annotation method
+     * @return null if the annotation hasn't the method
+     */
+    private Object getValueOrNull(AnnotationMirror mirror, String name) {
+        Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                processingEnv.getElementUtils().getElementValuesWithDefaults(mirror);
+
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals(name)) {
+                return entry.getValue().getValue();
+            }
+        }
+
+        return null;
+    }
+
+}
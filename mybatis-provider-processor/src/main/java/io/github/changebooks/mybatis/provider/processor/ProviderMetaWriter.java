@@ -0,0 +1,309 @@
+package io.github.changebooks.mybatis.provider.processor;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.meta.ProviderMeta;
+import io.github.changebooks.mybatis.provider.sql.SqlDeleteTextBuilder;
+import io.github.changebooks.mybatis.provider.sql.SqlInsertTextBuilder;
+import io.github.changebooks.mybatis.provider.sql.SqlSegment;
+import io.github.changebooks.mybatis.provider.sql.SqlSelectTextBuilder;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+import io.github.changebooks.mybatis.provider.tag.TagResultFilter;
+import org.apache.ibatis.type.JdbcType;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write the source of a ProviderMeta
+ * The sql is rendered by the same builders as the Providers, so it's the same as the runtime one
+ *
+ * @author changebooks@qq.com
+ */
+public final class ProviderMetaWriter {
+    /**
+     * the suffix of the generated class name
+     */
+    public static final String SUFFIX = ProviderMeta.SUFFIX;
+
+    private static final String INDENT = "    ";
+
+    /**
+     * the package of the java bean class
+     */
+    private final String packageName;
+
+    /**
+     * the generated class name, e.g. CityProviderMeta
+     */
+    private final String simpleName;
+
+    /**
+     * the qualified name of the java bean class, e.g. sample.City
+     */
+    private final String type;
+
+    /**
+     * the java bean class is generic ? it's used as a raw type
+     */
+    private final boolean generic;
+
+    /**
+     * &#064;MybatisResultMap(table)
+     */
+    private final String table;
+
+    /**
+     * &#064;MybatisResultMap(logicalDelete), null if deleted physically
+     */
+    private String logicalDelete;
+
+    /**
+     * &#064;MybatisResultMap(deletedValue)
+     */
+    private String deletedValue;
+
+    /**
+     * &#064;MybatisResultMap(liveValue)
+     */
+    private String liveValue;
+
+    /**
+     * the parsed elements, to render the sql
+     */
+    private final List<TagResult> elements = new ArrayList<>();
+
+    /**
+     * the source lines of the elements
+     */
+    private final List<String> sources = new ArrayList<>();
+
+    public ProviderMetaWriter(String packageName, String simpleName, String type, boolean generic, String table) {
+        this.packageName = packageName;
+        this.simpleName = simpleName;
+        this.type = type;
+        this.generic = generic;
+        this.table = table;
+    }
+
+    /**
+     * the logical delete of &#064;MybatisResultMap
+     *
+     * @param logicalDelete &#064;MybatisResultMap(logicalDelete)
+     * @param deletedValue  &#064;MybatisResultMap(deletedValue)
+     * @param liveValue     &#064;MybatisResultMap(liveValue)
+     */
+    public void setLogicalDelete(String logicalDelete, String deletedValue, String liveValue) {
+        this.logicalDelete = logicalDelete;
+        this.deletedValue = deletedValue;
+        this.liveValue = liveValue;
+    }
+
+    /**
+     * add a &#064;MybatisResult field
+     *
+     * @param column        &#064;MybatisResult(column)
+     * @param jdbcType      &#064;MybatisResult(jdbcType), the enum name
+     * @param property      the java field name
+     * @param javaType      the class literal, e.g. java.lang.Integer
+     * @param id            &#064;MybatisResult(id)
+     * @param autoIncrement &#064;MybatisResult(autoIncrement)
+     * @param lazy          &#064;MybatisResult(lazy)
+     * @param version       &#064;MybatisResult(version)
+     * @param accessor      the member to read, e.g. getId(), id; null to read by the reflect Field
+     */
+    public void addElement(String column, String jdbcType, String property, String javaType,
+                           boolean id, boolean autoIncrement, boolean lazy, boolean version, String accessor) {
+        TagResult element = new TagResult();
+
+        element.setColumn(column);
+        element.setJdbcType(JdbcType.valueOf(jdbcType));
+        element.setProperty(property);
+        element.setId(id);
+        element.setAutoIncrement(autoIncrement);
+        element.setLazy(lazy);
+        element.setVersion(version);
+
+        elements.add(element);
+
+        String read = accessor != null ?
+                "record -> ((" + type + ") record)." + accessor :
+                type + ".class";
+
+        sources.add("ProviderMetas.element(" +
+                literal(column) + ", " +
+                "JdbcType." + jdbcType + ", " +
+                literal(property) + ", " +
+                javaType + ".class, " +
+                id + ", " +
+                autoIncrement + ", " +
+                lazy + ", " +
+                version + ", " +
+                read + ")");
+    }
+
+    /**
+     * the source of the ProviderMeta
+     *
+     * @return java source
+     */
+    public String write() {
+        List<TagResult> ids = TagResultFilter.filterId(elements);
+        List<TagResult> insertElements = TagResultFilter.removeAutoIncrement(elements);
+
+        String[] columns = SqlSegment.getColumns(TagResultFilter.removeLazy(elements));
+        String[] whereId = SqlSegment.getWhere(ids);
+
+        String live = SqlSegment.getLive(logicalDelete, liveValue);
+        String delete = SqlSegment.getDelete(logicalDelete, deletedValue);
+
+        String selectOne = new SqlSelectTextBuilder(table, columns, whereId, null,
+                null, 0, 0, null, Dialect.MYSQL, live).selectOneSql();
+        String insertOne = new SqlInsertTextBuilder(table,
+                SqlSegment.getIntoColumns(insertElements),
+                SqlSegment.getIntoValues(insertElements)).insertOneSql();
+        String deleteOne = new SqlDeleteTextBuilder(table, whereId, null, delete, null,
+                0, 0, null, Dialect.MYSQL).deleteOneSql();
+
+        StringBuilder result = new StringBuilder(4096);
+
+        if (!packageName.isEmpty()) {
+            result.append("package ").append(packageName).append(";\n\n");
+        }
+
+        result.append("import io.github.changebooks.mybatis.provider.meta.ProviderMeta;\n").
+                append("import io.github.changebooks.mybatis.provider.meta.ProviderMetas;\n").
+                append("import io.github.changebooks.mybatis.provider.tag.TagResult;\n").
+                append("import org.apache.ibatis.type.JdbcType;\n\n").
+                append("import java.util.ArrayList;\n").
+                append("import java.util.List;\n\n").
+                append("/**\n").
+                append(" * Generated by mybatis-provider-processor from {@link ").append(type).append("}, don't edit\n").
+                append(" */\n");
+
+        if (generic) {
+            result.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n");
+        }
+
+        result.append("public final class ").append(simpleName).
+                append(" implements ProviderMeta<").append(type).append("> {\n\n");
+
+        constant(result, "String", "TABLE", literal(table));
+        constant(result, "String[]", "COLUMNS", array(columns));
+        constant(result, "String[]", "WHERE_ID", array(whereId));
+        constant(result, "String", "SELECT_ONE", literal(selectOne));
+        constant(result, "String", "INSERT_ONE", literal(insertOne));
+        constant(result, "String", "DELETE_ONE", literal(deleteOne));
+
+        getter(result, "Class<" + type + ">", "getType", type + ".class");
+        getter(result, "String", "getTable", "TABLE");
+
+        result.append(INDENT).append("@Override\n").
+                append(INDENT).append("public List<TagResult> getElements() {\n").
+                append(INDENT).append(INDENT).append("List<TagResult> result = new ArrayList<>(").
+                append(sources.size()).append(");\n\n");
+
+        for (String source : sources) {
+            result.append(INDENT).append(INDENT).append("result.add(").append(source).append(");\n");
+        }
+
+        result.append('\n').
+                append(INDENT).append(INDENT).append("return result;\n").
+                append(INDENT).append("}\n\n");
+
+        getter(result, "String[]", "getColumns", "COLUMNS");
+        getter(result, "String[]", "getWhereId", "WHERE_ID");
+        getter(result, "String", "getSelectOne", "SELECT_ONE");
+        getter(result, "String", "getInsertOne", "INSERT_ONE");
+        getter(result, "String", "getDeleteOne", "DELETE_ONE");
+
+        if (logicalDelete != null) {
+            getter(result, "String", "getLogicalDelete", literal(logicalDelete));
+            getter(result, "String", "getDeletedValue", literal(deletedValue));
+            getter(result, "String", "getLiveValue", literal(liveValue));
+        }
+
+        result.setLength(result.length() - 1);
+        result.append("}\n");
+
+        return result.toString();
+    }
+
+    /**
+     * private static final type name = value;
+     */
+    private static void constant(StringBuilder result, String type, String name, String value) {
+        result.append(INDENT).append("private static final ").append(type).append(' ').
+                append(name).append(" = ").append(value).append(";\n\n");
+    }
+
+    /**
+     * &#064;Override public type name() { return value; }
+     */
+    private static void getter(StringBuilder result, String type, String name, String value) {
+        result.append(INDENT).append("@Override\n").
+                append(INDENT).append("public ").append(type).append(' ').append(name).append("() {\n").
+                append(INDENT).append(INDENT).append("return ").append(value).append(";\n").
+                append(INDENT).append("}\n\n");
+    }
+
+    /**
+     * {"value", "value"}
+     */
+    private static String array(String[] values) {
+        StringBuilder result = new StringBuilder("{");
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            result.append(literal(values[i]));
+        }
+
+        return result.append('}').toString();
+    }
+
+    /**
+     * the java string literal, null if the value is null
+     *
+     * @param value the string
+     * @return e.g. "SELECT id\nFROM city"
+     */
+    public static String literal(String value) {
+        if (value == null) {
+            return "null";
+        }
+
+        StringBuilder result = new StringBuilder(value.length() + 16).append('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    result.append("\\\"");
+                    break;
+                case '\\':
+                    result.append("\\\\");
+                    break;
+                case '\n':
+                    result.append("\\n");
+                    break;
+                case '\r':
+                    result.append("\\r");
+                    break;
+                case '\t':
+                    result.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20 || c > 0x7e) {
+                        result.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+            }
+        }
+
+        return result.append('"').toString();
+    }
+
+}
@@ -0,0 +1,100 @@
+package io.github.changebooks.mybatis.provider.spring.boot.starter;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.dialect.DialectRegistry;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.boot.autoconfigure.SqlSessionFactoryBeanCustomizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * set the Provider's Dialect before the first call, by the property, or else detected from the DataSource
+ * the first customizer, the others may create a Provider, which reads the Dialect once
+ *
+ * <pre>
+ * mybatis.provider.dialect=mysql|postgresql|h2|oracle|sqlserver
+ * mybatis.provider.quoting=false
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class DialectCustomizer implements SqlSessionFactoryBeanCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DialectCustomizer.class);
+
+    private final ObjectProvider<DataSource> dataSource;
+
+    private final String name;
+
+    private final boolean quoting;
+
+    public DialectCustomizer(ObjectProvider<DataSource> dataSource,
+                             @Value("${mybatis.provider.dialect:}") String name,
+                             @Value("${mybatis.provider.quoting:false}") boolean quoting) {
+        this.dataSource = dataSource;
+        this.name = name;
+        this.quoting = quoting;
+    }
+
+    @Override
+    public void customize(SqlSessionFactoryBean factoryBean) {
+        Dialect dialect = getDialect();
+        if (dialect != null) {
+            DialectRegistry.set(dialect);
+        }
+
+        DialectRegistry.setQuoting(quoting);
+    }
+
+    /**
+     * the dialect of the property, or else of the unique DataSource
+     *
+     * @return null if unknown, the default is kept
+     */
+    public Dialect getDialect() {
+        if (StringUtils.hasText(name)) {
+            Dialect result = DialectRegistry.forName(name.trim());
+            if (result == null) {
+                throw new IllegalArgumentException("dialect isn't found, mybatis.provider.dialect: " + name);
+            }
+
+            return result;
+        }
+
+        DataSource ds = dataSource.getIfUnique();
+        if (ds == null) {
+            return null;
+        }
+
+        try {
+            Dialect result = DialectRegistry.detect(ds);
+            if (result == null) {
+                logger.warn("dialect isn't detected, keep {}", DialectRegistry.get().getName());
+            }
+
+            return result;
+        } catch (RuntimeException tr) {
+            logger.warn("detect dialect throwable, keep {}: ", DialectRegistry.get().getName(), tr);
+            return null;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isQuoting() {
+        return quoting;
+    }
+
+}
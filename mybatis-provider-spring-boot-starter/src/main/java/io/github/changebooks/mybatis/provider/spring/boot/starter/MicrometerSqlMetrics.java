@@ -0,0 +1,134 @@
+package io.github.changebooks.mybatis.provider.spring.boot.starter;
+
+import io.github.changebooks.mybatis.provider.metrics.SqlCardinality;
+import io.github.changebooks.mybatis.provider.metrics.SqlMetrics;
+import io.github.changebooks.mybatis.provider.metrics.SqlMetricsRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer binder of the Provider's {@link SqlMetrics}, tagged by entity And operation
+ *
+ * <pre>
+ * mybatis.provider.render         Timer, the render count And latency
+ * mybatis.provider.render.distinct Gauge, the distinct sql count
+ * </pre>
+ * It may be bound to several registries, the meters are published to each of them by a composite
+ *
+ * @author changebooks@qq.com
+ */
+public class MicrometerSqlMetrics implements SqlMetrics, MeterBinder, AutoCloseable {
+    /**
+     * the name of the render timer
+     */
+    public static final String RENDER = "mybatis.provider.render";
+
+    /**
+     * the name of the distinct sql gauge
+     */
+    public static final String DISTINCT = "mybatis.provider.render.distinct";
+
+    /**
+     * publish the latency histogram ?
+     */
+    private final boolean histogram;
+
+    /**
+     * [ entity : [ operation : Meters ] ], no key is built per call
+     */
+    private final ConcurrentMap<Class<?>, ConcurrentMap<String, Meters>> meters = new ConcurrentHashMap<>();
+
+    /**
+     * the bound registries, the meters are registered once And published to each
+     */
+    private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+
+    /**
+     * is any registry bound ?
+     */
+    private volatile boolean bound;
+
+    public MicrometerSqlMetrics(boolean histogram) {
+        this.histogram = histogram;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.registry.add(registry);
+        this.bound = true;
+        SqlMetricsRegistry.set(this);
+    }
+
+    @Override
+    public void close() {
+        if (SqlMetricsRegistry.get() == this) {
+            SqlMetricsRegistry.set(SqlMetrics.NOOP);
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return bound;
+    }
+
+    @Override
+    public void record(Class<?> entity, String operation, String sql, long nanos) {
+        if (!bound) {
+            return;
+        }
+
+        Class<?> type = entity != null ? entity : Void.class;
+
+        ConcurrentMap<String, Meters> operations = meters.get(type);
+        if (operations == null) {
+            operations = meters.computeIfAbsent(type, x -> new ConcurrentHashMap<>());
+        }
+
+        Meters m = operations.get(operation);
+        if (m == null) {
+            String name = entity != null ? entity.getName() : "";
+            m = operations.computeIfAbsent(operation, x -> new Meters(registry, name, operation, histogram));
+        }
+
+        m.timer.record(nanos, TimeUnit.NANOSECONDS);
+        m.cardinality.add(sql);
+    }
+
+    public boolean isHistogram() {
+        return histogram;
+    }
+
+    /**
+     * the meters of an entity And an operation
+     */
+    private static final class Meters {
+
+        private final Timer timer;
+
+        private final SqlCardinality cardinality = new SqlCardinality();
+
+        private Meters(MeterRegistry registry, String entity, String operation, boolean histogram) {
+            this.timer = Timer.builder(RENDER).
+                    description("the sql rendered by the Provider").
+                    tag("entity", entity).
+                    tag("operation", operation).
+                    publishPercentileHistogram(histogram).
+                    register(registry);
+
+            Gauge.builder(DISTINCT, cardinality, SqlCardinality::getSize).
+                    description("the distinct sql rendered by the Provider, saturated at " + cardinality.getMaxSize()).
+                    tag("entity", entity).
+                    tag("operation", operation).
+                    register(registry);
+        }
+
+    }
+
+}
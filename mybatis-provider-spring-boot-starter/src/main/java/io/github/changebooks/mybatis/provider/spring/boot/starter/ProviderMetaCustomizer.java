@@ -0,0 +1,49 @@
+package io.github.changebooks.mybatis.provider.spring.boot.starter;
+
+import io.github.changebooks.mybatis.provider.meta.ProviderMetas;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.boot.autoconfigure.SqlSessionFactoryBeanCustomizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.NativeDetector;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+
+/**
+ * register the generated ProviderMeta before the first Provider is created
+ * strict in a native image by default, the Providers don't reflect the java beans
+ *
+ * <pre>
+ * mybatis.provider.strict=true|false
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ProviderMetaCustomizer implements SqlSessionFactoryBeanCustomizer {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProviderMetaCustomizer.class);
+
+    private final boolean strict;
+
+    public ProviderMetaCustomizer(@Value("${mybatis.provider.strict:#{null}}") Boolean strict) {
+        this.strict = strict != null ? strict : NativeDetector.inNativeImage();
+    }
+
+    @Override
+    public void customize(SqlSessionFactoryBean factoryBean) {
+        int size = ProviderMetas.loadAll(ClassUtils.getDefaultClassLoader());
+        ProviderMetas.setStrict(strict);
+
+        logger.info("registered {} ProviderMeta, strict: {}", size, strict);
+    }
+
+    public boolean isStrict() {
+        return strict;
+    }
+
+}
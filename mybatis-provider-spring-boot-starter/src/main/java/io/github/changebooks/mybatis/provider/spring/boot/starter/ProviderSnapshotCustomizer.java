@@ -0,0 +1,197 @@
+package io.github.changebooks.mybatis.provider.spring.boot.starter;
+
+import io.github.changebooks.mybatis.provider.AnnotationParser;
+import io.github.changebooks.mybatis.provider.BaseProvider;
+import io.github.changebooks.mybatis.provider.ResultMapUtils;
+import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import io.github.changebooks.mybatis.provider.meta.ProviderMeta;
+import io.github.changebooks.mybatis.provider.meta.ProviderMetaSnapshot;
+import io.github.changebooks.mybatis.provider.meta.ProviderMetas;
+import io.github.changebooks.mybatis.provider.tag.TagResultMap;
+import io.github.changebooks.mybatis.provider.tag.TagResultMapParser;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionFactoryBean;
+import org.mybatis.spring.boot.autoconfigure.SqlSessionFactoryBeanCustomizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.*;
+
+/**
+ * load the ProviderMeta snapshot before the first Provider is created, a warm restart skips the reflection
+ * the java beans without the generated ProviderMeta are written back if the snapshot is stale, e.g. a class is changed
+ * off by default, a failed snapshot is logged And ignored
+ *
+ * <pre>
+ * mybatis.provider.snapshot=/var/cache/app/mybatis-provider.bin
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+@Configuration
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class ProviderSnapshotCustomizer implements SqlSessionFactoryBeanCustomizer, SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(ProviderSnapshotCustomizer.class);
+
+    private final ObjectProvider<SqlSessionFactory> sessionFactory;
+
+    private final Path file;
+
+    /**
+     * the java beans of the generated ProviderMeta, they aren't written
+     */
+    private final Set<Class<?>> generated = new HashSet<>();
+
+    /**
+     * the java beans loaded from the snapshot
+     */
+    private final Set<Class<?>> loaded = new HashSet<>();
+
+    public ProviderSnapshotCustomizer(ObjectProvider<SqlSessionFactory> sessionFactory,
+                                      @Value("${mybatis.provider.snapshot:}") String file) {
+        this.sessionFactory = sessionFactory;
+        this.file = StringUtils.hasText(file) ? Paths.get(file.trim()) : null;
+    }
+
+    @Override
+    public void customize(SqlSessionFactoryBean factoryBean) {
+        if (file == null) {
+            return;
+        }
+
+        generated.addAll(ProviderMetas.getRegistered().keySet());
+
+        List<ProviderMeta<?>> metas;
+        try {
+            metas = ProviderMetaSnapshot.read(file, ClassUtils.getDefaultClassLoader());
+        } catch (IOException | RuntimeException tr) {
+            logger.warn("read snapshot failed, file: {}, throwable: ", file, tr);
+            return;
+        }
+
+        for (ProviderMeta<?> meta : metas) {
+            if (!generated.contains(meta.getType())) {
+                ProviderMetas.register(meta);
+                loaded.add(meta.getType());
+            }
+        }
+
+        logger.info("loaded {} ProviderMeta from snapshot, file: {}", loaded.size(), file);
+    }
+
+    /**
+     * the mappers are registered, write the snapshot if a writable java bean isn't loaded from it
+     * the mappers are parsed only to write, a warm restart finds the java beans by the Providers' generic types
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (file == null) {
+            return;
+        }
+
+        SqlSessionFactory factory = sessionFactory.getIfUnique();
+        if (factory == null) {
+            return;
+        }
+
+        Collection<Class<?>> mappers = factory.getConfiguration().getMapperRegistry().getMappers();
+
+        Set<Class<?>> writable = getWritable(mappers);
+        if (loaded.equals(writable)) {
+            return;
+        }
+
+        Map<Class<?>, TagResultMap> resultMaps = new LinkedHashMap<>();
+        for (Class<?> mapper : mappers) {
+            Map<String, TagResultMap> tags = AnnotationParser.parse(mapper, ResultMapUtils.DEFAULT_ID);
+            if (tags == null) {
+                continue;
+            }
+
+            for (TagResultMap tag : tags.values()) {
+                Class<?> type = tag.getType();
+                if (writable.contains(type)) {
+                    resultMaps.putIfAbsent(type, tag);
+                }
+            }
+        }
+
+        try {
+            int size = ProviderMetaSnapshot.write(file, resultMaps.values());
+            logger.info("wrote {} ProviderMeta to snapshot, file: {}", size, file);
+        } catch (IOException | RuntimeException tr) {
+            logger.warn("write snapshot failed, file: {}, throwable: ", file, tr);
+        }
+    }
+
+    /**
+     * the java beans of the mappers' Providers, annotated, not generated, And with a class file, so written to the snapshot
+     *
+     * @param mappers the registered mappers
+     * @return the java beans, the hash is computed only if not loaded
+     */
+    private Set<Class<?>> getWritable(Collection<Class<?>> mappers) {
+        Set<Class<?>> result = new HashSet<>();
+        Set<Class<?>> seen = new HashSet<>();
+
+        for (Class<?> mapper : mappers) {
+            for (Method method : mapper.getMethods()) {
+                Class<?> type = TagResultMapParser.parseGenericType(getProviderType(method));
+                if (type == null || !seen.add(type)) {
+                    continue;
+                }
+
+                if (type.isAnnotationPresent(MybatisResultMap.class) && !generated.contains(type) &&
+                        (loaded.contains(type) || ProviderMetaSnapshot.hash(type) != null)) {
+                    result.add(type);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * the Provider class of &#064;SelectProvider, &#064;InsertProvider, &#064;UpdateProvider Or &#064;DeleteProvider
+     *
+     * @param method the mapper's method
+     * @return null if not a BaseProvider
+     */
+    private static Class<?> getProviderType(Method method) {
+        Class<?> result = null;
+
+        if (method.isAnnotationPresent(SelectProvider.class)) {
+            result = method.getAnnotation(SelectProvider.class).type();
+        } else if (method.isAnnotationPresent(InsertProvider.class)) {
+            result = method.getAnnotation(InsertProvider.class).type();
+        } else if (method.isAnnotationPresent(UpdateProvider.class)) {
+            result = method.getAnnotation(UpdateProvider.class).type();
+        } else if (method.isAnnotationPresent(DeleteProvider.class)) {
+            result = method.getAnnotation(DeleteProvider.class).type();
+        }
+
+        return result != null && BaseProvider.class.isAssignableFrom(result) ? result : null;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+}
@@ -0,0 +1,32 @@
+package io.github.changebooks.mybatis.provider.spring.boot.starter;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * bind the Provider's SqlMetrics to Micrometer, if Micrometer is present
+ *
+ * <pre>
+ * mybatis.provider.metrics.enabled=true
+ * mybatis.provider.metrics.histogram=false
+ * </pre>
+ * the histogram is opt-in, it's a percentile histogram per entity And operation
+ *
+ * @author changebooks@qq.com
+ */
+@Configuration
+@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+@ConditionalOnProperty(prefix = "mybatis.provider.metrics", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMetricsConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public MicrometerSqlMetrics micrometerSqlMetrics(@Value("${mybatis.provider.metrics.histogram:false}") boolean histogram) {
+        return new MicrometerSqlMetrics(histogram);
+    }
+
+}
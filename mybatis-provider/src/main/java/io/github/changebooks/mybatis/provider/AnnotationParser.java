@@ -1,9 +1,13 @@
 package io.github.changebooks.mybatis.provider;
 
+import io.github.changebooks.mybatis.provider.tag.TagProjectionParser;
 import io.github.changebooks.mybatis.provider.tag.TagResultMap;
 import org.apache.ibatis.annotations.*;
 
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -17,6 +21,22 @@ import java.util.stream.Collectors;
  * @author changebooks@qq.com
  */
 public final class AnnotationParser {
+    /**
+     * the Provider methods of the projections, the ResultMap is of the mapper method's return type
+     */
+    public static final Set<String> PROJECTION_METHODS = Collections.unmodifiableSet(
+            new HashSet<>(Arrays.asList("selectProjection", "selectOneProjection")));
+
+    /**
+     * [ Provider class : weak Provider instance ], shared while in use, e.g. by all methods of a mapper
+     * held weakly, a Provider references its mapper And java bean classes, so it mustn't pin the class loader on redeploy
+     */
+    private static final ClassValue<ProviderHolder> PROVIDERS = new ClassValue<ProviderHolder>() {
+        @Override
+        protected ProviderHolder computeValue(Class<?> type) {
+            return new ProviderHolder();
+        }
+    };
 
     private AnnotationParser() {
     }
@@ -52,9 +72,91 @@ public final class AnnotationParser {
             result.put(id, resultMap);
         }
 
+        Map<String, TagResultMap> projections = parseProjection(type);
+        if (projections != null) {
+            result.putAll(projections);
+        }
+
+        return result;
+    }
+
+    /**
+     * parse the ResultMap of the projections, the type is the return type of the mapper method
+     * e.g. &#064;SelectProvider(method = "selectProjection") &#064;ResultMap("CityNameResultMap") List&lt;CityName&gt;
+     *
+     * @param type the interface or class
+     * @return [ id : TagResultMap ]
+     */
+    public static Map<String, TagResultMap> parseProjection(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+
+        Map<String, TagResultMap> result = new LinkedHashMap<>();
+
+        for (Method m : type.getMethods()) {
+            SelectProvider annotation = m.getAnnotation(SelectProvider.class);
+            if (annotation == null || !PROJECTION_METHODS.contains(annotation.method())) {
+                continue;
+            }
+
+            String[] ids = parseResultMap(m);
+            if (ids == null || ids.length == 0) {
+                continue;
+            }
+
+            BaseProvider<?> provider = getProviderInstance(annotation.type());
+            if (provider == null || provider.getResultMap() == null) {
+                continue;
+            }
+
+            Class<?> projection = parseReturnType(m);
+            if (projection == null ||
+                    projection == provider.getResultMap().getType() ||
+                    !TagProjectionParser.isProjection(projection)) {
+                continue;
+            }
+
+            TagResultMap tagMap = TagProjectionParser.parse(provider.getResultMap(), projection);
+
+            for (String id : ids) {
+                if (id != null && !id.trim().isEmpty()) {
+                    result.put(id.trim(), tagMap);
+                }
+            }
+        }
+
         return result;
     }
 
+    /**
+     * the element type of the mapper method, e.g. List&lt;CityName&gt;, Cursor&lt;CityName&gt; And CityName to CityName
+     *
+     * @param method the type's method
+     * @return null if unknown
+     */
+    public static Class<?> parseReturnType(Method method) {
+        if (method == null) {
+            return null;
+        }
+
+        Type returnType = method.getGenericReturnType();
+        if (returnType instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) returnType).getActualTypeArguments();
+            if (typeArguments.length == 1 && typeArguments[0] instanceof Class) {
+                return (Class<?>) typeArguments[0];
+            }
+
+            return null;
+        }
+
+        if (returnType instanceof Class && !((Class<?>) returnType).isPrimitive() && !((Class<?>) returnType).isArray()) {
+            return (Class<?>) returnType;
+        }
+
+        return null;
+    }
+
     /**
      * parse ResultMap value from &#064;ResultMap annotation
      * parse Provider instance from &#064;Provider annotation
@@ -270,7 +372,7 @@ public final class AnnotationParser {
         }
 
         Class<?> type = annotation.type();
-        return newProviderInstance(type);
+        return getProviderInstance(type);
     }
 
     /**
@@ -290,7 +392,7 @@ public final class AnnotationParser {
         }
 
         Class<?> type = annotation.type();
-        return newProviderInstance(type);
+        return getProviderInstance(type);
     }
 
     /**
@@ -310,7 +412,7 @@ public final class AnnotationParser {
         }
 
         Class<?> type = annotation.type();
-        return newProviderInstance(type);
+        return getProviderInstance(type);
     }
 
     /**
@@ -330,11 +432,36 @@ public final class AnnotationParser {
         }
 
         Class<?> type = annotation.type();
-        return newProviderInstance(type);
+        return getProviderInstance(type);
     }
 
     /**
-     * cast BaseProvider class to Provider instance
+     * cast BaseProvider class to the shared Provider instance, cached weakly
+     * the instance is shared by all mappers of the class while it's reachable, don't modify it
+     *
+     * @param type the {@link BaseProvider} class
+     * @return Provider instance
+     */
+    public static BaseProvider<?> getProviderInstance(Class<?> type) {
+        if (type == null || !BaseProvider.class.isAssignableFrom(type)) {
+            return null;
+        }
+
+        ProviderHolder holder = PROVIDERS.get(type);
+
+        WeakReference<BaseProvider<?>> ref = holder.instance;
+        BaseProvider<?> result = ref != null ? ref.get() : null;
+        if (result == null) {
+            result = newProviderInstance(type);
+            holder.instance = new WeakReference<>(result);
+        }
+
+        return result;
+    }
+
+    /**
+     * cast BaseProvider class to a new Provider instance, uncached
+     * by the no arguments constructor, which is kept in the native image by the generated reflect-config.json
      *
      * @param type the {@link BaseProvider} class
      * @return Provider instance
@@ -346,8 +473,8 @@ public final class AnnotationParser {
 
         if (BaseProvider.class.isAssignableFrom(type)) {
             try {
-                return (BaseProvider<?>) type.newInstance();
-            } catch (InstantiationException | IllegalAccessException tr) {
+                return (BaseProvider<?>) type.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException tr) {
                 throw new RuntimeException(tr);
             }
         } else {
@@ -355,4 +482,13 @@ public final class AnnotationParser {
         }
     }
 
+    /**
+     * the weak Provider instance of a Provider class, a concurrent miss creates twice
+     */
+    private static final class ProviderHolder {
+
+        private volatile WeakReference<BaseProvider<?>> instance;
+
+    }
+
 }
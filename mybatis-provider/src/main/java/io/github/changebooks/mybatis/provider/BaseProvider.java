@@ -1,13 +1,28 @@
 package io.github.changebooks.mybatis.provider;
 
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.dialect.DialectRegistry;
+import io.github.changebooks.mybatis.provider.meta.ProviderMeta;
+import io.github.changebooks.mybatis.provider.meta.ProviderMetas;
+import io.github.changebooks.mybatis.provider.metrics.SqlMetrics;
+import io.github.changebooks.mybatis.provider.metrics.SqlMetricsRegistry;
 import io.github.changebooks.mybatis.provider.sql.*;
+import io.github.changebooks.mybatis.provider.tag.TagProjectionParser;
 import io.github.changebooks.mybatis.provider.tag.TagResult;
 import io.github.changebooks.mybatis.provider.tag.TagResultFilter;
 import io.github.changebooks.mybatis.provider.tag.TagResultMap;
 import io.github.changebooks.mybatis.provider.tag.TagResultMapParser;
+import io.github.changebooks.mybatis.provider.tag.TagResultParser;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 import org.apache.ibatis.jdbc.SQL;
 
-import java.util.List;
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
 
 /**
  * Base Provider
@@ -16,17 +31,92 @@ import java.util.List;
  * @author changebooks@qq.com
  */
 public class BaseProvider<T> {
+    /**
+     * the fetch size hint of a SELECT SCAN, e.g. @Options(fetchSize = BaseProvider.DEFAULT_FETCH_SIZE)
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    /**
+     * the name of the UPDATE ONE cache in {@link SqlCaches}
+     */
+    public static final String UPDATE_ONE_CACHE = "updateOne";
+
+    /**
+     * the name of the INSERT BATCH cache in {@link SqlCaches}
+     */
+    public static final String INSERT_BATCH_CACHE = "insertBatch";
+
+    /**
+     * the name of the UPDATE BATCH cache in {@link SqlCaches}
+     */
+    public static final String UPDATE_BATCH_CACHE = "updateBatch";
+
+    /**
+     * the name of the SELECT BY IDS cache in {@link SqlCaches}
+     */
+    public static final String SELECT_BY_IDS_CACHE = "selectByIds";
+
+    /**
+     * the name of the projection columns cache in {@link SqlCaches}
+     */
+    public static final String PROJECTION_CACHE = "projection";
+
+    /**
+     * the name of the SELECT ONE projection cache in {@link SqlCaches}
+     */
+    public static final String SELECT_ONE_PROJECTION_CACHE = "selectOneProjection";
+
+    /**
+     * the name prefix of the UPSERT caches in {@link SqlCaches}, one cache per dialect
+     * e.g. upsert.mysql
+     */
+    public static final String UPSERT_CACHE = "upsert";
+
+    /**
+     * the name of the PURGE BATCH cache in {@link SqlCaches}
+     */
+    public static final String PURGE_BATCH_CACHE = "purgeBatch";
+
+    /**
+     * the name prefix of the SELECT LIST LRU caches in {@link SqlCaches}, one cache per dialect
+     * e.g. selectList.mysql
+     */
+    public static final String SELECT_LIST_CACHE = "selectList";
+
+    /**
+     * the name prefix of the SELECT COUNT LRU caches in {@link SqlCaches}, one cache per dialect
+     * e.g. selectCount.mysql
+     */
+    public static final String SELECT_COUNT_CACHE = "selectCount";
+
     /**
      * the bean of &#064;MybatisResultMap annotation
      */
     private final TagResultMap resultMap;
 
+    /**
+     * the generated metadata of the POJO, null if not generated
+     */
+    private final ProviderMeta<?> meta;
+
     /**
      * the table name
      * e.g. table_name, table_name_${tableNum}
      */
     protected String table;
 
+    /**
+     * the lazy columns, omitted from the default selects, fetched by {@link #selectLazy()}
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    protected List<TagResult> lazyElements;
+
+    /**
+     * the version column of the optimistic lock, null if unversioned
+     * UPDATE sets version = version + 1 WHERE id AND version = #{version}
+     */
+    protected TagResult version;
+
     /**
      * the column list
      * e.g. [ {@link TagResult}, {@link TagResult} ]
@@ -51,6 +141,85 @@ public class BaseProvider<T> {
      */
     protected String[] whereId;
 
+    /**
+     * the condition of the live rows, leading the WHERE of the selects, null if deleted physically
+     * e.g. deleted = 0, deleted_at IS NULL
+     */
+    protected String whereLive;
+
+    /**
+     * the SET of DELETE ONE, null if deleted physically
+     * e.g. deleted = 1
+     */
+    protected String setDelete;
+
+    /**
+     * the condition of the logically deleted rows, to purge, null if deleted physically
+     * e.g. deleted = 1, deleted_at IS NOT NULL
+     */
+    protected String whereDeleted;
+
+    /**
+     * the sort keys of keyset pagination, the ids by default
+     * declare others in {@link #afterPropertiesSet}, e.g. TagResultFilter.filterProperty(elements, "createdAt", "id")
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    protected List<TagResult> sortKeys;
+
+    /**
+     * the max rows of an INSERT BATCH
+     * change it in {@link #afterPropertiesSet}
+     */
+    protected int maxBatchRows = SqlInsertBuilder.DEFAULT_MAX_ROWS;
+
+    /**
+     * the max parameters of a statement, e.g. 65535 for MySQL And PostgreSQL
+     * change it in {@link #afterPropertiesSet}
+     */
+    protected int maxBatchParameters = SqlInsertBuilder.DEFAULT_MAX_PARAMETERS;
+
+    /**
+     * the max ids of a SELECT BY IDS, also limited by {@link #maxBatchParameters}
+     * change it in {@link #afterPropertiesSet}
+     */
+    protected int maxIds = SqlSelectBuilder.DEFAULT_MAX_IDS;
+
+    /**
+     * the max entries of the SELECT LIST And SELECT COUNT caches, 0 is off by default
+     * turn it on in {@link #afterPropertiesSet}, e.g. SqlLruCache.DEFAULT_MAX_SIZE
+     * pays off if the same conditions recur, e.g. the search forms
+     */
+    protected int selectCacheSize = 0;
+
+    /**
+     * the max total length of the sql in a SELECT LIST Or SELECT COUNT cache
+     * change it in {@link #afterPropertiesSet}
+     */
+    protected long selectCacheWeight = SqlLruCache.DEFAULT_MAX_WEIGHT;
+
+    /**
+     * the rendering engine of the sql builders, {@link SqlRenderer#SQL} by default
+     * change it in {@link #afterPropertiesSet}, e.g. SqlRenderer.TEXT
+     */
+    protected SqlRenderer renderer = SqlRenderer.SQL;
+
+    /**
+     * the dialect of paging, quoting And UPSERT, {@link DialectRegistry#get()} by default
+     * change it in {@link #afterPropertiesSet}
+     */
+    protected Dialect dialect = DialectRegistry.get();
+
+    /**
+     * quote the table And column names by the dialect ? {@link DialectRegistry#isQuoting()} by default
+     * change it in {@link #afterPropertiesSet}
+     */
+    protected boolean quoting = DialectRegistry.isQuoting();
+
+    /**
+     * the metrics of the rendered sql, {@link SqlMetricsRegistry#get()} by default
+     */
+    protected SqlMetrics metrics = SqlMetricsRegistry.get();
+
     /**
      * the implements of the {@link SqlBuilder}
      */
@@ -58,6 +227,7 @@ public class BaseProvider<T> {
     protected SqlBuilder.SqlInsert insertBuilder;
     protected SqlBuilder.SqlUpdate<T> updateBuilder;
     protected SqlBuilder.SqlDelete deleteBuilder;
+    protected SqlBuilder.SqlUpsert upsertBuilder;
 
     /**
      * the sql caches
@@ -65,6 +235,7 @@ public class BaseProvider<T> {
     protected String selectOne;
     protected String insertOne;
     protected String deleteOne;
+    protected String selectLazy;
 
     /**
      * Initialize all properties
@@ -72,10 +243,22 @@ public class BaseProvider<T> {
      * Initialize all sql caches
      */
     public BaseProvider() {
-        this.resultMap = TagResultMapParser.parseGeneric(getClass());
+        this(null);
+    }
+
+    /**
+     * Initialize by the java bean class, without reading the generic superclass, e.g. in a native image
+     * e.g. public CityProvider() { super(City.class); }
+     *
+     * @param type the java bean class, null to parse it from the generic superclass
+     */
+    protected BaseProvider(Class<T> type) {
+        this.resultMap = type != null ? TagResultMapParser.parse(type) : TagResultMapParser.parseGeneric(getClass());
+        this.meta = resultMap != null ? ProviderMetas.find(resultMap.getType()) : null;
 
         setProperties();
         afterPropertiesSet();
+        quoteProperties();
 
         setBuilders();
         afterBuildersSet();
@@ -92,13 +275,18 @@ public class BaseProvider<T> {
      * @see #ids
      * @see #columns
      * @see #whereId
+     * @see #sortKeys
      */
     public void setProperties() {
         this.table = resultMap.getTable();
         this.elements = resultMap.getElements();
         this.ids = TagResultFilter.filterId(elements);
-        this.columns = SqlSegment.getColumns(elements);
+        this.lazyElements = TagResultFilter.filterLazy(elements);
+        this.version = findVersion(elements);
+        this.columns = SqlSegment.getColumns(TagResultFilter.removeLazy(elements));
         this.whereId = SqlSegment.getWhere(ids);
+        this.sortKeys = ids;
+        setLogicalDelete(resultMap.getLogicalDelete());
     }
 
     /**
@@ -107,6 +295,46 @@ public class BaseProvider<T> {
     public void afterPropertiesSet() {
     }
 
+    /**
+     * quote the table And the columns by {@link #dialect}, if {@link #quoting}
+     * the elements are copied, And the columns And the where id are rebuilt from them
+     */
+    public void quoteProperties() {
+        if (!isQuoting()) {
+            return;
+        }
+
+        Dialect d = getDialect();
+        Map<TagResult, TagResult> quoted = new IdentityHashMap<>();
+
+        this.table = d.quote(getTable());
+        this.elements = Collections.unmodifiableList(quote(getElements(), quoted, d));
+        this.ids = quote(getIds(), quoted, d);
+        this.sortKeys = quote(getSortKeys(), quoted, d);
+        this.lazyElements = quote(getLazyElements(), quoted, d);
+        this.version = getVersion() != null ? quote(Collections.singletonList(getVersion()), quoted, d).get(0) : null;
+        this.columns = SqlSegment.getColumns(TagResultFilter.removeLazy(elements));
+        this.whereId = SqlSegment.getWhere(ids);
+
+        if (resultMap.getLogicalDelete() != null) {
+            setLogicalDelete(d.quote(resultMap.getLogicalDelete()));
+        }
+    }
+
+    /**
+     * Initialize {@link #whereLive}, {@link #setDelete} And {@link #whereDeleted}
+     *
+     * @param column the logical delete column, null if deleted physically
+     */
+    protected void setLogicalDelete(String column) {
+        String deletedValue = resultMap.getDeletedValue();
+        String liveValue = resultMap.getLiveValue();
+
+        this.whereLive = SqlSegment.getLive(column, liveValue);
+        this.setDelete = SqlSegment.getDelete(column, deletedValue);
+        this.whereDeleted = SqlSegment.getDeleted(column, deletedValue, liveValue);
+    }
+
     /**
      * Initialize all sql builders
      *
@@ -114,12 +342,14 @@ public class BaseProvider<T> {
      * @see #setInsertBuilder
      * @see #setUpdateBuilder
      * @see #setDeleteBuilder
+     * @see #setUpsertBuilder
      */
     public void setBuilders() {
         setSelectBuilder();
         setInsertBuilder();
         setUpdateBuilder();
         setDeleteBuilder();
+        setUpsertBuilder();
     }
 
     /**
@@ -132,7 +362,25 @@ public class BaseProvider<T> {
      * Initialize {@link #selectBuilder}
      */
     public void setSelectBuilder() {
-        this.selectBuilder = new SqlSelectBuilder(getTable(), getColumns(), getWhereId());
+        this.selectBuilder = newSelectBuilder(getColumns(), getIds(), getSelectByIdsCache());
+    }
+
+    /**
+     * a new select builder of the columns, by {@link #renderer}
+     *
+     * @param columns the column names
+     * @param ids     the id columns, null if SELECT BY IDS unsupported
+     * @param cache   the SELECT BY IDS cache, null if SELECT BY IDS unsupported
+     * @return SqlBuilder.SqlSelect
+     */
+    protected SqlBuilder.SqlSelect newSelectBuilder(String[] columns, List<TagResult> ids, SqlCache<Integer> cache) {
+        if (getRenderer() == SqlRenderer.TEXT) {
+            return new SqlSelectTextBuilder(getTable(), columns, getWhereId(), getSortKeys(),
+                    ids, getMaxIds(), getMaxBatchParameters(), cache, getDialect(), getWhereLive());
+        } else {
+            return new SqlSelectBuilder(getTable(), columns, getWhereId(), getSortKeys(),
+                    ids, getMaxIds(), getMaxBatchParameters(), cache, getDialect(), getWhereLive());
+        }
     }
 
     /**
@@ -140,26 +388,65 @@ public class BaseProvider<T> {
      */
     public void setInsertBuilder() {
         List<TagResult> elements = TagResultFilter.removeAutoIncrement(getElements());
-        String[] columns = SqlSegment.getIntoColumns(elements);
-        String[] values = SqlSegment.getIntoValues(elements);
+        SqlCache<Integer> cache = getInsertBatchCache();
 
-        this.insertBuilder = new SqlInsertBuilder(getTable(), columns, values);
+        if (getRenderer() == SqlRenderer.TEXT) {
+            this.insertBuilder = new SqlInsertTextBuilder(getTable(), elements, getMaxBatchRows(), getMaxBatchParameters(), cache);
+        } else {
+            this.insertBuilder = new SqlInsertBuilder(getTable(), elements, getMaxBatchRows(), getMaxBatchParameters(), cache);
+        }
     }
 
     /**
      * Initialize {@link #updateBuilder}
      */
     public void setUpdateBuilder() {
-        List<TagResult> columns = TagResultFilter.removeId(getElements());
+        List<TagResult> columns = TagResultFilter.removeVersion(TagResultFilter.removeId(getElements()));
+        SqlCache<Object> cache = getUpdateOneCache();
+        SqlCache<List<Object>> batchCache = getUpdateBatchCache();
 
-        this.updateBuilder = new SqlUpdateBuilder<>(getTable(), columns, getWhereId());
+        if (getRenderer() == SqlRenderer.TEXT) {
+            this.updateBuilder = new SqlUpdateTextBuilder<>(getTable(), columns, getIds(), getWhereId(), getVersion(),
+                    getMaxBatchRows(), getMaxBatchParameters(), cache, batchCache);
+        } else {
+            this.updateBuilder = new SqlUpdateBuilder<>(getTable(), columns, getIds(), getWhereId(), getVersion(),
+                    getMaxBatchRows(), getMaxBatchParameters(), cache, batchCache);
+        }
     }
 
     /**
      * Initialize {@link #deleteBuilder}
      */
     public void setDeleteBuilder() {
-        this.deleteBuilder = new SqlDeleteBuilder(getTable(), getWhereId());
+        SqlCache<Integer> cache = getPurgeBatchCache();
+
+        if (getRenderer() == SqlRenderer.TEXT) {
+            this.deleteBuilder = new SqlDeleteTextBuilder(getTable(), getWhereId(), getIds(), getSetDelete(), getWhereDeleted(),
+                    getMaxBatchRows(), getMaxBatchParameters(), cache, getDialect());
+        } else {
+            this.deleteBuilder = new SqlDeleteBuilder(getTable(), getWhereId(), getIds(), getSetDelete(), getWhereDeleted(),
+                    getMaxBatchRows(), getMaxBatchParameters(), cache, getDialect());
+        }
+    }
+
+    /**
+     * Initialize {@link #upsertBuilder}
+     * INSERT all columns, ids included, And update the columns other than the ids And the auto increments
+     * the version isn't overwritten, but increased on conflict
+     */
+    public void setUpsertBuilder() {
+        List<TagResult> updates = TagResultFilter.removeVersion(
+                TagResultFilter.removeAutoIncrement(TagResultFilter.removeId(getElements())));
+        SqlCache<Integer> noCache = new SqlCache<>(0);
+
+        SqlBuilder.SqlInsert insert;
+        if (getRenderer() == SqlRenderer.TEXT) {
+            insert = new SqlInsertTextBuilder(getTable(), getElements(), getMaxBatchRows(), getMaxBatchParameters(), noCache);
+        } else {
+            insert = new SqlInsertBuilder(getTable(), getElements(), getMaxBatchRows(), getMaxBatchParameters(), noCache);
+        }
+
+        this.upsertBuilder = new SqlUpsertBuilder(insert, getIds(), updates, getVersion(), getDialect(), getUpsertCache());
     }
 
     /**
@@ -168,11 +455,13 @@ public class BaseProvider<T> {
      * @see #setSelectOne
      * @see #setInsertOne
      * @see #setDeleteOne
+     * @see #setSelectLazy
      */
     public void setCaches() {
         setSelectOne();
         setInsertOne();
         setDeleteOne();
+        setSelectLazy();
     }
 
     /**
@@ -185,21 +474,50 @@ public class BaseProvider<T> {
      * Initialize {@link #selectOne}
      */
     public void setSelectOne() {
-        this.selectOne = buildSelectOne().toString();
+        this.selectOne = isMetaSql() ? meta.getSelectOne() : selectBuilder.selectOneSql();
     }
 
     /**
      * Initialize {@link #insertOne}
      */
     public void setInsertOne() {
-        this.insertOne = buildInsertOne().toString();
+        this.insertOne = isMetaSql() ? meta.getInsertOne() : insertBuilder.insertOneSql();
     }
 
     /**
      * Initialize {@link #deleteOne}
      */
     public void setDeleteOne() {
-        this.deleteOne = buildDeleteOne().toString();
+        this.deleteOne = isMetaSql() ? meta.getDeleteOne() : deleteBuilder.deleteOneSql();
+    }
+
+    /**
+     * Initialize {@link #selectLazy}, null if no lazy column
+     */
+    public void setSelectLazy() {
+        List<TagResult> lazy = getLazyElements();
+        if (lazy == null || lazy.isEmpty()) {
+            this.selectLazy = null;
+            return;
+        }
+
+        this.selectLazy = newSelectLazyBuilder().selectOneSql();
+    }
+
+    /**
+     * the precomputed sql of {@link #meta} is valid ? it's rendered from the parsed properties, unquoted
+     *
+     * @return {@code false} if no meta, quoting, or the properties are changed
+     */
+    public boolean isMetaSql() {
+        return meta != null &&
+                !isQuoting() &&
+                getElements() == resultMap.getElements() &&
+                Objects.equals(getTable(), meta.getTable()) &&
+                Arrays.equals(getColumns(), meta.getColumns()) &&
+                Arrays.equals(getWhereId(), meta.getWhereId()) &&
+                Objects.equals(getWhereLive(), SqlSegment.getLive(meta.getLogicalDelete(), meta.getLiveValue())) &&
+                Objects.equals(getSetDelete(), SqlSegment.getDelete(meta.getLogicalDelete(), meta.getDeletedValue()));
     }
 
     /**
@@ -212,7 +530,15 @@ public class BaseProvider<T> {
      * @return SELECT column, column FROM table WHERE column = #{property} ORDER BY column ASC, column DESC LIMIT startRow, pageSize
      */
     public String selectList(String[] conditions, String[] orders, Long startRow, Integer pageSize) {
-        return buildSelectList(conditions, orders, startRow, pageSize).toString();
+        SqlLruCache<List<Object>> cache = getSelectListCache();
+        if (cache == null) {
+            long start = renderStart();
+            return rendered("selectList", selectBuilder.selectListSql(conditions, orders, startRow, pageSize), start);
+        }
+
+        List<Object> key = getSelectCacheKey(conditions, orders, startRow, pageSize);
+        long start = renderStart();
+        return rendered("selectList", cache.get(key, x -> selectBuilder.selectListSql(conditions, orders, startRow, pageSize)), start);
     }
 
     /**
@@ -236,7 +562,15 @@ public class BaseProvider<T> {
      * @return SELECT COUNT(*) AS aggregate FROM table WHERE column = #{property,jdbcType=JDBC_TYPE}
      */
     public String selectCount(String[] conditions) {
-        return buildSelectCount(conditions).toString();
+        SqlLruCache<List<Object>> cache = getSelectCountCache();
+        if (cache == null) {
+            long start = renderStart();
+            return rendered("selectCount", selectBuilder.selectCountSql(conditions), start);
+        }
+
+        List<Object> key = getSelectCacheKey(conditions, null, null, null);
+        long start = renderStart();
+        return rendered("selectCount", cache.get(key, x -> selectBuilder.selectCountSql(conditions)), start);
     }
 
     /**
@@ -250,13 +584,45 @@ public class BaseProvider<T> {
         return selectBuilder.selectCount(conditions);
     }
 
+    /**
+     * SELECT CAPPED COUNT, the exact count up to cap, e.g. "10000+" of a paging bar
+     * stops scanning at #{cap} rows, so the cost is bounded by the cap, not the table
+     *
+     * @param conditions the conditions, the mapper's parameter must be named "conditions"
+     * @param cap        the max rows counted, bound by #{cap}, the mapper's parameter must be named "cap"
+     * @return SELECT COUNT(*) AS aggregate FROM (SELECT 1 FROM table WHERE column = #{property} LIMIT #{cap}) t_
+     */
+    public String selectCappedCount(@Param(SqlSelectBuilder.CONDITIONS_PARAM) String[] conditions,
+                                    @Param(SqlSelectBuilder.CAP_PARAM) long cap) {
+        if (cap <= 0) {
+            throw new IllegalArgumentException("cap must be positive, cap: " + cap);
+        }
+
+        long start = renderStart();
+        return rendered("selectCappedCount", selectBuilder.selectCappedCountSql(conditions), start);
+    }
+
+    /**
+     * SELECT ESTIMATED COUNT, the rows of the table in the catalog statistics, by the dialect, no scan
+     * as fresh as the last ANALYZE, the logically deleted rows are counted, the conditions aren't supported
+     *
+     * @return SELECT TABLE_ROWS AS aggregate FROM information_schema.TABLES WHERE TABLE_NAME = 'table'
+     * @throws UnsupportedOperationException if the dialect is unsupported
+     * @see Dialect#estimatedCount
+     */
+    public String selectEstimatedCount() {
+        long start = renderStart();
+        return rendered("selectEstimatedCount", getDialect().estimatedCount(resultMap.getTable()), start);
+    }
+
     /**
      * SELECT ONE
      *
      * @return SELECT column, column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
      */
     public String selectOne() {
-        return selectOne;
+        long start = renderStart();
+        return rendered("selectOne", selectOne, start);
     }
 
     /**
@@ -270,86 +636,1033 @@ public class BaseProvider<T> {
     }
 
     /**
-     * INSERT ONE
+     * SELECT LAZY, the ids And the lazy columns of a row, by the ResultMap of the java bean
+     * e.g. the BLOB Or the TEXT columns omitted from the other selects
      *
-     * @return INSERT INTO table (column, column) VALUES (#{property,jdbcType=JDBC_TYPE}, #{property})
+     * @return SELECT id, lazy_column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @throws UnsupportedOperationException if no lazy column
      */
-    public String insertOne() {
-        return insertOne;
+    public String selectLazy() {
+        if (selectLazy == null) {
+            throw new UnsupportedOperationException("selectLazy requires the lazy columns");
+        }
+
+        long start = renderStart();
+        return rendered("selectLazy", selectLazy, start);
     }
 
     /**
-     * INSERT ONE
+     * SELECT LAZY
      *
-     * @return INSERT INTO table (column, column) VALUES (#{property,jdbcType=JDBC_TYPE}, #{property})
-     * @see SqlBuilder.SqlInsert#insertOne
+     * @return SELECT id, lazy_column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @see SqlBuilder.SqlSelect#selectOne
      */
-    public SQL buildInsertOne() {
-        return insertBuilder.insertOne();
+    public SQL buildSelectLazy() {
+        return newSelectLazyBuilder().selectOne();
     }
 
     /**
-     * UPDATE ONE
+     * the select builder of the ids And the lazy columns
      *
-     * @param record the POJO
-     * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @return SqlBuilder.SqlSelect
      */
-    public String updateOne(T record) {
-        return buildUpdateOne(record).toString();
+    protected SqlBuilder.SqlSelect newSelectLazyBuilder() {
+        List<TagResult> lazy = new ArrayList<>(getIds());
+        lazy.addAll(getLazyElements());
+
+        return newSelectBuilder(SqlSegment.getColumns(lazy), null, null);
     }
 
     /**
-     * UPDATE ONE
+     * SELECT LIST of the properties only, e.g. the columns of a list page
+     * the mapper's parameters must be named "properties", "conditions", "orders", "startRow" And "pageSize"
+     * the rows are mapped by the ResultMap of the java bean, Or of a projection class, e.g. {@link ResultMapUtils#addProjection}
      *
-     * @param record the POJO
-     * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
-     * @see SqlBuilder.SqlUpdate#updateOne
+     * @param properties the java field names, e.g. {@link #getProjection(Class)}
+     * @param conditions the conditions
+     * @param orders     ORDER BY column ASC, column DESC
+     * @param startRow   LIMIT startRow, 10
+     * @param pageSize   LIMIT 0, pageSize
+     * @return SELECT column, column FROM table WHERE column = #{property} ORDER BY column ASC, column DESC LIMIT startRow, pageSize
      */
-    public SQL buildUpdateOne(T record) {
-        return updateBuilder.updateOne(record);
+    public String selectProjection(@Param(SqlSelectBuilder.PROPERTIES_PARAM) String[] properties,
+                                   @Param(SqlSelectBuilder.CONDITIONS_PARAM) String[] conditions,
+                                   @Param(SqlSelectBuilder.ORDERS_PARAM) String[] orders,
+                                   @Param(SqlSelectBuilder.START_ROW_PARAM) Long startRow,
+                                   @Param(SqlSelectBuilder.PAGE_SIZE_PARAM) Integer pageSize) {
+        long start = renderStart();
+        return rendered("selectProjection", newProjectionBuilder(properties).selectListSql(conditions, orders, startRow, pageSize), start);
     }
 
     /**
-     * DELETE ONE
+     * SELECT LIST of the properties only
      *
-     * @return DELETE FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @param properties the java field names
+     * @param conditions the conditions
+     * @param orders     ORDER BY column ASC, column DESC
+     * @param startRow   LIMIT startRow, 10
+     * @param pageSize   LIMIT 0, pageSize
+     * @return SELECT column, column FROM table WHERE column = #{property} ORDER BY column ASC, column DESC LIMIT startRow, pageSize
+     * @see SqlBuilder.SqlSelect#selectList
      */
-    public String deleteOne() {
-        return deleteOne;
+    public SQL buildSelectProjection(String[] properties, String[] conditions, String[] orders, Long startRow, Integer pageSize) {
+        return newProjectionBuilder(properties).selectList(conditions, orders, startRow, pageSize);
     }
 
     /**
-     * DELETE ONE
+     * SELECT ONE of the properties only, cached by the properties
+     * the mapper's parameters must be named "properties" And "id"
      *
-     * @return DELETE FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
-     * @see SqlBuilder.SqlDelete#deleteOne
+     * @param properties the java field names, e.g. {@link #getProjection(Class)}
+     * @return SELECT column, column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
      */
-    public SQL buildDeleteOne() {
-        return deleteBuilder.deleteOne();
+    public String selectOneProjection(@Param(SqlSelectBuilder.PROPERTIES_PARAM) String[] properties) {
+        Objects.requireNonNull(properties, "properties can't be null");
+
+        long start = renderStart();
+        return rendered("selectOneProjection", getSelectOneProjectionCache().
+                get(Arrays.asList(properties.clone()), x -> newProjectionBuilder(properties).selectOneSql()), start);
     }
 
-    public TagResultMap getResultMap() {
-        return resultMap;
+    /**
+     * SELECT ONE of the properties only
+     *
+     * @param properties the java field names
+     * @return SELECT column, column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @see SqlBuilder.SqlSelect#selectOne
+     */
+    public SQL buildSelectOneProjection(String[] properties) {
+        return newProjectionBuilder(properties).selectOne();
     }
 
-    public String getTable() {
-        return table;
+    /**
+     * the select builder of the properties only, SELECT BY IDS unsupported
+     *
+     * @param properties the java field names
+     * @return SqlBuilder.SqlSelect
+     */
+    protected SqlBuilder.SqlSelect newProjectionBuilder(String[] properties) {
+        String[] projection = {getProjectionColumns(properties)};
+        return newSelectBuilder(projection, null, null);
     }
 
-    public List<TagResult> getElements() {
-        return elements;
+    /**
+     * the column names of the properties, joined, cached by the properties
+     *
+     * @param properties the java field names
+     * @return e.g. id, city_name
+     * @throws IllegalArgumentException if a property isn't found
+     */
+    public String getProjectionColumns(String[] properties) {
+        Objects.requireNonNull(properties, "properties can't be null");
+
+        if (properties.length == 0) {
+            throw new IllegalArgumentException("properties can't be empty");
+        }
+
+        return getProjectionCache().get(Arrays.asList(properties.clone()),
+                x -> String.join(", ", SqlSegment.getColumns(TagResultFilter.filterProperty(getElements(), properties))));
     }
 
-    public List<TagResult> getIds() {
-        return ids;
+    /**
+     * the properties of the projection class
+     *
+     * @param projection the class of the &#064;MybatisResult fields, a subset of the java bean's
+     * @return [ property, property ]
+     * @see TagProjectionParser#getProperties
+     */
+    public String[] getProjection(Class<?> projection) {
+        return TagProjectionParser.getProperties(projection);
     }
 
-    public String[] getColumns() {
-        return columns;
+    /**
+     * SELECT KEYSET
+     *
+     * @param conditions the conditions, the mapper's parameter must be named "conditions"
+     * @param cursor     the keyset cursor, the mapper's parameter must be named "cursor"
+     * @return SELECT column, column FROM table WHERE column = #{property} AND (key, key) &gt; (#{cursor.values[0]}, #{cursor.values[1]}) ORDER BY key ASC, key ASC LIMIT #{cursor.pageSize}
+     */
+    public String selectKeyset(@Param(SqlSelectBuilder.CONDITIONS_PARAM) String[] conditions,
+                               @Param(SqlSelectBuilder.CURSOR_PARAM) KeysetCursor cursor) {
+        Objects.requireNonNull(cursor, "cursor can't be null");
+
+        long start = renderStart();
+        return rendered("selectKeyset", selectBuilder.selectKeysetSql(conditions, cursor.isFirst(), cursor.isDescending()), start);
     }
 
-    public String[] getWhereId() {
-        return whereId;
+    /**
+     * SELECT KEYSET
+     *
+     * @param conditions the conditions
+     * @param first      the first page ? no seek condition if true
+     * @param descending ORDER BY key DESC ?
+     * @return SELECT column, column FROM table WHERE column = #{property} AND (key, key) &gt; (#{cursor.values[0]}, #{cursor.values[1]}) ORDER BY key ASC, key ASC LIMIT #{cursor.pageSize}
+     * @see SqlBuilder.SqlSelect#selectKeyset
+     */
+    public SQL buildSelectKeyset(String[] conditions, boolean first, boolean descending) {
+        return selectBuilder.selectKeyset(conditions, first, descending);
+    }
+
+    /**
+     * SELECT SCAN, a chunk of a full-table scan read by a mybatis {@link Cursor}
+     * delegates to {@link #selectKeyset}, chunked by the cursor's page size, e.g. {@link #scan}
+     *
+     * <pre>
+     * &#64;SelectProvider(type = CityProvider.class, method = "selectScan")
+     * &#64;ResultMap("BaseResultMap")
+     * &#64;Options(fetchSize = BaseProvider.DEFAULT_FETCH_SIZE, resultSetType = ResultSetType.FORWARD_ONLY)
+     * Cursor&lt;City&gt; selectScan(@Param("conditions") String[] conditions, @Param("cursor") KeysetCursor cursor);
+     * </pre>
+     *
+     * @param conditions the conditions, the mapper's parameter must be named "conditions"
+     * @param cursor     the keyset cursor, the mapper's parameter must be named "cursor"
+     * @return SELECT column, column FROM table WHERE column = #{property} AND (key, key) &gt; (#{cursor.values[0]}, #{cursor.values[1]}) ORDER BY key ASC, key ASC LIMIT #{cursor.pageSize}
+     */
+    public String selectScan(@Param(SqlSelectBuilder.CONDITIONS_PARAM) String[] conditions,
+                             @Param(SqlSelectBuilder.CURSOR_PARAM) KeysetCursor cursor) {
+        return selectKeyset(conditions, cursor);
+    }
+
+    /**
+     * scan all rows, chunk by chunk, each chunk is a short query read by a mybatis {@link Cursor}
+     * a chunk seeks after the sort keys of the last row, so no long transaction And no OFFSET
+     *
+     * <pre>
+     * long rows = provider.scan(10000, cursor -&gt; cityMapper.selectScan(conditions, cursor), city -&gt; ...);
+     * </pre>
+     *
+     * @param chunkSize the rows of a chunk, LIMIT chunkSize
+     * @param query     open the Cursor of a chunk, e.g. mapper::selectScan
+     * @param action    consume a row
+     * @return the number of the scanned rows
+     */
+    public long scan(int chunkSize, Function<KeysetCursor, Cursor<T>> query, Consumer<? super T> action) {
+        Objects.requireNonNull(query, "query can't be null");
+        Objects.requireNonNull(action, "action can't be null");
+
+        long result = 0;
+        KeysetCursor cursor = KeysetCursor.first(chunkSize);
+
+        while (cursor != null) {
+            T last = null;
+            int rows = 0;
+
+            try (Cursor<T> chunk = query.apply(cursor)) {
+                for (T row : chunk) {
+                    action.accept(row);
+                    last = row;
+                    rows++;
+                }
+            } catch (IOException tr) {
+                throw new RuntimeException(tr);
+            }
+
+            result += rows;
+            cursor = (last == null || rows < chunkSize) ? null : cursor.next(getSortKeyValues(last));
+        }
+
+        return result;
+    }
+
+    /**
+     * SELECT BY IDS
+     * split And pad the ids by {@link #getSelectByIdsSize()} first, e.g. {@link BatchUtils#selectByIds}
+     *
+     * @param ids the ids, the id POJO if more than one id column, the mapper's parameter must be named "ids"
+     * @return SELECT column, column FROM table WHERE id IN (#{ids[0],jdbcType=JDBC_TYPE}, #{ids[1],jdbcType=JDBC_TYPE})
+     */
+    public String selectByIds(@Param(SqlSelectBuilder.IDS_PARAM) List<?> ids) {
+        Objects.requireNonNull(ids, "ids can't be null");
+
+        long start = renderStart();
+        return rendered("selectByIds", selectBuilder.selectByIdsSql(ids.size()), start);
+    }
+
+    /**
+     * SELECT BY IDS
+     *
+     * @param size the number of ids
+     * @return SELECT column, column FROM table WHERE id IN (#{ids[0],jdbcType=JDBC_TYPE}, #{ids[1],jdbcType=JDBC_TYPE})
+     * @see SqlBuilder.SqlSelect#selectByIds
+     */
+    public SQL buildSelectByIds(int size) {
+        return selectBuilder.selectByIds(size);
+    }
+
+    /**
+     * the max ids of a SELECT BY IDS
+     *
+     * @return min(maxIds, maxBatchParameters / id columns)
+     * @see SqlBuilder.SqlSelect#getMaxIds
+     */
+    public int getSelectByIdsSize() {
+        return selectBuilder.getMaxIds();
+    }
+
+    /**
+     * the cursor of the page after this page
+     *
+     * @param cursor the cursor of this page
+     * @param page   the rows of this page
+     * @return null if this page is the last
+     */
+    public KeysetCursor nextCursor(KeysetCursor cursor, List<T> page) {
+        Objects.requireNonNull(cursor, "cursor can't be null");
+
+        if (page == null || page.size() < cursor.getPageSize()) {
+            return null;
+        }
+
+        T last = page.get(page.size() - 1);
+        return cursor.next(getSortKeyValues(last));
+    }
+
+    /**
+     * the sort key values of the record
+     *
+     * @param record the POJO
+     * @return [ value, value ]
+     */
+    public Object[] getSortKeyValues(T record) {
+        Objects.requireNonNull(record, "record can't be null");
+
+        List<TagResult> keys = getSortKeys();
+        Object[] result = new Object[keys.size()];
+
+        try {
+            for (int i = 0; i < result.length; i++) {
+                result[i] = TagResultFilter.getValue(keys.get(i), record);
+            }
+        } catch (IllegalAccessException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        return result;
+    }
+
+    /**
+     * INSERT ONE
+     *
+     * @return INSERT INTO table (column, column) VALUES (#{property,jdbcType=JDBC_TYPE}, #{property})
+     */
+    public String insertOne() {
+        long start = renderStart();
+        return rendered("insertOne", insertOne, start);
+    }
+
+    /**
+     * INSERT ONE
+     *
+     * @return INSERT INTO table (column, column) VALUES (#{property,jdbcType=JDBC_TYPE}, #{property})
+     * @see SqlBuilder.SqlInsert#insertOne
+     */
+    public SQL buildInsertOne() {
+        return insertBuilder.insertOne();
+    }
+
+    /**
+     * INSERT BATCH
+     * split the records by {@link #getInsertBatchSize()} first, e.g. {@link BatchUtils#execute}
+     *
+     * @param list the POJO list, the mapper's parameter must be named "list"
+     * @return INSERT INTO table (column, column) VALUES (#{list[0].property,jdbcType=JDBC_TYPE}, #{list[0].property}), (#{list[1].property,jdbcType=JDBC_TYPE}, #{list[1].property})
+     */
+    public String insertBatch(@Param(SqlInsertBuilder.BATCH_PARAM) List<T> list) {
+        Objects.requireNonNull(list, "list can't be null");
+
+        long start = renderStart();
+        return rendered("insertBatch", insertBuilder.insertBatchSql(list.size()), start);
+    }
+
+    /**
+     * INSERT BATCH
+     *
+     * @param rows the number of rows
+     * @return INSERT INTO table (column, column) VALUES (#{list[0].property,jdbcType=JDBC_TYPE}, #{list[0].property}), (#{list[1].property,jdbcType=JDBC_TYPE}, #{list[1].property})
+     * @see SqlBuilder.SqlInsert#insertBatch
+     */
+    public SQL buildInsertBatch(int rows) {
+        return insertBuilder.insertBatch(rows);
+    }
+
+    /**
+     * the max rows of an INSERT BATCH
+     *
+     * @return min(maxBatchRows, maxBatchParameters / columns)
+     * @see SqlBuilder.SqlInsert#getBatchSize
+     */
+    public int getInsertBatchSize() {
+        return insertBuilder.getBatchSize();
+    }
+
+    /**
+     * UPSERT ONE, insert the record, or update the columns other than the ids if the ids exist
+     *
+     * @param record the POJO, all ids must be set
+     * @return INSERT INTO table (id, column) VALUES (#{id}, #{property}) ON DUPLICATE KEY UPDATE column = VALUES(column)
+     * @throws IllegalArgumentException if an id of the record is Null
+     * @see SqlBuilder.SqlUpsert#upsertOneSql
+     */
+    public String upsertOne(T record) {
+        checkUpsertIds(record);
+
+        long start = renderStart();
+        return rendered("upsertOne", upsertBuilder.upsertOneSql(), start);
+    }
+
+    /**
+     * UPSERT BATCH
+     * split the records by {@link #getUpsertBatchSize()} first, e.g. {@link BatchUtils#execute}
+     *
+     * @param list the POJO list, the mapper's parameter must be named "list", all ids must be set
+     * @return INSERT INTO table (id, column) VALUES (#{list[0].id}, #{list[0].property}), (#{list[1].id}, #{list[1].property}) ON DUPLICATE KEY UPDATE column = VALUES(column)
+     * @throws IllegalArgumentException if an id of a record is Null
+     * @see SqlBuilder.SqlUpsert#upsertBatchSql
+     */
+    public String upsertBatch(@Param(SqlInsertBuilder.BATCH_PARAM) List<T> list) {
+        Objects.requireNonNull(list, "list can't be null");
+
+        for (T record : list) {
+            checkUpsertIds(record);
+        }
+
+        long start = renderStart();
+        return rendered("upsertBatch", upsertBuilder.upsertBatchSql(list.size()), start);
+    }
+
+    /**
+     * the max rows of an UPSERT BATCH
+     *
+     * @return min(maxBatchRows, maxBatchParameters / columns)
+     * @see SqlBuilder.SqlUpsert#getBatchSize
+     */
+    public int getUpsertBatchSize() {
+        return upsertBuilder.getBatchSize();
+    }
+
+    /**
+     * the insert half of an upsert names all ids, a Null id never conflicts, And a Null auto increment id isn't generated
+     *
+     * @param record the POJO
+     * @throws IllegalArgumentException if an id of the record is Null
+     */
+    private void checkUpsertIds(T record) {
+        Objects.requireNonNull(record, "record can't be null");
+
+        try {
+            for (TagResult id : getIds()) {
+                if (TagResultFilter.getValue(id, record) == null) {
+                    throw new IllegalArgumentException("upsert requires the ids, id can't be null, property: " + id.getProperty());
+                }
+            }
+        } catch (IllegalAccessException tr) {
+            throw new RuntimeException(tr);
+        }
+    }
+
+    /**
+     * UPDATE ONE, AND version = #{version} if versioned, e.g. {@link #updateVersion}
+     *
+     * @param record the POJO
+     * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
+     */
+    public String updateOne(T record) {
+        long start = renderStart();
+        return rendered("updateOne", updateBuilder.updateOneSql(record), start);
+    }
+
+    /**
+     * UPDATE ONE
+     *
+     * @param record the POJO
+     * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @see SqlBuilder.SqlUpdate#updateOne
+     */
+    public SQL buildUpdateOne(T record) {
+        return updateBuilder.updateOne(record);
+    }
+
+    /**
+     * UPDATE ONE of a versioned record, the version of the record is increased if updated
+     *
+     * <pre>
+     * if (!provider.updateVersion(cityMapper::updateOne, city)) {
+     *     // conflicted, reload And retry
+     * }
+     * </pre>
+     *
+     * @param update the UPDATE ONE, e.g. mapper::updateOne
+     * @param record the POJO, with the version read
+     * @return {@code false} if conflicted, the version is changed by others Or the row is deleted
+     * @throws UnsupportedOperationException if unversioned, Or no reflect Field of the version in strict mode
+     */
+    public boolean updateVersion(ToIntFunction<T> update, T record) {
+        Objects.requireNonNull(update, "update can't be null");
+        Objects.requireNonNull(record, "record can't be null");
+
+        TagResult v = getVersion();
+        if (v == null) {
+            throw new UnsupportedOperationException("updateVersion requires a @MybatisResult(version = true) column");
+        }
+
+        Field field = getVersionField(v);
+
+        if (update.applyAsInt(record) <= 0) {
+            return false;
+        }
+
+        try {
+            Object value = field.get(record);
+            if (value != null) {
+                field.set(record, increase(value));
+            }
+        } catch (IllegalAccessException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        return true;
+    }
+
+    /**
+     * UPDATE BATCH, a single statement by CASE id WHEN, the Null properties of a row are kept
+     * the version of each row is checked if versioned, the affected rows are less than the records if conflicted
+     * split the records by {@link #getUpdateBatchSize()} first, e.g. {@link BatchUtils#execute}
+     *
+     * @param list the POJO list, the mapper's parameter must be named "list"
+     * @return UPDATE table SET column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END WHERE id IN (#{list[0].id})
+     * @throws IllegalArgumentException if unversioned And all properties of all records are Null
+     */
+    public String updateBatch(@Param(SqlUpdateBuilder.BATCH_PARAM) List<T> list) {
+        Objects.requireNonNull(list, "list can't be null");
+
+        long start = renderStart();
+        return rendered("updateBatch", updateBuilder.updateBatchSql(list), start);
+    }
+
+    /**
+     * UPDATE BATCH
+     *
+     * @param records the POJO list
+     * @return UPDATE table SET column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END WHERE id IN (#{list[0].id})
+     * @see SqlBuilder.SqlUpdate#updateBatch
+     */
+    public SQL buildUpdateBatch(List<T> records) {
+        return updateBuilder.updateBatch(records);
+    }
+
+    /**
+     * the max rows of an UPDATE BATCH
+     *
+     * @return min(maxBatchRows, maxBatchParameters / parameters per row)
+     * @see SqlBuilder.SqlUpdate#getBatchSize
+     */
+    public int getUpdateBatchSize() {
+        return updateBuilder.getBatchSize();
+    }
+
+    /**
+     * group the records by the Non-Null shape, in the order of first appearance
+     * the records of a group have the same UPDATE ONE sql, so ExecutorType.BATCH sends a group as one JDBC batch
+     *
+     * @param records the POJO list
+     * @return [ [ record, record ], [ record ] ]
+     */
+    public List<List<T>> groupByShape(List<T> records) {
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Object, List<T>> result = new LinkedHashMap<>();
+
+        try {
+            for (T record : records) {
+                Object shape = updateBuilder.getShape(record);
+                result.computeIfAbsent(shape, x -> new ArrayList<>()).add(record);
+            }
+        } catch (IllegalAccessException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        return new ArrayList<>(result.values());
+    }
+
+    /**
+     * DELETE ONE, UPDATE table SET deleted = 1 WHERE id if logical delete
+     *
+     * @return DELETE FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     */
+    public String deleteOne() {
+        long start = renderStart();
+        return rendered("deleteOne", deleteOne, start);
+    }
+
+    /**
+     * DELETE ONE
+     *
+     * @return DELETE FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     * @see SqlBuilder.SqlDelete#deleteOne
+     */
+    public SQL buildDeleteOne() {
+        return deleteBuilder.deleteOne();
+    }
+
+    /**
+     * DELETE WHERE, a chunk of at most #{chunkSize} rows, deleted physically, executed until none is left
+     * each chunk is a short transaction, so the locks And the replica lag are bounded, e.g. {@link BatchUtils#deleteChunks}
+     * rejected if logical delete, a physical delete would skip it, the deleted rows are purged by {@link #selectPurge}
+     *
+     * @param conditions the conditions, not empty, the mapper's parameter must be named "conditions"
+     * @param chunkSize  the max rows of a chunk, bound by #{chunkSize}, the mapper's parameter must be named "chunkSize"
+     * @return DELETE FROM table WHERE (column = #{property}) LIMIT #{chunkSize}, Or by an id subselect, e.g. PostgreSQL
+     * @throws UnsupportedOperationException if logical delete
+     */
+    public String deleteWhere(@Param(SqlSelectBuilder.CONDITIONS_PARAM) String[] conditions,
+                              @Param(SqlDeleteBuilder.CHUNK_SIZE_PARAM) int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive, chunkSize: " + chunkSize);
+        }
+
+        long start = renderStart();
+        return rendered("deleteWhere", deleteBuilder.deleteWhereSql(conditions), start);
+    }
+
+    /**
+     * SELECT PURGE, the ids of a page of the logically deleted rows, the first step of a purge
+     * the mapper's parameter must be named "pageSize", e.g. {@link BatchUtils#purge}
+     *
+     * @return SELECT id FROM table WHERE deleted = 1 LIMIT #{pageSize}
+     * @throws UnsupportedOperationException if deleted physically
+     */
+    public String selectPurge() {
+        long start = renderStart();
+        return rendered("selectPurge", deleteBuilder.selectPurgeSql(), start);
+    }
+
+    /**
+     * SELECT PURGE
+     *
+     * @return SELECT id FROM table WHERE deleted = 1 LIMIT #{pageSize}
+     * @see SqlBuilder.SqlDelete#selectPurge
+     */
+    public SQL buildSelectPurge() {
+        return deleteBuilder.selectPurge();
+    }
+
+    /**
+     * PURGE BATCH, delete the selected rows physically, the rows revived meanwhile are kept
+     * at most {@link #getPurgeBatchSize()} rows, e.g. {@link BatchUtils#purge}
+     *
+     * @param list the selected POJO list, the mapper's parameter must be named "list"
+     * @return DELETE FROM table WHERE (deleted = 1 AND id IN (#{list[0].id,jdbcType=JDBC_TYPE}))
+     */
+    public String purgeBatch(@Param(SqlDeleteBuilder.BATCH_PARAM) List<T> list) {
+        Objects.requireNonNull(list, "list can't be null");
+
+        long start = renderStart();
+        return rendered("purgeBatch", deleteBuilder.purgeBatchSql(list.size()), start);
+    }
+
+    /**
+     * PURGE BATCH
+     *
+     * @param rows the number of rows
+     * @return DELETE FROM table WHERE (deleted = 1 AND id IN (#{list[0].id,jdbcType=JDBC_TYPE}))
+     * @see SqlBuilder.SqlDelete#purgeBatch
+     */
+    public SQL buildPurgeBatch(int rows) {
+        return deleteBuilder.purgeBatch(rows);
+    }
+
+    /**
+     * the max rows of a PURGE BATCH
+     *
+     * @return min(maxBatchRows, maxBatchParameters / ids)
+     * @see SqlBuilder.SqlDelete#getBatchSize
+     */
+    public int getPurgeBatchSize() {
+        return deleteBuilder.getBatchSize();
+    }
+
+    /**
+     * the start of a rendering, read before the sql is rendered
+     *
+     * @return System.nanoTime(), 0 if {@link #metrics} is disabled
+     */
+    protected long renderStart() {
+        SqlMetrics m = getMetrics();
+        return m != null && m.isEnabled() ? System.nanoTime() : 0L;
+    }
+
+    /**
+     * record the rendered sql to {@link #metrics}, nothing is recorded if the start is 0
+     * the time of a cached sql is the time of the lookup
+     *
+     * @param operation the Provider method, e.g. selectList
+     * @param sql       the rendered sql
+     * @param start     {@link #renderStart()}
+     * @return the sql
+     */
+    protected String rendered(String operation, String sql, long start) {
+        if (start != 0L) {
+            getMetrics().record(resultMap.getType(), operation, sql, System.nanoTime() - start);
+        }
+
+        return sql;
+    }
+
+    public TagResultMap getResultMap() {
+        return resultMap;
+    }
+
+    public ProviderMeta<?> getMeta() {
+        return meta;
+    }
+
+    public String getTable() {
+        return table;
+    }
+
+    public List<TagResult> getElements() {
+        return elements;
+    }
+
+    public List<TagResult> getIds() {
+        return ids;
+    }
+
+    public List<TagResult> getLazyElements() {
+        return lazyElements;
+    }
+
+    public TagResult getVersion() {
+        return version;
+    }
+
+    public String[] getColumns() {
+        return columns;
+    }
+
+    public String[] getWhereId() {
+        return whereId;
+    }
+
+    public String getWhereLive() {
+        return whereLive;
+    }
+
+    public String getSetDelete() {
+        return setDelete;
+    }
+
+    public String getWhereDeleted() {
+        return whereDeleted;
+    }
+
+    public List<TagResult> getSortKeys() {
+        return sortKeys;
+    }
+
+    public int getMaxBatchRows() {
+        return maxBatchRows;
+    }
+
+    public int getMaxBatchParameters() {
+        return maxBatchParameters;
+    }
+
+    public int getMaxIds() {
+        return maxIds;
+    }
+
+    public SqlRenderer getRenderer() {
+        return renderer;
+    }
+
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    public boolean isQuoting() {
+        return quoting;
+    }
+
+    public SqlMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * the cache name, the quoted sql is cached apart per dialect, the quotes differ
+     *
+     * @param name the cache name, e.g. updateOne
+     * @return e.g. updateOne, updateOne.mysql.quoted
+     */
+    public String getCacheName(String name) {
+        return isQuoting() ? getDialectCacheName(name) : name;
+    }
+
+    /**
+     * the cache name of the dialect, the quoted sql is cached apart
+     *
+     * @param name the cache name, e.g. upsert
+     * @return e.g. upsert.mysql, upsert.mysql.quoted
+     */
+    public String getDialectCacheName(String name) {
+        String result = name + "." + getDialect().getName();
+        return isQuoting() ? result + ".quoted" : result;
+    }
+
+    /**
+     * the cache of this Provider class And the java bean, shared by all instances
+     *
+     * @param name    the cache name, e.g. updateOne
+     * @param maxSize the max size, used in creating only
+     * @param <K>     the type of the cache key
+     * @return SqlCache
+     */
+    protected <K> SqlCache<K> getCache(String name, int maxSize) {
+        return SqlCaches.get(getClass(), resultMap.getType(), getCacheName(name), maxSize);
+    }
+
+    /**
+     * the UPDATE ONE cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ Non-Null shape : UPDATE ONE sql ]
+     */
+    public SqlCache<Object> getUpdateOneCache() {
+        return getCache(UPDATE_ONE_CACHE, SqlCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * the INSERT BATCH cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ rows : INSERT BATCH sql ]
+     */
+    public SqlCache<Integer> getInsertBatchCache() {
+        return getCache(INSERT_BATCH_CACHE, SqlInsertBuilder.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * the SELECT BY IDS cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ size : SELECT BY IDS sql ]
+     */
+    public SqlCache<Integer> getSelectByIdsCache() {
+        return getCache(SELECT_BY_IDS_CACHE, SqlSelectBuilder.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * the projection columns cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ properties : column, column ]
+     */
+    public SqlCache<List<String>> getProjectionCache() {
+        return getCache(PROJECTION_CACHE, SqlCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * the SELECT ONE projection cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ properties : SELECT ONE sql ]
+     */
+    public SqlCache<List<String>> getSelectOneProjectionCache() {
+        return getCache(SELECT_ONE_PROJECTION_CACHE, SqlCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * the UPSERT cache of the dialect, shared by all instances of this Provider class And java bean
+     *
+     * @return [ ONE or rows : UPSERT sql ]
+     */
+    public SqlCache<Integer> getUpsertCache() {
+        return SqlCaches.get(getClass(), resultMap.getType(), getDialectCacheName(UPSERT_CACHE), SqlInsertBuilder.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * the SELECT LIST cache of the dialect, shared by all instances of this Provider class And java bean
+     *
+     * @return [ [ conditions, orders, startRow, pageSize ] : SELECT LIST sql ], null if {@link #selectCacheSize} is 0
+     */
+    public SqlLruCache<List<Object>> getSelectListCache() {
+        return getSelectCache(SELECT_LIST_CACHE);
+    }
+
+    /**
+     * the SELECT COUNT cache of the dialect, shared by all instances of this Provider class And java bean
+     *
+     * @return [ [ conditions, null, null, null ] : SELECT COUNT sql ], null if {@link #selectCacheSize} is 0
+     */
+    public SqlLruCache<List<Object>> getSelectCountCache() {
+        return getSelectCache(SELECT_COUNT_CACHE);
+    }
+
+    /**
+     * the SELECT cache of the dialect, the size And the weight of the first caller are kept
+     *
+     * @param prefix the name prefix, e.g. selectList
+     * @return SqlLruCache, null if {@link #selectCacheSize} is 0
+     */
+    protected SqlLruCache<List<Object>> getSelectCache(String prefix) {
+        if (selectCacheSize <= 0) {
+            return null;
+        }
+
+        return SqlCaches.getLru(getClass(), resultMap.getType(), getDialectCacheName(prefix), selectCacheSize, selectCacheWeight);
+    }
+
+    /**
+     * the key of the SELECT caches, the paging values are rendered into the sql, so they are part of the key
+     *
+     * @param conditions the conditions, copied
+     * @param orders     the orders, copied
+     * @param startRow   LIMIT startRow, 10
+     * @param pageSize   LIMIT 0, pageSize
+     * @return [ conditions, orders, startRow, pageSize ]
+     */
+    protected List<Object> getSelectCacheKey(String[] conditions, String[] orders, Long startRow, Integer pageSize) {
+        return Arrays.asList(
+                conditions != null ? Arrays.asList(conditions.clone()) : null,
+                orders != null ? Arrays.asList(orders.clone()) : null,
+                startRow,
+                pageSize);
+    }
+
+    /**
+     * the PURGE BATCH cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ rows : PURGE BATCH sql ]
+     */
+    public SqlCache<Integer> getPurgeBatchCache() {
+        return getCache(PURGE_BATCH_CACHE, SqlInsertBuilder.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * the UPDATE BATCH cache, shared by all instances of this Provider class And java bean
+     *
+     * @return [ [ Non-Null shape of each row ] : sql ]
+     */
+    public SqlCache<List<Object>> getUpdateBatchCache() {
+        return getCache(UPDATE_BATCH_CACHE, SqlInsertBuilder.DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * the version column, at most one
+     *
+     * @param elements the {@link TagResult} List
+     * @return TagResult, null if unversioned
+     * @throws IllegalArgumentException if more than one, an id, Or not an Integer, Long Or Short
+     */
+    private static TagResult findVersion(List<TagResult> elements) {
+        List<TagResult> versions = TagResultFilter.filterVersion(elements);
+        if (versions.isEmpty()) {
+            return null;
+        }
+
+        if (versions.size() > 1) {
+            throw new IllegalArgumentException("only one version column is allowed, versions: " + versions);
+        }
+
+        TagResult result = versions.get(0);
+        if (result.isId() || !isVersionType(result.getJavaType())) {
+            throw new IllegalArgumentException("version must be a non-id Integer, Long Or Short, version: " + result);
+        }
+
+        return result;
+    }
+
+    /**
+     * the version column is of the type ?
+     *
+     * @param type the java type
+     * @return Integer, Long Or Short, primitive Or boxed
+     */
+    private static boolean isVersionType(Class<?> type) {
+        return type == Integer.class || type == int.class ||
+                type == Long.class || type == long.class ||
+                type == Short.class || type == short.class;
+    }
+
+    /**
+     * the next version, the same as version + 1 in the sql
+     *
+     * @param value the version
+     * @return value + 1
+     */
+    private static Object increase(Object value) {
+        if (value instanceof Long) {
+            return (Long) value + 1;
+        } else if (value instanceof Short) {
+            return (short) ((Short) value + 1);
+        } else {
+            return (Integer) value + 1;
+        }
+    }
+
+    /**
+     * the reflect Field of the version, looked up if read by an accessor, e.g. the generated metadata
+     * the cached TagResult is shared, so the looked up Field isn't set on it
+     *
+     * @param version the version column
+     * @return Field, accessible
+     * @throws UnsupportedOperationException if no Field And {@link ProviderMetas#isStrict()}, no reflection
+     */
+    private Field getVersionField(TagResult version) {
+        Field result = version.getField();
+        if (result != null) {
+            return result;
+        }
+
+        if (ProviderMetas.isStrict()) {
+            throw new UnsupportedOperationException("updateVersion requires the reflect Field of the version in strict mode, version: " + version.getProperty());
+        }
+
+        try {
+            result = resultMap.getType().getDeclaredField(version.getProperty());
+        } catch (NoSuchFieldException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        TagResultParser.setAccessibleTrue(result);
+        return result;
+    }
+
+    /**
+     * the quoted copies of the columns, a column is copied once
+     *
+     * @param columns the {@link TagResult} List
+     * @param quoted  [ column : the quoted copy ]
+     * @param dialect the {@link Dialect} instance
+     * @return the quoted List
+     */
+    private static List<TagResult> quote(List<TagResult> columns, Map<TagResult, TagResult> quoted, Dialect dialect) {
+        if (columns == null) {
+            return null;
+        }
+
+        List<TagResult> result = new ArrayList<>(columns.size());
+
+        for (TagResult column : columns) {
+            if (column == null) {
+                result.add(null);
+                continue;
+            }
+
+            result.add(quoted.computeIfAbsent(column, x -> {
+                TagResult copy = new TagResult();
+                copy.setColumn(dialect.quote(x.getColumn()));
+                copy.setJdbcType(x.getJdbcType());
+                copy.setProperty(x.getProperty());
+                copy.setJavaType(x.getJavaType());
+                copy.setId(x.isId());
+                copy.setAutoIncrement(x.isAutoIncrement());
+                copy.setLazy(x.isLazy());
+                copy.setVersion(x.isVersion());
+                copy.setField(x.getField());
+                copy.setAccessor(x.getAccessor());
+                return copy;
+            }));
+        }
+
+        return result;
     }
 
 }
@@ -0,0 +1,255 @@
+package io.github.changebooks.mybatis.provider;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.IntUnaryOperator;
+import java.util.function.ToIntFunction;
+
+/**
+ * Split records into batches
+ *
+ * @author changebooks@qq.com
+ */
+public final class BatchUtils {
+    /**
+     * the smallest bucket of the padded ids
+     */
+    public static final int MIN_BUCKET = 8;
+
+    private BatchUtils() {
+    }
+
+    /**
+     * execute the records batch by batch
+     *
+     * <pre>
+     * BatchUtils.execute(records, provider.getInsertBatchSize(), cityMapper::insertBatch);
+     * </pre>
+     *
+     * @param records   the POJO list
+     * @param batchSize the max rows of a batch
+     * @param executor  execute a batch, e.g. mapper::insertBatch
+     * @param <T>       the type of the POJO
+     * @return the sum of affected rows
+     */
+    public static <T> int execute(List<T> records, int batchSize, ToIntFunction<List<T>> executor) {
+        Objects.requireNonNull(executor, "executor can't be null");
+
+        int result = 0;
+
+        for (List<T> batch : partition(records, batchSize)) {
+            result += executor.applyAsInt(batch);
+        }
+
+        return result;
+    }
+
+    /**
+     * purge the logically deleted rows batch by batch, until a batch is short
+     * each batch is a short statement, so the locks And the undo log are bounded
+     *
+     * <pre>
+     * BatchUtils.purge(provider.getPurgeBatchSize(), cityMapper::selectPurge, cityMapper::purgeBatch);
+     * </pre>
+     *
+     * @param batchSize the max rows of a batch
+     * @param select    select the ids of a page of the deleted rows, e.g. mapper::selectPurge
+     * @param purge     delete a batch physically, e.g. mapper::purgeBatch
+     * @param <T>       the type of the POJO
+     * @return the sum of purged rows
+     */
+    public static <T> int purge(int batchSize, IntFunction<List<T>> select, ToIntFunction<List<T>> purge) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, batchSize: " + batchSize);
+        }
+
+        Objects.requireNonNull(select, "select can't be null");
+        Objects.requireNonNull(purge, "purge can't be null");
+
+        int result = 0;
+
+        while (true) {
+            List<T> batch = select.apply(batchSize);
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+
+            int rows = purge.applyAsInt(batch);
+            result += rows;
+
+            if (batch.size() < batchSize || rows <= 0) {
+                break;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * delete chunk by chunk, until a chunk affects no rows, pausing between the chunks
+     * each chunk is a short statement, so the locks are released And the replicas catch up
+     *
+     * <pre>
+     * BatchUtils.deleteChunks(1000, 50, chunkSize -&gt; cityMapper.deleteWhere(conditions, chunkSize));
+     * </pre>
+     *
+     * @param chunkSize   the max rows of a chunk
+     * @param pauseMillis the pause between the chunks, 0 for none
+     * @param delete      delete a chunk, e.g. mapper::deleteWhere
+     * @return the sum of deleted rows
+     * @throws RuntimeException if interrupted in a pause, the interrupt status is kept
+     */
+    public static long deleteChunks(int chunkSize, long pauseMillis, IntUnaryOperator delete) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive, chunkSize: " + chunkSize);
+        }
+
+        if (pauseMillis < 0) {
+            throw new IllegalArgumentException("pauseMillis can't be negative, pauseMillis: " + pauseMillis);
+        }
+
+        Objects.requireNonNull(delete, "delete can't be null");
+
+        long result = 0;
+
+        while (true) {
+            int rows = delete.applyAsInt(chunkSize);
+            if (rows <= 0) {
+                break;
+            }
+
+            result += rows;
+
+            if (pauseMillis > 0) {
+                try {
+                    Thread.sleep(pauseMillis);
+                } catch (InterruptedException tr) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(tr);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * split the records into consecutive sub lists, the last may be smaller
+     *
+     * @param records   the POJO list
+     * @param batchSize the max rows of a batch
+     * @param <T>       the type of the POJO
+     * @return [ [ record, record ], [ record ] ]
+     */
+    public static <T> List<List<T>> partition(List<T> records, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize must be positive, batchSize: " + batchSize);
+        }
+
+        if (records == null || records.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        int size = records.size();
+        List<List<T>> result = new ArrayList<>((size + batchSize - 1) / batchSize);
+
+        for (int from = 0; from < size; from += batchSize) {
+            int to = Math.min(from + batchSize, size);
+            result.add(records.subList(from, to));
+        }
+
+        return result;
+    }
+
+    /**
+     * select by ids, bucket by bucket
+     *
+     * <pre>
+     * BatchUtils.selectByIds(ids, provider.getSelectByIdsSize(), cityMapper::selectByIds);
+     * </pre>
+     *
+     * @param ids     the ids, the Null And the duplicated are removed
+     * @param maxSize the max ids of a query
+     * @param query   query a bucket, e.g. mapper::selectByIds
+     * @param <T>     the type of the id
+     * @param <R>     the type of the POJO
+     * @return the rows of all buckets
+     */
+    public static <T, R> List<R> selectByIds(Collection<T> ids, int maxSize, Function<List<T>, List<R>> query) {
+        Objects.requireNonNull(query, "query can't be null");
+
+        List<R> result = new ArrayList<>();
+
+        for (List<T> bucket : partitionPadded(ids, maxSize)) {
+            List<R> rows = query.apply(bucket);
+            if (rows != null) {
+                result.addAll(rows);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * split the distinct ids into sub lists of at most maxSize,
+     * And pad each to its bucket size by repeating the last id, e.g. 8, 16, 32, ... maxSize
+     * so the database sees a few distinct statements instead of one per size
+     *
+     * @param ids     the ids, the Null And the duplicated are removed
+     * @param maxSize the max ids of a sub list
+     * @param <T>     the type of the id
+     * @return [ [ id, id, id, id, id, id, id, id ], [ id, id, id, id, id, id, id, id ] ]
+     */
+    public static <T> List<List<T>> partitionPadded(Collection<T> ids, int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive, maxSize: " + maxSize);
+        }
+
+        if (ids == null || ids.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Set<T> distinct = new LinkedHashSet<>(ids);
+        distinct.remove(null);
+
+        List<List<T>> result = new ArrayList<>();
+
+        for (List<T> part : partition(new ArrayList<>(distinct), maxSize)) {
+            int size = bucket(part.size(), maxSize);
+
+            List<T> padded = new ArrayList<>(size);
+            padded.addAll(part);
+
+            T last = part.get(part.size() - 1);
+            while (padded.size() < size) {
+                padded.add(last);
+            }
+
+            result.add(padded);
+        }
+
+        return result;
+    }
+
+    /**
+     * the bucket size of the ids, a power of two from {@link #MIN_BUCKET}, at most maxSize
+     *
+     * @param size    the number of ids, 0 &lt; size &lt;= maxSize
+     * @param maxSize the max ids of a query
+     * @return min(maxSize, the smallest power of two &gt;= max(size, 8))
+     */
+    public static int bucket(int size, int maxSize) {
+        if (size <= 0 || size > maxSize) {
+            throw new IllegalArgumentException("size must be in (0, " + maxSize + "], size: " + size);
+        }
+
+        int result = MIN_BUCKET;
+        while (result < size && result < maxSize) {
+            result <<= 1;
+        }
+
+        return Math.min(result, maxSize);
+    }
+
+}
@@ -0,0 +1,121 @@
+package io.github.changebooks.mybatis.provider;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * Keyset (seek) pagination cursor
+ * Pass it back page after page, {@link BaseProvider#nextCursor} moves it to the last row of a page
+ *
+ * <pre>
+ * KeysetCursor cursor = KeysetCursor.first(100);
+ * while (cursor != null) {
+ *     List&lt;City&gt; page = cityMapper.selectKeyset(conditions, cursor);
+ *     ...
+ *     cursor = provider.nextCursor(cursor, page);
+ * }
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+public final class KeysetCursor implements Serializable {
+    /**
+     * the sort key values of the last row, null if the first page, an empty array is the first page too
+     * e.g. [ id ], [ tenant_id, id ]
+     */
+    private final Object[] values;
+
+    /**
+     * LIMIT pageSize
+     */
+    private final int pageSize;
+
+    /**
+     * ORDER BY key DESC ?
+     */
+    private final boolean descending;
+
+    private KeysetCursor(Object[] values, int pageSize, boolean descending) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize must be positive, pageSize: " + pageSize);
+        }
+
+        this.values = values != null && values.length > 0 ? values : null;
+        this.pageSize = pageSize;
+        this.descending = descending;
+    }
+
+    /**
+     * the first page, ascending
+     *
+     * @param pageSize LIMIT pageSize
+     * @return KeysetCursor
+     */
+    public static KeysetCursor first(int pageSize) {
+        return first(pageSize, false);
+    }
+
+    /**
+     * the first page
+     *
+     * @param pageSize   LIMIT pageSize
+     * @param descending ORDER BY key DESC ?
+     * @return KeysetCursor
+     */
+    public static KeysetCursor first(int pageSize, boolean descending) {
+        return new KeysetCursor(null, pageSize, descending);
+    }
+
+    /**
+     * the page after the values
+     *
+     * @param pageSize   LIMIT pageSize
+     * @param descending ORDER BY key DESC ?
+     * @param values     the sort key values of the last row, the first page if null or empty
+     * @return KeysetCursor
+     */
+    public static KeysetCursor after(int pageSize, boolean descending, Object... values) {
+        return new KeysetCursor(values, pageSize, descending);
+    }
+
+    /**
+     * the next page, same page size And order
+     *
+     * @param values the sort key values of the last row, the first page if null or empty
+     * @return KeysetCursor
+     */
+    public KeysetCursor next(Object[] values) {
+        return new KeysetCursor(values, pageSize, descending);
+    }
+
+    /**
+     * the first page ?
+     *
+     * @return {@code true} if no values
+     */
+    public boolean isFirst() {
+        return values == null;
+    }
+
+    @Override
+    public String toString() {
+        return "{" +
+                "\"values\": " + Arrays.toString(values) + ", " +
+                "\"pageSize\": " + pageSize + ", " +
+                "\"descending\": " + descending +
+                "}";
+    }
+
+    public Object[] getValues() {
+        return values;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public boolean isDescending() {
+        return descending;
+    }
+
+}
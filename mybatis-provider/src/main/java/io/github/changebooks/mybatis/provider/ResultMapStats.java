@@ -0,0 +1,102 @@
+package io.github.changebooks.mybatis.provider;
+
+import java.io.Serializable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * the timing of {@link ResultMapUtils#addResultMaps} per phase
+ *
+ * @author changebooks@qq.com
+ */
+public final class ResultMapStats implements Serializable {
+    /**
+     * the number of mappers
+     */
+    private int types;
+
+    /**
+     * the number of added ResultMap
+     */
+    private int resultMaps;
+
+    /**
+     * the parallelism, 1 if sequential
+     */
+    private int parallelism;
+
+    /**
+     * AnnotationParser.parse, nanoseconds
+     */
+    private long parseNanos;
+
+    /**
+     * ResultMapBuilder.build, nanoseconds
+     */
+    private long buildNanos;
+
+    /**
+     * Configuration.addResultMap, nanoseconds
+     */
+    private long addNanos;
+
+    @Override
+    public String toString() {
+        return "{" +
+                "\"types\": " + types + ", " +
+                "\"resultMaps\": " + resultMaps + ", " +
+                "\"parallelism\": " + parallelism + ", " +
+                "\"parseMillis\": " + TimeUnit.NANOSECONDS.toMillis(parseNanos) + ", " +
+                "\"buildMillis\": " + TimeUnit.NANOSECONDS.toMillis(buildNanos) + ", " +
+                "\"addMillis\": " + TimeUnit.NANOSECONDS.toMillis(addNanos) +
+                "}";
+    }
+
+    public int getTypes() {
+        return types;
+    }
+
+    public void setTypes(int types) {
+        this.types = types;
+    }
+
+    public int getResultMaps() {
+        return resultMaps;
+    }
+
+    public void setResultMaps(int resultMaps) {
+        this.resultMaps = resultMaps;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    public long getParseNanos() {
+        return parseNanos;
+    }
+
+    public void setParseNanos(long parseNanos) {
+        this.parseNanos = parseNanos;
+    }
+
+    public long getBuildNanos() {
+        return buildNanos;
+    }
+
+    public void setBuildNanos(long buildNanos) {
+        this.buildNanos = buildNanos;
+    }
+
+    public long getAddNanos() {
+        return addNanos;
+    }
+
+    public void setAddNanos(long addNanos) {
+        this.addNanos = addNanos;
+    }
+
+}
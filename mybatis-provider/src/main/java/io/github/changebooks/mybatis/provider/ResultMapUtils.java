@@ -1,15 +1,22 @@
 package io.github.changebooks.mybatis.provider;
 
 import io.github.changebooks.mybatis.provider.result.ResultMapBuilder;
+import io.github.changebooks.mybatis.provider.tag.TagProjectionParser;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
 import io.github.changebooks.mybatis.provider.tag.TagResultMap;
+import io.github.changebooks.mybatis.provider.tag.TagResultMapParser;
 import org.apache.ibatis.binding.MapperRegistry;
+import org.apache.ibatis.logging.Log;
+import org.apache.ibatis.logging.LogFactory;
 import org.apache.ibatis.mapping.ResultMap;
 import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.type.TypeHandlerRegistry;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * add ResultMap to Configuration
@@ -22,6 +29,8 @@ public final class ResultMapUtils {
      */
     public static final String[] DEFAULT_ID = {"BaseResultMap"};
 
+    private static final Log log = LogFactory.getLog(ResultMapUtils.class);
+
     private ResultMapUtils() {
     }
 
@@ -61,19 +70,80 @@ public final class ResultMapUtils {
 
     /**
      * parse ResultMap And add to Configuration
+     * parse And build on the common ForkJoinPool
      *
      * @param configuration the {@link Configuration} instance
      * @param types         the interface or class
      * @param defaultIds    used in withoutId's Provider
      */
     public static void addResultMaps(Configuration configuration, List<Class<?>> types, String[] defaultIds) {
+        addResultMaps(configuration, types, defaultIds, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * parse ResultMap And add to Configuration
+     *
+     * <pre>
+     * 1. parse the TagResultMap of each type, on the pool
+     * 2. resolve the TypeHandler of each column, sequential, the registry isn't safe for concurrent registration
+     * 3. build the ResultMap of each type, on the pool
+     * 4. add the ResultMap to Configuration, sequential, in the order of types
+     * </pre>
+     *
+     * @param configuration the {@link Configuration} instance
+     * @param types         the interface or class
+     * @param defaultIds    used in withoutId's Provider
+     * @param pool          the {@link ForkJoinPool} instance, sequential if null
+     * @return the timing per phase
+     */
+    public static ResultMapStats addResultMaps(Configuration configuration, List<Class<?>> types, String[] defaultIds, ForkJoinPool pool) {
+        ResultMapStats result = new ResultMapStats();
+        result.setParallelism(pool != null ? pool.getParallelism() : 1);
+
         if (configuration == null || types == null) {
-            return;
+            return result;
         }
 
-        for (Class<?> t : types) {
-            addResultMap(configuration, t, defaultIds);
+        List<Class<?>> nonNullTypes = types.stream().
+                filter(Objects::nonNull).
+                collect(Collectors.toList());
+
+        result.setTypes(nonNullTypes.size());
+
+        long start = System.nanoTime();
+        List<Map<String, TagResultMap>> tags = map(pool, nonNullTypes, x -> AnnotationParser.parse(x, defaultIds));
+
+        long parsed = System.nanoTime();
+        resolveTypeHandlers(configuration, tags);
+
+        List<Integer> indexes = new ArrayList<>(nonNullTypes.size());
+        for (int i = 0; i < nonNullTypes.size(); i++) {
+            indexes.add(i);
+        }
+
+        List<List<ResultMap>> resultMaps = map(pool, indexes, i -> buildResultMap(configuration, nonNullTypes.get(i).getName(), tags.get(i)));
+
+        long built = System.nanoTime();
+        int count = 0;
+        for (List<ResultMap> rm : resultMaps) {
+            if (rm != null) {
+                addResultMap(configuration, rm);
+                count += rm.size();
+            }
         }
+
+        long added = System.nanoTime();
+
+        result.setResultMaps(count);
+        result.setParseNanos(parsed - start);
+        result.setBuildNanos(built - parsed);
+        result.setAddNanos(added - built);
+
+        if (log.isDebugEnabled()) {
+            log.debug("addResultMaps: " + result);
+        }
+
+        return result;
     }
 
     /**
@@ -99,6 +169,36 @@ public final class ResultMapUtils {
         }
     }
 
+    /**
+     * build the ResultMap of the projection class And add to Configuration
+     * e.g. addProjection(configuration, "CityNameResultMap", City.class, CityName.class), then &#064;ResultMap("CityNameResultMap")
+     *
+     * @param configuration the {@link Configuration} instance
+     * @param id            the namespace.id
+     * @param type          the java bean class of &#064;MybatisResultMap
+     * @param projection    the class of the &#064;MybatisResult fields, a subset of the java bean's
+     * @return the added, Or the existing ResultMap of the id
+     */
+    public static ResultMap addProjection(Configuration configuration, String id, Class<?> type, Class<?> projection) {
+        Objects.requireNonNull(configuration, "configuration can't be null");
+        Objects.requireNonNull(id, "id can't be null");
+
+        if (configuration.hasResultMap(id)) {
+            return configuration.getResultMap(id);
+        }
+
+        TagResultMap resultMap = TagResultMapParser.parse(type);
+        if (resultMap == null) {
+            throw new IllegalArgumentException("type isn't a @MybatisResultMap, type: " + type);
+        }
+
+        TagResultMap tagMap = TagProjectionParser.parse(resultMap, projection);
+        ResultMap result = ResultMapBuilder.build(configuration, id, tagMap);
+
+        addResultMap(configuration, Collections.singletonList(result));
+        return result;
+    }
+
     /**
      * add [ ResultMap, ResultMap ] to Configuration
      *
@@ -128,6 +228,67 @@ public final class ResultMapUtils {
         }
     }
 
+    /**
+     * resolve the TypeHandler of each column, so the parallel build only reads the registry
+     *
+     * @param configuration the {@link Configuration} instance
+     * @param tags          [ [ id : TagResultMap ] ]
+     */
+    public static void resolveTypeHandlers(Configuration configuration, List<Map<String, TagResultMap>> tags) {
+        TypeHandlerRegistry registry = configuration.getTypeHandlerRegistry();
+        Set<TagResultMap> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        for (Map<String, TagResultMap> t : tags) {
+            if (t == null) {
+                continue;
+            }
+
+            for (TagResultMap tagMap : t.values()) {
+                if (tagMap == null || tagMap.getElements() == null || !visited.add(tagMap)) {
+                    continue;
+                }
+
+                for (TagResult tag : tagMap.getElements()) {
+                    if (tag != null && tag.getJavaType() != null) {
+                        registry.getTypeHandler(tag.getJavaType(), tag.getJdbcType());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * map the list on the pool, in the order of the list
+     *
+     * @param pool   the {@link ForkJoinPool} instance, sequential if null
+     * @param list   the source list
+     * @param mapper the mapper
+     * @param <T>    the type of the source
+     * @param <R>    the type of the result
+     * @return the result list
+     */
+    private static <T, R> List<R> map(ForkJoinPool pool, List<T> list, Function<T, R> mapper) {
+        if (pool == null) {
+            return list.stream().map(mapper).collect(Collectors.toList());
+        }
+
+        try {
+            return pool.submit(() -> list.parallelStream().map(mapper).collect(Collectors.toList())).get();
+        } catch (InterruptedException tr) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(tr);
+        } catch (ExecutionException tr) {
+            Throwable cause = tr.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+
     /**
      * cast Map&lt;String, TagResultMap&gt; to List&lt;ResultMap&gt;
      *
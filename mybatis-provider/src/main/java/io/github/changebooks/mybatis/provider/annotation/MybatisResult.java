@@ -42,4 +42,20 @@ public @interface MybatisResult {
      */
     boolean autoIncrement() default false;
 
+    /**
+     * lazy ? omitted from the default selects, e.g. a BLOB Or a TEXT column
+     * fetched on demand by id, e.g. BaseProvider.selectLazy
+     *
+     * @return {@code true} if lazy column; {@code false} if otherwise
+     */
+    boolean lazy() default false;
+
+    /**
+     * version ? the optimistic lock, e.g. an Integer Or a Long column
+     * UPDATE sets version = version + 1 WHERE id = #{id} AND version = #{version}
+     *
+     * @return {@code true} if version column; {@code false} if otherwise
+     */
+    boolean version() default false;
+
 }
@@ -18,4 +18,26 @@ public @interface MybatisResultMap {
      */
     String table() default "";
 
+    /**
+     * the column of the logical delete, empty if deleted physically
+     * deleteOne sets column = deletedValue, the selects lead by column = liveValue
+     *
+     * @return the column name, e.g. deleted
+     */
+    String logicalDelete() default "";
+
+    /**
+     * the sql literal of a deleted row, e.g. 1, TRUE, NOW()
+     *
+     * @return the deleted value
+     */
+    String deletedValue() default "1";
+
+    /**
+     * the sql literal of a live row, e.g. 0, FALSE, NULL for column IS NULL
+     *
+     * @return the live value
+     */
+    String liveValue() default "0";
+
 }
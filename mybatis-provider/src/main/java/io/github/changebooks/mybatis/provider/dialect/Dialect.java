@@ -0,0 +1,168 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+/**
+ * The sql differences of a database, e.g. paging, identifier quoting, upsert And chunked delete
+ * Chosen once per Provider, so the rendering never branches on the database
+ * Register a custom one by {@link java.util.ServiceLoader}, META-INF/services/io.github.changebooks.mybatis.provider.dialect.Dialect
+ *
+ * @author changebooks@qq.com
+ */
+public interface Dialect {
+    /**
+     * MySQL, e.g. LIMIT 10 OFFSET 20, INSERT ... ON DUPLICATE KEY UPDATE
+     */
+    Dialect MYSQL = new MySqlDialect();
+
+    /**
+     * PostgreSQL, e.g. LIMIT 10 OFFSET 20, INSERT ... ON CONFLICT (id) DO UPDATE
+     */
+    Dialect POSTGRESQL = new PostgreSqlDialect();
+
+    /**
+     * H2, e.g. LIMIT 10 OFFSET 20, MERGE INTO ... USING ... ON (t.id = s.id)
+     */
+    Dialect H2 = new H2Dialect();
+
+    /**
+     * Oracle, e.g. WHERE ROWNUM &lt;= 10
+     */
+    Dialect ORACLE = new OracleDialect();
+
+    /**
+     * SQL Server, e.g. SELECT TOP (10), OFFSET 20 ROWS FETCH NEXT 10 ROWS ONLY
+     */
+    Dialect SQL_SERVER = new SqlServerDialect();
+
+    /**
+     * the dialect name, also part of the cache names
+     *
+     * @return e.g. mysql
+     */
+    String getName();
+
+    /**
+     * is it the dialect of the database ?
+     *
+     * @param databaseProductName {@link java.sql.DatabaseMetaData#getDatabaseProductName()}, e.g. MySQL
+     * @return {@code true} if supported
+     */
+    boolean supports(String databaseProductName);
+
+    /**
+     * quote an identifier, each part of a qualified name
+     *
+     * @param identifier the table or column name, e.g. city_name, db.city
+     * @return e.g. `city_name`, "db"."city"
+     */
+    String quote(String identifier);
+
+    /**
+     * page a SELECT, LIMIT limit OFFSET offset by default
+     *
+     * @param select the SELECT, paged in place
+     * @param limit  the max rows, e.g. 10, #{cursor.pageSize}, nullable
+     * @param offset the skipped rows, nullable
+     */
+    default void limit(StringBuilder select, Object limit, Object offset) {
+        if (limit != null) {
+            select.append(" LIMIT ").append(limit);
+        }
+
+        if (offset != null) {
+            select.append(" OFFSET ").append(offset);
+        }
+    }
+
+    /**
+     * the seek condition of keyset pagination, a row value comparison by default
+     *
+     * @param columns    the sort key columns, e.g. [ tenant_id, id ]
+     * @param values     the last row's values, e.g. [ #{cursor.values[0]}, #{cursor.values[1]} ]
+     * @param descending {@code <} if true; {@code >} if false
+     * @return e.g. (tenant_id, id) &gt; (#{cursor.values[0]}, #{cursor.values[1]})
+     */
+    default String seek(String[] columns, String[] values, boolean descending) {
+        String operator = descending ? " < " : " > ";
+
+        if (columns.length == 1) {
+            return columns[0] + operator + values[0];
+        }
+
+        return "(" + String.join(", ", columns) + ")" + operator + "(" + String.join(", ", values) + ")";
+    }
+
+    /**
+     * the upsert of an INSERT, update the columns if the ids exist
+     *
+     * @param insert  INSERT INTO table (column, column) VALUES (value, value), (value, value)
+     * @param ids     the conflict columns, e.g. [ id ]
+     * @param updates the columns updated on conflict, e.g. [ column, column ]
+     * @return e.g. INSERT INTO table (id, column) VALUES (value, value) ON DUPLICATE KEY UPDATE column = VALUES(column)
+     * @throws UnsupportedOperationException if unsupported
+     */
+    default String upsert(String insert, String[] ids, String[] updates) {
+        throw new UnsupportedOperationException("upsert isn't supported, dialect: " + getName());
+    }
+
+    /**
+     * the upsert of a versioned INSERT, the version is increased if the ids exist
+     *
+     * @param insert  INSERT INTO table (column, column) VALUES (value, value), (value, value)
+     * @param ids     the conflict columns, e.g. [ id ]
+     * @param updates the columns updated on conflict, the version excluded, e.g. [ column, column ]
+     * @param version the version column, e.g. version, null if unversioned
+     * @return e.g. INSERT INTO table (id, column, version) VALUES (value, value, value) ON DUPLICATE KEY UPDATE column = VALUES(column), version = version + 1
+     * @throws UnsupportedOperationException if unsupported
+     */
+    default String upsert(String insert, String[] ids, String[] updates, String version) {
+        if (version == null) {
+            return upsert(insert, ids, updates);
+        }
+
+        throw new UnsupportedOperationException("versioned upsert isn't supported, dialect: " + getName());
+    }
+
+    /**
+     * the estimated rows of a table, read from the catalog statistics, no scan
+     * as fresh as the last ANALYZE, the logically deleted rows are counted
+     *
+     * @param table the table name, unquoted, e.g. city, city_${tableNum}
+     * @return e.g. SELECT TABLE_ROWS AS aggregate FROM information_schema.TABLES WHERE TABLE_NAME = 'city'
+     * @throws UnsupportedOperationException if unsupported
+     */
+    default String estimatedCount(String table) {
+        throw new UnsupportedOperationException("estimatedCount isn't supported, dialect: " + getName());
+    }
+
+    /**
+     * a DELETE of at most limit rows, to be executed repeatedly
+     * by the ids of a SELECT paged by {@link #limit} by default
+     *
+     * @param table the table name
+     * @param ids   the id columns, e.g. [ id ]
+     * @param where the condition, e.g. (column = #{property} AND column = #{property})
+     * @param limit the max rows, e.g. #{chunkSize}
+     * @return e.g. DELETE FROM table WHERE id IN (SELECT id FROM table WHERE (...) LIMIT #{chunkSize})
+     * @throws UnsupportedOperationException if no ids
+     */
+    default String deleteLimit(String table, String[] ids, String where, Object limit) {
+        if (ids == null || ids.length == 0) {
+            throw new UnsupportedOperationException("deleteLimit requires the ids, dialect: " + getName());
+        }
+
+        String columns = String.join(", ", ids);
+
+        StringBuilder select = new StringBuilder(64 + table.length() + where.length()).
+                append("SELECT ").append(columns).
+                append("\nFROM ").append(table).
+                append("\nWHERE ").append(where);
+        limit(select, limit, null);
+
+        return new StringBuilder(select.length() + 64).
+                append("DELETE FROM ").append(table).
+                append("\nWHERE ").append(ids.length > 1 ? "(" + columns + ")" : columns).
+                append(" IN (").append(select).append(')').
+                toString();
+    }
+
+}
@@ -0,0 +1,232 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.ServiceLoader;
+
+/**
+ * Process-wide {@link Dialect}, {@link Dialect#MYSQL} without quoting by default
+ * Mybatis creates a new Provider instance per call, so set it before the first call, e.g. by the spring boot starter
+ *
+ * @author changebooks@qq.com
+ */
+public final class DialectRegistry {
+
+    private static final List<Dialect> BUILT_IN = Arrays.asList(
+            Dialect.MYSQL, Dialect.POSTGRESQL, Dialect.H2, Dialect.ORACLE, Dialect.SQL_SERVER);
+
+    private static volatile Dialect dialect = Dialect.MYSQL;
+
+    private static volatile boolean quoting = false;
+
+    private DialectRegistry() {
+    }
+
+    /**
+     * the current dialect, read by each new Provider
+     *
+     * @return Dialect
+     */
+    public static Dialect get() {
+        return dialect;
+    }
+
+    /**
+     * replace the current dialect
+     *
+     * @param dialect the {@link Dialect} instance
+     */
+    public static void set(Dialect dialect) {
+        Objects.requireNonNull(dialect, "dialect can't be null");
+
+        DialectRegistry.dialect = dialect;
+    }
+
+    /**
+     * quote the table And column names ? read by each new Provider
+     *
+     * @return false by default
+     */
+    public static boolean isQuoting() {
+        return quoting;
+    }
+
+    public static void setQuoting(boolean quoting) {
+        DialectRegistry.quoting = quoting;
+    }
+
+    /**
+     * the dialect of the name, the {@link ServiceLoader} ones first
+     *
+     * @param name the dialect name, e.g. mysql
+     * @return null if not found
+     */
+    public static Dialect forName(String name) {
+        for (Dialect d : getDialects()) {
+            if (d.getName().equalsIgnoreCase(name)) {
+                return d;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * the dialect of the database, the {@link ServiceLoader} ones first
+     *
+     * @param databaseProductName {@link java.sql.DatabaseMetaData#getDatabaseProductName()}, e.g. MySQL
+     * @return null if not found
+     */
+    public static Dialect of(String databaseProductName) {
+        if (databaseProductName == null) {
+            return null;
+        }
+
+        for (Dialect d : getDialects()) {
+            if (d.supports(databaseProductName)) {
+                return d;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * the dialect of the database, by the connection's metadata
+     *
+     * @param dataSource the {@link DataSource} instance
+     * @return null if not found
+     */
+    public static Dialect detect(DataSource dataSource) {
+        Objects.requireNonNull(dataSource, "dataSource can't be null");
+
+        try (Connection connection = dataSource.getConnection()) {
+            return of(connection.getMetaData().getDatabaseProductName());
+        } catch (SQLException tr) {
+            throw new RuntimeException(tr);
+        }
+    }
+
+    /**
+     * the {@link ServiceLoader} dialects, then the built-in
+     *
+     * @return [ Dialect, Dialect ]
+     */
+    public static List<Dialect> getDialects() {
+        List<Dialect> result = new ArrayList<>();
+
+        for (Dialect d : ServiceLoader.load(Dialect.class)) {
+            result.add(d);
+        }
+
+        result.addAll(BUILT_IN);
+        return result;
+    }
+
+    /**
+     * a sql string literal, the single quotes are doubled
+     *
+     * @param value the string, e.g. city
+     * @return e.g. 'city'
+     */
+    public static String literal(String value) {
+        return '\'' + value.replace("'", "''") + '\'';
+    }
+
+    /**
+     * the seek condition of keyset pagination, expanded for the databases without row values
+     *
+     * <pre>
+     * a &gt; x
+     * (a &gt; x OR (a = x AND b &gt; y))
+     * (a &gt; x OR (a = x AND b &gt; y) OR (a = x AND b = y AND c &gt; z))
+     * </pre>
+     *
+     * @param columns    the sort key columns, e.g. [ a, b ]
+     * @param values     the last row's values, e.g. [ x, y ]
+     * @param descending {@code <} if true; {@code >} if false
+     * @return the seek condition
+     */
+    public static String expandSeek(String[] columns, String[] values, boolean descending) {
+        String operator = descending ? " < " : " > ";
+
+        if (columns.length == 1) {
+            return columns[0] + operator + values[0];
+        }
+
+        StringBuilder result = new StringBuilder(columns.length * columns.length * 48).append('(');
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                result.append(" OR (");
+                for (int j = 0; j < i; j++) {
+                    result.append(columns[j]).append(" = ").append(values[j]).append(" AND ");
+                }
+            }
+
+            result.append(columns[i]).append(operator).append(values[i]);
+
+            if (i > 0) {
+                result.append(')');
+            }
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * quote an identifier, each part of a qualified name, the close quote is doubled inside
+     * a quoted part is kept as it is
+     *
+     * @param identifier the table or column name, e.g. db.city
+     * @param open       the open quote, e.g. "
+     * @param close      the close quote, e.g. "
+     * @return e.g. "db"."city"
+     */
+    public static String quote(String identifier, char open, char close) {
+        if (identifier == null || identifier.isEmpty()) {
+            return identifier;
+        }
+
+        StringBuilder result = new StringBuilder(identifier.length() + 8);
+        int start = 0;
+
+        while (start <= identifier.length()) {
+            int end = identifier.indexOf('.', start);
+            if (end < 0) {
+                end = identifier.length();
+            }
+
+            if (start > 0) {
+                result.append('.');
+            }
+
+            String part = identifier.substring(start, end);
+            if (!part.isEmpty() && part.charAt(0) == open) {
+                result.append(part);
+            } else {
+                result.append(open);
+
+                for (int i = 0; i < part.length(); i++) {
+                    char c = part.charAt(i);
+                    if (c == close) {
+                        result.append(close);
+                    }
+
+                    result.append(c);
+                }
+
+                result.append(close);
+            }
+
+            start = end + 1;
+        }
+
+        return result.toString();
+    }
+
+}
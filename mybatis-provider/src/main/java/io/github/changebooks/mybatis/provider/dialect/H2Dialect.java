@@ -0,0 +1,128 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+/**
+ * H2, the native mode
+ *
+ * @author changebooks@qq.com
+ */
+public class H2Dialect implements Dialect {
+    /**
+     * the keyword of the INSERT
+     */
+    private static final String INSERT_INTO = "INSERT INTO";
+
+    /**
+     * the VALUES clause of the INSERT
+     */
+    private static final String VALUES = "\nVALUES";
+
+    /**
+     * the alias of the merged table
+     */
+    private static final String TARGET = "t";
+
+    /**
+     * the alias of the inserted rows
+     */
+    private static final String SOURCE = "s";
+
+    @Override
+    public String getName() {
+        return "h2";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return "h2".equalsIgnoreCase(databaseProductName);
+    }
+
+    @Override
+    public String quote(String identifier) {
+        return DialectRegistry.quote(identifier, '"', '"');
+    }
+
+    @Override
+    public String upsert(String insert, String[] ids, String[] updates) {
+        return upsert(insert, ids, updates, null);
+    }
+
+    /**
+     * MERGE INTO table t USING (VALUES (value, value)) s (id, column) ON (t.id = s.id)
+     * WHEN MATCHED THEN UPDATE SET column = s.column, version = t.version + 1
+     * WHEN NOT MATCHED THEN INSERT (id, column) VALUES (s.id, s.column)
+     * H2 has no ON CONFLICT DO UPDATE, MERGE ... KEY overwrites all columns, so MERGE ... USING updates only the updates
+     */
+    @Override
+    public String upsert(String insert, String[] ids, String[] updates, String version) {
+        int values = insert.indexOf(VALUES);
+        int open = insert.indexOf('(', INSERT_INTO.length());
+        int close = insert.lastIndexOf(')', values);
+        if (!insert.startsWith(INSERT_INTO) || values < 0 || open < 0 || close < open || open > values) {
+            throw new IllegalArgumentException("insert must be INSERT INTO table (column) VALUES, insert: " + insert);
+        }
+
+        String table = insert.substring(INSERT_INTO.length(), open).trim();
+        String[] columns = insert.substring(open + 1, close).split(",");
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].trim();
+        }
+
+        StringBuilder result = new StringBuilder(insert.length() * 2 + 128).
+                append("MERGE INTO ").append(table).append(' ').append(TARGET).
+                append("\nUSING (").append(insert, values + 1, insert.length()).append(") ").append(SOURCE).
+                append(" (").append(String.join(", ", columns)).append(')').
+                append("\nON (");
+
+        for (int i = 0; i < ids.length; i++) {
+            if (i > 0) {
+                result.append(" AND ");
+            }
+
+            result.append(TARGET).append('.').append(ids[i]).append(" = ").append(SOURCE).append('.').append(ids[i]);
+        }
+
+        result.append(')');
+
+        if (updates.length > 0 || version != null) {
+            result.append("\nWHEN MATCHED THEN UPDATE SET ");
+
+            for (int i = 0; i < updates.length; i++) {
+                if (i > 0) {
+                    result.append(", ");
+                }
+
+                result.append(updates[i]).append(" = ").append(SOURCE).append('.').append(updates[i]);
+            }
+
+            if (version != null) {
+                if (updates.length > 0) {
+                    result.append(", ");
+                }
+
+                result.append(version).append(" = ").append(TARGET).append('.').append(version).append(" + 1");
+            }
+        }
+
+        result.append("\nWHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columns)).append(") VALUES (");
+
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            result.append(SOURCE).append('.').append(columns[i]);
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * INFORMATION_SCHEMA.TABLES.ROW_COUNT_ESTIMATE of the current schema
+     */
+    @Override
+    public String estimatedCount(String table) {
+        return "SELECT ROW_COUNT_ESTIMATE AS aggregate\nFROM INFORMATION_SCHEMA.TABLES" +
+                "\nWHERE (TABLE_SCHEMA = SCHEMA() AND UPPER(TABLE_NAME) = UPPER(" + DialectRegistry.literal(table) + "))";
+    }
+
+}
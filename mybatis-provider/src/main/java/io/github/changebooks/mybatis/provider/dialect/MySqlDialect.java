@@ -0,0 +1,84 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+import java.util.Locale;
+
+/**
+ * MySQL, MariaDB
+ *
+ * @author changebooks@qq.com
+ */
+public class MySqlDialect implements Dialect {
+
+    @Override
+    public String getName() {
+        return "mysql";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        String name = databaseProductName.toLowerCase(Locale.ROOT);
+        return name.contains("mysql") || name.contains("mariadb");
+    }
+
+    @Override
+    public String quote(String identifier) {
+        return DialectRegistry.quote(identifier, '`', '`');
+    }
+
+    @Override
+    public String upsert(String insert, String[] ids, String[] updates) {
+        return upsert(insert, ids, updates, null);
+    }
+
+    /**
+     * INSERT ... ON DUPLICATE KEY UPDATE column = VALUES(column), version = version + 1
+     * ON DUPLICATE KEY UPDATE id = id if no updates And unversioned, ignore the duplicated
+     */
+    @Override
+    public String upsert(String insert, String[] ids, String[] updates, String version) {
+        StringBuilder result = new StringBuilder(insert.length() + 64).
+                append(insert).
+                append("\nON DUPLICATE KEY UPDATE ");
+
+        if (updates.length == 0 && version == null) {
+            return result.append(ids[0]).append(" = ").append(ids[0]).toString();
+        }
+
+        for (int i = 0; i < updates.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            result.append(updates[i]).append(" = VALUES(").append(updates[i]).append(')');
+        }
+
+        if (version != null) {
+            if (updates.length > 0) {
+                result.append(", ");
+            }
+
+            result.append(version).append(" = ").append(version).append(" + 1");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * DELETE FROM table WHERE (...) LIMIT limit
+     * MySQL can't LIMIT a subquery of IN, nor select from the deleted table
+     */
+    @Override
+    public String deleteLimit(String table, String[] ids, String where, Object limit) {
+        return "DELETE FROM " + table + "\nWHERE " + where + " LIMIT " + limit;
+    }
+
+    /**
+     * information_schema.TABLES.TABLE_ROWS of the current database, an InnoDB estimate
+     */
+    @Override
+    public String estimatedCount(String table) {
+        return "SELECT TABLE_ROWS AS aggregate\nFROM information_schema.TABLES" +
+                "\nWHERE (TABLE_SCHEMA = DATABASE() AND TABLE_NAME = " + DialectRegistry.literal(table) + ")";
+    }
+
+}
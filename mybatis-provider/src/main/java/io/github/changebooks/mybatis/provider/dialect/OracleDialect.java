@@ -0,0 +1,69 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+import java.util.Locale;
+
+/**
+ * Oracle, paged by ROWNUM, every version
+ *
+ * @author changebooks@qq.com
+ */
+public class OracleDialect implements Dialect {
+
+    @Override
+    public String getName() {
+        return "oracle";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return databaseProductName.toLowerCase(Locale.ROOT).contains("oracle");
+    }
+
+    @Override
+    public String quote(String identifier) {
+        return DialectRegistry.quote(identifier, '"', '"');
+    }
+
+    /**
+     * SELECT * FROM (select) WHERE ROWNUM &lt;= limit
+     * SELECT * FROM (SELECT t_.*, ROWNUM rn_ FROM (select) t_ WHERE ROWNUM &lt;= offset + limit) WHERE rn_ &gt; offset
+     */
+    @Override
+    public void limit(StringBuilder select, Object limit, Object offset) {
+        if (limit == null) {
+            if (offset != null) {
+                select.insert(0, "SELECT * FROM (SELECT t_.*, ROWNUM rn_ FROM (\n").
+                        append("\n) t_) WHERE rn_ > ").append(offset);
+            }
+
+            return;
+        }
+
+        if (offset == null) {
+            select.insert(0, "SELECT * FROM (\n").
+                    append("\n) WHERE ROWNUM <= ").append(limit);
+        } else {
+            select.insert(0, "SELECT * FROM (SELECT t_.*, ROWNUM rn_ FROM (\n").
+                    append("\n) t_ WHERE ROWNUM <= ").append(offset).append(" + ").append(limit).
+                    append(") WHERE rn_ > ").append(offset);
+        }
+    }
+
+    /**
+     * no row value comparison, a &gt; x OR (a = x AND b &gt; y)
+     */
+    @Override
+    public String seek(String[] columns, String[] values, boolean descending) {
+        return DialectRegistry.expandSeek(columns, values, descending);
+    }
+
+    /**
+     * USER_TABLES.NUM_ROWS, as of the last statistics gathering
+     */
+    @Override
+    public String estimatedCount(String table) {
+        return "SELECT NUM_ROWS AS aggregate\nFROM USER_TABLES" +
+                "\nWHERE (TABLE_NAME = UPPER(" + DialectRegistry.literal(table) + "))";
+    }
+
+}
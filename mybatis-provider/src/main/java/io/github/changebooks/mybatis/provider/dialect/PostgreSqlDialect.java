@@ -0,0 +1,89 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+import java.util.Locale;
+
+/**
+ * PostgreSQL
+ *
+ * @author changebooks@qq.com
+ */
+public class PostgreSqlDialect implements Dialect {
+    /**
+     * the keyword of the INSERT
+     */
+    private static final String INSERT_INTO = "INSERT INTO";
+
+    @Override
+    public String getName() {
+        return "postgresql";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return databaseProductName.toLowerCase(Locale.ROOT).contains("postgresql");
+    }
+
+    @Override
+    public String quote(String identifier) {
+        return DialectRegistry.quote(identifier, '"', '"');
+    }
+
+    @Override
+    public String upsert(String insert, String[] ids, String[] updates) {
+        return upsert(insert, ids, updates, null);
+    }
+
+    /**
+     * INSERT ... ON CONFLICT (id) DO UPDATE SET column = EXCLUDED.column, version = table.version + 1
+     * ON CONFLICT (id) DO NOTHING if no updates And unversioned
+     * the version is qualified by the table, an unqualified one is ambiguous with EXCLUDED
+     */
+    @Override
+    public String upsert(String insert, String[] ids, String[] updates, String version) {
+        StringBuilder result = new StringBuilder(insert.length() + 64).
+                append(insert).
+                append("\nON CONFLICT (").
+                append(String.join(", ", ids)).
+                append(") DO ");
+
+        if (updates.length == 0 && version == null) {
+            return result.append("NOTHING").toString();
+        }
+
+        result.append("UPDATE SET ");
+
+        for (int i = 0; i < updates.length; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            result.append(updates[i]).append(" = EXCLUDED.").append(updates[i]);
+        }
+
+        if (version != null) {
+            int open = insert.indexOf('(');
+            if (!insert.startsWith(INSERT_INTO) || open < 0) {
+                throw new IllegalArgumentException("insert must be INSERT INTO table (column) VALUES, insert: " + insert);
+            }
+
+            if (updates.length > 0) {
+                result.append(", ");
+            }
+
+            String table = insert.substring(INSERT_INTO.length(), open).trim();
+            result.append(version).append(" = ").append(table).append('.').append(version).append(" + 1");
+        }
+
+        return result.toString();
+    }
+
+    /**
+     * pg_class.reltuples by the search path, 0 if never analyzed
+     */
+    @Override
+    public String estimatedCount(String table) {
+        return "SELECT CAST(GREATEST(reltuples, 0) AS BIGINT) AS aggregate\nFROM pg_class" +
+                "\nWHERE (oid = to_regclass(" + DialectRegistry.literal(table) + "))";
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.github.changebooks.mybatis.provider.dialect;
+
+import java.util.Locale;
+
+/**
+ * SQL Server 2012+
+ *
+ * @author changebooks@qq.com
+ */
+public class SqlServerDialect implements Dialect {
+    /**
+     * the head of a SELECT
+     */
+    private static final String SELECT = "SELECT ";
+
+    /**
+     * the ORDER BY clause of a SELECT
+     */
+    private static final String ORDER_BY = "\nORDER BY ";
+
+    @Override
+    public String getName() {
+        return "sqlserver";
+    }
+
+    @Override
+    public boolean supports(String databaseProductName) {
+        return databaseProductName.toLowerCase(Locale.ROOT).contains("sql server");
+    }
+
+    @Override
+    public String quote(String identifier) {
+        return DialectRegistry.quote(identifier, '[', ']');
+    }
+
+    /**
+     * SELECT TOP (limit) ... if no offset
+     * ... ORDER BY column OFFSET offset ROWS FETCH NEXT limit ROWS ONLY, ORDER BY (SELECT NULL) if no order
+     */
+    @Override
+    public void limit(StringBuilder select, Object limit, Object offset) {
+        if (limit == null && offset == null) {
+            return;
+        }
+
+        if (offset == null && select.indexOf(SELECT) == 0) {
+            select.insert(SELECT.length(), "TOP (" + limit + ") ");
+            return;
+        }
+
+        if (select.indexOf(ORDER_BY) < 0) {
+            select.append(ORDER_BY).append("(SELECT NULL)");
+        }
+
+        select.append(" OFFSET ").append(offset != null ? offset : 0).append(" ROWS");
+
+        if (limit != null) {
+            select.append(" FETCH NEXT ").append(limit).append(" ROWS ONLY");
+        }
+    }
+
+    /**
+     * no row values, a &gt; x OR (a = x AND b &gt; y)
+     */
+    @Override
+    public String seek(String[] columns, String[] values, boolean descending) {
+        return DialectRegistry.expandSeek(columns, values, descending);
+    }
+
+    /**
+     * DELETE TOP (limit) FROM table WHERE (...)
+     */
+    @Override
+    public String deleteLimit(String table, String[] ids, String where, Object limit) {
+        return "DELETE TOP (" + limit + ") FROM " + table + "\nWHERE " + where;
+    }
+
+    /**
+     * sys.partitions.rows of the heap Or the clustered index
+     */
+    @Override
+    public String estimatedCount(String table) {
+        return "SELECT SUM(rows) AS aggregate\nFROM sys.partitions" +
+                "\nWHERE (object_id = OBJECT_ID(" + DialectRegistry.literal(table) + ") AND index_id IN (0, 1))";
+    }
+
+}
@@ -0,0 +1,104 @@
+package io.github.changebooks.mybatis.provider.meta;
+
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+
+/**
+ * The metadata of a &#064;MybatisResultMap class, generated at compile time by mybatis-provider-processor
+ * Named the java bean class name And {@link #SUFFIX}, in the same package, e.g. CityProviderMeta
+ * Found by {@link ProviderMetas#find}, the Providers use it instead of reflecting the java bean
+ *
+ * @param <T> the type of the POJO
+ * @author changebooks@qq.com
+ */
+public interface ProviderMeta<T> {
+    /**
+     * the suffix of the generated class name
+     */
+    String SUFFIX = "ProviderMeta";
+
+    /**
+     * &lt;resultMap type="class"&gt;
+     *
+     * @return the java bean class
+     */
+    Class<T> getType();
+
+    /**
+     * &#064;MybatisResultMap(table)
+     *
+     * @return the table name
+     */
+    String getTable();
+
+    /**
+     * the &#064;MybatisResult fields, in the declaration order, read by the typed accessors
+     *
+     * @return a new List
+     */
+    List<TagResult> getElements();
+
+    /**
+     * SELECT column, column, the lazy columns are omitted
+     *
+     * @return [ column_name, column_name ]
+     */
+    String[] getColumns();
+
+    /**
+     * WHERE id = #{id}
+     *
+     * @return [ column = #{property,jdbcType=JDBC_TYPE} ]
+     */
+    String[] getWhereId();
+
+    /**
+     * the precomputed SELECT ONE, of the live rows if logical delete
+     *
+     * @return SELECT column, column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     */
+    String getSelectOne();
+
+    /**
+     * the precomputed INSERT ONE, the auto increments are removed
+     *
+     * @return INSERT INTO table (column, column) VALUES (#{property,jdbcType=JDBC_TYPE}, #{property})
+     */
+    String getInsertOne();
+
+    /**
+     * the precomputed DELETE ONE, an UPDATE if logical delete
+     *
+     * @return DELETE FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+     */
+    String getDeleteOne();
+
+    /**
+     * &#064;MybatisResultMap(logicalDelete)
+     *
+     * @return the column name, null if deleted physically
+     */
+    default String getLogicalDelete() {
+        return null;
+    }
+
+    /**
+     * &#064;MybatisResultMap(deletedValue)
+     *
+     * @return the sql literal, null if deleted physically
+     */
+    default String getDeletedValue() {
+        return null;
+    }
+
+    /**
+     * &#064;MybatisResultMap(liveValue)
+     *
+     * @return the sql literal, null if deleted physically
+     */
+    default String getLiveValue() {
+        return null;
+    }
+
+}
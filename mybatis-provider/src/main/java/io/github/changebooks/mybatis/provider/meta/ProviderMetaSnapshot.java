@@ -0,0 +1,471 @@
+package io.github.changebooks.mybatis.provider.meta;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.sql.SqlDeleteTextBuilder;
+import io.github.changebooks.mybatis.provider.sql.SqlInsertTextBuilder;
+import io.github.changebooks.mybatis.provider.sql.SqlSegment;
+import io.github.changebooks.mybatis.provider.sql.SqlSelectTextBuilder;
+import io.github.changebooks.mybatis.provider.tag.FieldAccessor;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+import io.github.changebooks.mybatis.provider.tag.TagResultFilter;
+import io.github.changebooks.mybatis.provider.tag.TagResultMap;
+import io.github.changebooks.mybatis.provider.tag.TagResultParser;
+import org.apache.ibatis.type.JdbcType;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A binary file of the parsed {@link TagResultMap} And the precomputed sql, for a warm restart
+ * Each java bean is keyed by the hash of its class file, a changed class isn't loaded And is parsed by reflection
+ * The loaded entries are {@link ProviderMeta}, register them before the first Provider is created
+ *
+ * <pre>
+ * int magic, int version, int count
+ * count * { type, long hash, table, logicalDelete, deletedValue, liveValue,
+ *           int size, size * { column, jdbcType, property, byte flags },
+ *           columns, whereId, selectOne, insertOne, deleteOne }
+ * a string is an int length And the utf-8 bytes, -1 if null
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+public final class ProviderMetaSnapshot {
+    /**
+     * "MPMS"
+     */
+    public static final int MAGIC = 0x4d504d53;
+
+    /**
+     * the file format, a file of another version isn't loaded
+     */
+    public static final int VERSION = 1;
+
+    private static final int ID = 1;
+
+    private static final int AUTO_INCREMENT = 1 << 1;
+
+    private static final int LAZY = 1 << 2;
+
+    private static final int VERSION_COLUMN = 1 << 3;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ProviderMetaSnapshot() {
+    }
+
+    /**
+     * write the java beans And their sql, replace the file atomically
+     * a java bean without a class file, e.g. defined at runtime, isn't written
+     *
+     * @param file        the snapshot file
+     * @param resultMaps  the parsed java beans, e.g. of {@link io.github.changebooks.mybatis.provider.AnnotationParser#parse}
+     * @return the number of the written
+     * @throws IOException if failed to write
+     */
+    public static int write(Path file, Collection<TagResultMap> resultMaps) throws IOException {
+        Objects.requireNonNull(file, "file can't be null");
+        Objects.requireNonNull(resultMaps, "resultMaps can't be null");
+
+        Map<Class<?>, TagResultMap> types = new LinkedHashMap<>();
+        Map<Class<?>, Long> hashes = new LinkedHashMap<>();
+
+        for (TagResultMap resultMap : resultMaps) {
+            if (resultMap == null || resultMap.getType() == null || types.containsKey(resultMap.getType())) {
+                continue;
+            }
+
+            Long hash = hash(resultMap.getType());
+            if (hash != null) {
+                types.put(resultMap.getType(), resultMap);
+                hashes.put(resultMap.getType(), hash);
+            }
+        }
+
+        Path dir = file.toAbsolutePath().getParent();
+        if (dir != null) {
+            Files.createDirectories(dir);
+        }
+
+        Path tmp = Files.createTempFile(dir, file.getFileName().toString(), ".tmp");
+
+        try {
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(types.size());
+
+                for (TagResultMap resultMap : types.values()) {
+                    writeEntry(out, resultMap, hashes.get(resultMap.getType()));
+                }
+            }
+
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmp);
+        }
+
+        return types.size();
+    }
+
+    /**
+     * read the file into a heap buffer And read the java beans whose class file isn't changed
+     * not mapped, a mapping is released only by the GC And blocks replacing the file on Windows
+     * a missing Or changed class is skipped, it's parsed by reflection as usual
+     *
+     * @param file   the snapshot file
+     * @param loader the class loader of the java beans
+     * @return the loaded metadata, empty if no file, of another format, Or truncated
+     * @throws IOException if failed to read
+     */
+    public static List<ProviderMeta<?>> read(Path file, ClassLoader loader) throws IOException {
+        Objects.requireNonNull(file, "file can't be null");
+
+        List<ProviderMeta<?>> result = new ArrayList<>();
+        if (!Files.isRegularFile(file)) {
+            return result;
+        }
+
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+
+        if (buffer.remaining() < 12 || buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+            return result;
+        }
+
+        try {
+            int count = readSize(buffer);
+            for (int i = 0; i < count; i++) {
+                ProviderMeta<?> meta = readEntry(buffer, loader);
+                if (meta != null) {
+                    result.add(meta);
+                }
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException tr) {
+            // truncated Or corrupt, e.g. a crash while copying it, parsed by reflection as usual
+            return new ArrayList<>();
+        }
+
+        return result;
+    }
+
+    /**
+     * FNV-1a 64 of the class file
+     *
+     * @param type the java bean class
+     * @return null if the class file isn't found
+     */
+    public static Long hash(Class<?> type) {
+        Objects.requireNonNull(type, "type can't be null");
+
+        String name = type.getName();
+        String resource = name.substring(name.lastIndexOf('.') + 1) + ".class";
+
+        try (InputStream in = type.getResourceAsStream(resource)) {
+            if (in == null) {
+                return null;
+            }
+
+            long result = FNV_OFFSET;
+            byte[] bytes = new byte[8192];
+
+            int n;
+            while ((n = in.read(bytes)) > 0) {
+                for (int i = 0; i < n; i++) {
+                    result ^= bytes[i] & 0xff;
+                    result *= FNV_PRIME;
+                }
+            }
+
+            return result;
+        } catch (IOException tr) {
+            return null;
+        }
+    }
+
+    /**
+     * the parsed properties And the sql rendered by the same builders as the Providers, unquoted
+     */
+    private static void writeEntry(DataOutputStream out, TagResultMap resultMap, long hash) throws IOException {
+        List<TagResult> elements = resultMap.getElements() != null ? resultMap.getElements() : new ArrayList<>();
+        List<TagResult> insertElements = TagResultFilter.removeAutoIncrement(elements);
+
+        String table = resultMap.getTable();
+        String[] columns = SqlSegment.getColumns(TagResultFilter.removeLazy(elements));
+        String[] whereId = SqlSegment.getWhere(TagResultFilter.filterId(elements));
+
+        String live = SqlSegment.getLive(resultMap.getLogicalDelete(), resultMap.getLiveValue());
+        String delete = SqlSegment.getDelete(resultMap.getLogicalDelete(), resultMap.getDeletedValue());
+
+        writeString(out, resultMap.getType().getName());
+        out.writeLong(hash);
+        writeString(out, table);
+        writeString(out, resultMap.getLogicalDelete());
+        writeString(out, resultMap.getDeletedValue());
+        writeString(out, resultMap.getLiveValue());
+
+        out.writeInt(elements.size());
+        for (TagResult element : elements) {
+            writeString(out, element.getColumn());
+            writeString(out, element.getJdbcType() != null ? element.getJdbcType().name() : null);
+            writeString(out, element.getProperty());
+            out.writeByte((element.isId() ? ID : 0) |
+                    (element.isAutoIncrement() ? AUTO_INCREMENT : 0) |
+                    (element.isLazy() ? LAZY : 0) |
+                    (element.isVersion() ? VERSION_COLUMN : 0));
+        }
+
+        writeStrings(out, columns);
+        writeStrings(out, whereId);
+        writeString(out, new SqlSelectTextBuilder(table, columns, whereId, null,
+                null, 0, 0, null, Dialect.MYSQL, live).selectOneSql());
+        writeString(out, new SqlInsertTextBuilder(table,
+                SqlSegment.getIntoColumns(insertElements),
+                SqlSegment.getIntoValues(insertElements)).insertOneSql());
+        writeString(out, new SqlDeleteTextBuilder(table, whereId, null, delete, null,
+                0, 0, null, Dialect.MYSQL).deleteOneSql());
+    }
+
+    /**
+     * the entry is read whole, then dropped if the class is missing Or changed
+     */
+    private static ProviderMeta<?> readEntry(ByteBuffer buffer, ClassLoader loader) {
+        String typeName = readString(buffer);
+        long hash = buffer.getLong();
+        String table = readString(buffer);
+        String logicalDelete = readString(buffer);
+        String deletedValue = readString(buffer);
+        String liveValue = readString(buffer);
+
+        int size = readSize(buffer);
+        String[][] names = new String[size][];
+        byte[] flags = new byte[size];
+
+        for (int i = 0; i < size; i++) {
+            names[i] = new String[]{readString(buffer), readString(buffer), readString(buffer)};
+            flags[i] = buffer.get();
+        }
+
+        String[] columns = readStrings(buffer);
+        String[] whereId = readStrings(buffer);
+        String selectOne = readString(buffer);
+        String insertOne = readString(buffer);
+        String deleteOne = readString(buffer);
+
+        if (typeName == null) {
+            return null;
+        }
+
+        Class<?> type;
+        try {
+            type = Class.forName(typeName, false, loader);
+        } catch (ClassNotFoundException | LinkageError tr) {
+            return null;
+        }
+
+        Long current = hash(type);
+        if (current == null || current != hash) {
+            return null;
+        }
+
+        List<TagResult> elements = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Field field;
+            try {
+                field = type.getDeclaredField(names[i][2]);
+            } catch (NoSuchFieldException tr) {
+                return null;
+            }
+
+            TagResultParser.setAccessibleTrue(field);
+
+            TagResult element = ProviderMetas.element(names[i][0],
+                    names[i][1] != null ? JdbcType.valueOf(names[i][1]) : null,
+                    names[i][2], field.getType(),
+                    (flags[i] & ID) != 0,
+                    (flags[i] & AUTO_INCREMENT) != 0,
+                    (flags[i] & LAZY) != 0,
+                    (flags[i] & VERSION_COLUMN) != 0,
+                    (FieldAccessor) null);
+            element.setField(field);
+
+            elements.add(element);
+        }
+
+        return new SnapshotMeta<>(type, table, elements, columns, whereId, selectOne, insertOne, deleteOne,
+                logicalDelete, deletedValue, liveValue);
+    }
+
+    private static void writeStrings(DataOutputStream out, String[] values) throws IOException {
+        out.writeInt(values.length);
+        for (String value : values) {
+            writeString(out, value);
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer buffer) {
+        String[] result = new String[readSize(buffer)];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = readString(buffer);
+        }
+
+        return result;
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        int length = buffer.getInt();
+        if (length < 0) {
+            return null;
+        }
+
+        if (length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * a count, each item takes a byte at least, so a count over the remaining is of a truncated file
+     */
+    private static int readSize(ByteBuffer buffer) {
+        int result = buffer.getInt();
+        if (result < 0 || result > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+
+        return result;
+    }
+
+    /**
+     * a {@link ProviderMeta} read from the snapshot, the elements are shared, don't modify them
+     *
+     * @param <T> the type of the POJO
+     */
+    private static final class SnapshotMeta<T> implements ProviderMeta<T> {
+
+        private final Class<T> type;
+
+        private final String table;
+
+        private final List<TagResult> elements;
+
+        private final String[] columns;
+
+        private final String[] whereId;
+
+        private final String selectOne;
+
+        private final String insertOne;
+
+        private final String deleteOne;
+
+        private final String logicalDelete;
+
+        private final String deletedValue;
+
+        private final String liveValue;
+
+        SnapshotMeta(Class<T> type, String table, List<TagResult> elements, String[] columns, String[] whereId,
+                     String selectOne, String insertOne, String deleteOne,
+                     String logicalDelete, String deletedValue, String liveValue) {
+            this.type = type;
+            this.table = table;
+            this.elements = elements;
+            this.columns = columns;
+            this.whereId = whereId;
+            this.selectOne = selectOne;
+            this.insertOne = insertOne;
+            this.deleteOne = deleteOne;
+            this.logicalDelete = logicalDelete;
+            this.deletedValue = deletedValue;
+            this.liveValue = liveValue;
+        }
+
+        @Override
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        public String getTable() {
+            return table;
+        }
+
+        @Override
+        public List<TagResult> getElements() {
+            return new ArrayList<>(elements);
+        }
+
+        @Override
+        public String[] getColumns() {
+            return columns.clone();
+        }
+
+        @Override
+        public String[] getWhereId() {
+            return whereId.clone();
+        }
+
+        @Override
+        public String getSelectOne() {
+            return selectOne;
+        }
+
+        @Override
+        public String getInsertOne() {
+            return insertOne;
+        }
+
+        @Override
+        public String getDeleteOne() {
+            return deleteOne;
+        }
+
+        @Override
+        public String getLogicalDelete() {
+            return logicalDelete;
+        }
+
+        @Override
+        public String getDeletedValue() {
+            return deletedValue;
+        }
+
+        @Override
+        public String getLiveValue() {
+            return liveValue;
+        }
+
+    }
+
+}
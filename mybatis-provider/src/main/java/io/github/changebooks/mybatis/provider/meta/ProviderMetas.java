@@ -0,0 +1,204 @@
+package io.github.changebooks.mybatis.provider.meta;
+
+import io.github.changebooks.mybatis.provider.tag.FieldAccessor;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+import io.github.changebooks.mybatis.provider.tag.TagResultParser;
+import org.apache.ibatis.type.JdbcType;
+
+import java.lang.reflect.Field;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Find the generated {@link ProviderMeta}, And the helpers of the generated code
+ *
+ * @author changebooks@qq.com
+ */
+public final class ProviderMetas {
+    /**
+     * [ java bean class : ProviderMeta ], each class is looked up once per process
+     */
+    private static final ClassValue<Optional<ProviderMeta<?>>> METAS = new ClassValue<Optional<ProviderMeta<?>>>() {
+        @Override
+        protected Optional<ProviderMeta<?>> computeValue(Class<?> type) {
+            return Optional.ofNullable(load(type));
+        }
+    };
+
+    /**
+     * [ java bean class : ProviderMeta ], registered explicitly Or by {@link #loadAll}
+     */
+    private static final ConcurrentMap<Class<?>, ProviderMeta<?>> REGISTERED = new ConcurrentHashMap<>();
+
+    /**
+     * only the registered metadata is used, no Class.forName And no reflection fallback, e.g. in a native image
+     */
+    private static volatile boolean strict = false;
+
+    private ProviderMetas() {
+    }
+
+    /**
+     * the generated metadata of the java bean class
+     * the registered one if present, or else found by name And cached, unless {@link #isStrict()}
+     *
+     * @param type the java bean class
+     * @param <T>  the type of the POJO
+     * @return null if not generated
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ProviderMeta<T> find(Class<T> type) {
+        if (type == null) {
+            return null;
+        }
+
+        ProviderMeta<?> result = REGISTERED.get(type);
+        if (result != null || strict) {
+            return (ProviderMeta<T>) result;
+        }
+
+        return (ProviderMeta<T>) METAS.get(type).orElse(null);
+    }
+
+    /**
+     * register the metadata, before the first Provider of the type is created
+     *
+     * @param meta the generated metadata
+     */
+    public static void register(ProviderMeta<?> meta) {
+        Objects.requireNonNull(meta, "meta can't be null");
+        Objects.requireNonNull(meta.getType(), "type can't be null");
+
+        REGISTERED.put(meta.getType(), meta);
+    }
+
+    /**
+     * register all generated metadata listed in
+     * META-INF/services/io.github.changebooks.mybatis.provider.meta.ProviderMeta
+     * the processor writes the list, And the native image keeps the services
+     *
+     * @param loader the class loader, null is the system class loader
+     * @return the number of the registered
+     */
+    public static int loadAll(ClassLoader loader) {
+        int result = 0;
+
+        for (ProviderMeta<?> meta : ServiceLoader.load(ProviderMeta.class, loader)) {
+            register(meta);
+            result++;
+        }
+
+        return result;
+    }
+
+    /**
+     * the registered metadata
+     *
+     * @return [ java bean class : ProviderMeta ], unmodifiable
+     */
+    public static Map<Class<?>, ProviderMeta<?>> getRegistered() {
+        return Collections.unmodifiableMap(REGISTERED);
+    }
+
+    public static boolean isStrict() {
+        return strict;
+    }
+
+    /**
+     * set it before the first Provider is created
+     *
+     * @param strict only the registered metadata is used ?
+     */
+    public static void setStrict(boolean strict) {
+        ProviderMetas.strict = strict;
+    }
+
+    /**
+     * load And instantiate the generated class, e.g. City to CityProviderMeta
+     *
+     * @param type the java bean class
+     * @return null if not generated, or it isn't the meta of the type
+     */
+    private static ProviderMeta<?> load(Class<?> type) {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(type.getName() + ProviderMeta.SUFFIX, true, type.getClassLoader());
+        } catch (ClassNotFoundException | LinkageError tr) {
+            return null;
+        }
+
+        if (!ProviderMeta.class.isAssignableFrom(clazz)) {
+            return null;
+        }
+
+        try {
+            ProviderMeta<?> result = (ProviderMeta<?>) clazz.getConstructor().newInstance();
+            return result.getType() == type ? result : null;
+        } catch (ReflectiveOperationException tr) {
+            throw new RuntimeException(tr);
+        }
+    }
+
+    /**
+     * an element read by a typed accessor, used by the generated code
+     *
+     * @param column        &#064;MybatisResult(column)
+     * @param jdbcType      &#064;MybatisResult(jdbcType)
+     * @param property      the java field name
+     * @param javaType      the java field type
+     * @param id            &#064;MybatisResult(id)
+     * @param autoIncrement &#064;MybatisResult(autoIncrement)
+     * @param lazy          &#064;MybatisResult(lazy)
+     * @param version       &#064;MybatisResult(version)
+     * @param accessor      e.g. record -&gt; ((City) record).getId()
+     * @return TagResult
+     */
+    public static TagResult element(String column, JdbcType jdbcType, String property, Class<?> javaType,
+                                    boolean id, boolean autoIncrement, boolean lazy, boolean version, FieldAccessor accessor) {
+        TagResult result = new TagResult();
+
+        result.setColumn(column);
+        result.setJdbcType(jdbcType);
+        result.setProperty(property);
+        result.setJavaType(javaType);
+        result.setId(id);
+        result.setAutoIncrement(autoIncrement);
+        result.setLazy(lazy);
+        result.setVersion(version);
+        result.setAccessor(accessor);
+
+        return result;
+    }
+
+    /**
+     * an element read by the reflect Field, used by the generated code if the field is private without a getter
+     *
+     * @param column        &#064;MybatisResult(column)
+     * @param jdbcType      &#064;MybatisResult(jdbcType)
+     * @param property      the java field name
+     * @param javaType      the java field type
+     * @param id            &#064;MybatisResult(id)
+     * @param autoIncrement &#064;MybatisResult(autoIncrement)
+     * @param lazy          &#064;MybatisResult(lazy)
+     * @param version       &#064;MybatisResult(version)
+     * @param declaringType the java bean class
+     * @return TagResult
+     */
+    public static TagResult element(String column, JdbcType jdbcType, String property, Class<?> javaType,
+                                    boolean id, boolean autoIncrement, boolean lazy, boolean version, Class<?> declaringType) {
+        Field field;
+        try {
+            field = declaringType.getDeclaredField(property);
+        } catch (NoSuchFieldException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        TagResultParser.setAccessibleTrue(field);
+
+        TagResult result = element(column, jdbcType, property, javaType, id, autoIncrement, lazy, version, (FieldAccessor) null);
+        result.setField(field);
+        return result;
+    }
+
+}
@@ -0,0 +1,71 @@
+package io.github.changebooks.mybatis.provider.metrics;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Count the distinct sql of an operation, by hash code
+ * Once {@link #maxSize} is reached, it stops counting And reports saturated
+ * The distinct sql is the number of MappedStatement's BoundSql shapes, And of the JDBC statement cache entries
+ *
+ * @author changebooks@qq.com
+ */
+public final class SqlCardinality {
+    /**
+     * the default max size
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * the max number of the counted sql
+     */
+    private final int maxSize;
+
+    /**
+     * [ sql hash code ]
+     */
+    private final Set<Integer> hashes = ConcurrentHashMap.newKeySet();
+
+    public SqlCardinality() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SqlCardinality(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize can't be negative");
+        }
+
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * count the sql
+     *
+     * @param sql the rendered sql
+     */
+    public void add(String sql) {
+        if (sql == null || hashes.size() >= maxSize) {
+            return;
+        }
+
+        hashes.add(sql.hashCode());
+    }
+
+    /**
+     * reached max size ? the real cardinality may be larger
+     *
+     * @return saturated ?
+     */
+    public boolean isSaturated() {
+        return hashes.size() >= maxSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getSize() {
+        return hashes.size();
+    }
+
+}
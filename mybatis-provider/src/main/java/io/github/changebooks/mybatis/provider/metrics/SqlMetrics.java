@@ -0,0 +1,43 @@
+package io.github.changebooks.mybatis.provider.metrics;
+
+/**
+ * Record the sql rendered by the Providers
+ * Register an implement by {@link SqlMetricsRegistry#set}, e.g. a Micrometer binder
+ *
+ * @author changebooks@qq.com
+ */
+public interface SqlMetrics {
+    /**
+     * record nothing
+     */
+    SqlMetrics NOOP = new SqlMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void record(Class<?> entity, String operation, String sql, long nanos) {
+        }
+    };
+
+    /**
+     * enabled ? the Providers skip timing if false
+     *
+     * @return true by default
+     */
+    default boolean isEnabled() {
+        return true;
+    }
+
+    /**
+     * record a rendering
+     *
+     * @param entity    the java bean class, e.g. City.class
+     * @param operation the Provider method, e.g. selectList
+     * @param sql       the rendered sql
+     * @param nanos     the rendering time, nanoseconds
+     */
+    void record(Class<?> entity, String operation, String sql, long nanos);
+
+}
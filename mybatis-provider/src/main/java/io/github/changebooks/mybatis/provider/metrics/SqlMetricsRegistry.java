@@ -0,0 +1,38 @@
+package io.github.changebooks.mybatis.provider.metrics;
+
+import java.util.Objects;
+
+/**
+ * Process-wide {@link SqlMetrics}, {@link SqlMetrics#NOOP} by default
+ * Mybatis creates a new Provider instance per call, so the metrics are bound to the process
+ *
+ * @author changebooks@qq.com
+ */
+public final class SqlMetricsRegistry {
+
+    private static volatile SqlMetrics metrics = SqlMetrics.NOOP;
+
+    private SqlMetricsRegistry() {
+    }
+
+    /**
+     * the current metrics, read by each new Provider
+     *
+     * @return SqlMetrics
+     */
+    public static SqlMetrics get() {
+        return metrics;
+    }
+
+    /**
+     * replace the current metrics
+     *
+     * @param metrics the {@link SqlMetrics} instance, {@link SqlMetrics#NOOP} to disable
+     */
+    public static void set(SqlMetrics metrics) {
+        Objects.requireNonNull(metrics, "metrics can't be null");
+
+        SqlMetricsRegistry.metrics = metrics;
+    }
+
+}
@@ -60,7 +60,7 @@ public final class ResultMapBuilder {
         if (namespace == null || namespace.isEmpty() || id == null || id.isEmpty()) {
             return id;
         } else {
-            return String.format("%s.%s", namespace, id);
+            return namespace + "." + id;
         }
     }
 
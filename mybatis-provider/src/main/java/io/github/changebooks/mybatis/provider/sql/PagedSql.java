@@ -0,0 +1,71 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import org.apache.ibatis.jdbc.SQL;
+
+import java.util.Objects;
+
+/**
+ * A SELECT paged by the dialect when rendered, the LIMIT And OFFSET of {@link SQL} are MySQL's
+ *
+ * <pre>
+ * new PagedSql(dialect, 10, 20) {
+ *     {
+ *         SELECT("id, city_name");
+ *         FROM("city");
+ *         ORDER_BY("id ASC");
+ *     }
+ * }.toString();
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+public class PagedSql extends SQL {
+    /**
+     * the dialect of paging
+     */
+    private final Dialect dialect;
+
+    /**
+     * the max rows, e.g. 10, #{cursor.pageSize}, null if no limit
+     */
+    private final Object limit;
+
+    /**
+     * the skipped rows, null if no offset
+     */
+    private final Object offset;
+
+    public PagedSql(Dialect dialect, Object limit, Object offset) {
+        Objects.requireNonNull(dialect, "dialect can't be null");
+
+        this.dialect = dialect;
+        this.limit = limit;
+        this.offset = offset;
+    }
+
+    /**
+     * the SELECT, paged by {@link Dialect#limit}
+     *
+     * @return e.g. SELECT TOP (10) id, city_name FROM city ORDER BY id ASC
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(super.toString());
+        dialect.limit(result, limit, offset);
+        return result.toString();
+    }
+
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    public Object getLimit() {
+        return limit;
+    }
+
+    public Object getOffset() {
+        return offset;
+    }
+
+}
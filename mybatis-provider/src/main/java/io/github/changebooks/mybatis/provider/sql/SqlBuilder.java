@@ -1,7 +1,10 @@
 package io.github.changebooks.mybatis.provider.sql;
 
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
 import org.apache.ibatis.jdbc.SQL;
 
+import java.util.List;
+
 /**
  * Build SQL
  *
@@ -28,6 +31,19 @@ public final class SqlBuilder {
          */
         SQL selectList(String[] conditions, String[] orders, Long startRow, Integer pageSize);
 
+        /**
+         * SELECT LIST
+         *
+         * @param conditions the conditions
+         * @param orders     ORDER BY column ASC, column DESC
+         * @param startRow   LIMIT startRow, 10
+         * @param pageSize   LIMIT 0, pageSize
+         * @return SELECT column, column FROM table WHERE column = #{property} ORDER BY column ASC, column DESC LIMIT startRow, pageSize
+         */
+        default String selectListSql(String[] conditions, String[] orders, Long startRow, Integer pageSize) {
+            return selectList(conditions, orders, startRow, pageSize).toString();
+        }
+
         /**
          * SELECT COUNT
          *
@@ -36,6 +52,16 @@ public final class SqlBuilder {
          */
         SQL selectCount(String[] conditions);
 
+        /**
+         * SELECT COUNT
+         *
+         * @param conditions the conditions
+         * @return SELECT COUNT(*) AS aggregate FROM table WHERE column = #{property,jdbcType=JDBC_TYPE}
+         */
+        default String selectCountSql(String[] conditions) {
+            return selectCount(conditions).toString();
+        }
+
         /**
          * SELECT ONE
          *
@@ -43,6 +69,82 @@ public final class SqlBuilder {
          */
         SQL selectOne();
 
+        /**
+         * SELECT ONE
+         *
+         * @return SELECT column, column FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+         */
+        default String selectOneSql() {
+            return selectOne().toString();
+        }
+
+        /**
+         * SELECT KEYSET, seek the page after the last sort key values
+         *
+         * @param conditions the conditions
+         * @param first      the first page ? no seek condition if true
+         * @param descending ORDER BY key DESC ?
+         * @return SELECT column, column FROM table WHERE column = #{property} AND (key, key) &gt; (#{cursor.values[0]}, #{cursor.values[1]}) ORDER BY key ASC, key ASC LIMIT #{cursor.pageSize}
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default SQL selectKeyset(String[] conditions, boolean first, boolean descending) {
+            throw new UnsupportedOperationException("selectKeyset isn't supported");
+        }
+
+        /**
+         * SELECT KEYSET, seek the page after the last sort key values
+         *
+         * @param conditions the conditions
+         * @param first      the first page ? no seek condition if true
+         * @param descending ORDER BY key DESC ?
+         * @return SELECT column, column FROM table WHERE column = #{property} AND (key, key) &gt; (#{cursor.values[0]}, #{cursor.values[1]}) ORDER BY key ASC, key ASC LIMIT #{cursor.pageSize}
+         */
+        default String selectKeysetSql(String[] conditions, boolean first, boolean descending) {
+            return selectKeyset(conditions, first, descending).toString();
+        }
+
+        /**
+         * SELECT BY IDS
+         *
+         * @param size the number of ids, 0 &lt; size &lt;= max ids
+         * @return SELECT column, column FROM table WHERE id IN (#{ids[0],jdbcType=JDBC_TYPE}, #{ids[1],jdbcType=JDBC_TYPE})
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default SQL selectByIds(int size) {
+            throw new UnsupportedOperationException("selectByIds isn't supported");
+        }
+
+        /**
+         * SELECT BY IDS, the implements may cache the sql by size
+         *
+         * @param size the number of ids, 0 &lt; size &lt;= max ids
+         * @return SELECT column, column FROM table WHERE id IN (#{ids[0],jdbcType=JDBC_TYPE}, #{ids[1],jdbcType=JDBC_TYPE})
+         */
+        default String selectByIdsSql(int size) {
+            return selectByIds(size).toString();
+        }
+
+        /**
+         * SELECT CAPPED COUNT, stops counting at #{cap} rows, paged by the dialect
+         *
+         * @param conditions the conditions
+         * @return SELECT COUNT(*) AS aggregate FROM (SELECT 1 FROM table WHERE column = #{property} LIMIT #{cap}) t_
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default String selectCappedCountSql(String[] conditions) {
+            throw new UnsupportedOperationException("selectCappedCount isn't supported");
+        }
+
+        /**
+         * the max ids of a SELECT BY IDS
+         *
+         * @return the max ids
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default int getMaxIds() {
+            throw new UnsupportedOperationException("selectByIds isn't supported");
+        }
+
     }
 
     /**
@@ -56,6 +158,46 @@ public final class SqlBuilder {
          */
         SQL insertOne();
 
+        /**
+         * INSERT ONE
+         *
+         * @return INSERT INTO table (column, column) VALUES (#{property,jdbcType=JDBC_TYPE}, #{property})
+         */
+        default String insertOneSql() {
+            return insertOne().toString();
+        }
+
+        /**
+         * INSERT BATCH
+         *
+         * @param rows the number of rows, 0 &lt; rows &lt;= batch size
+         * @return INSERT INTO table (column, column) VALUES (#{list[0].property,jdbcType=JDBC_TYPE}, #{list[0].property}), (#{list[1].property,jdbcType=JDBC_TYPE}, #{list[1].property})
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default SQL insertBatch(int rows) {
+            throw new UnsupportedOperationException("insertBatch isn't supported");
+        }
+
+        /**
+         * INSERT BATCH, the implements may cache the sql by rows
+         *
+         * @param rows the number of rows, 0 &lt; rows &lt;= batch size
+         * @return INSERT INTO table (column, column) VALUES (#{list[0].property,jdbcType=JDBC_TYPE}, #{list[0].property}), (#{list[1].property,jdbcType=JDBC_TYPE}, #{list[1].property})
+         */
+        default String insertBatchSql(int rows) {
+            return insertBatch(rows).toString();
+        }
+
+        /**
+         * the max rows of an INSERT BATCH
+         *
+         * @return the batch size
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default int getBatchSize() {
+            throw new UnsupportedOperationException("insertBatch isn't supported");
+        }
+
     }
 
     /**
@@ -72,6 +214,94 @@ public final class SqlBuilder {
          */
         SQL updateOne(T record);
 
+        /**
+         * UPDATE ONE, the implements may cache the sql by the Non-Null columns of the record
+         *
+         * @param record the POJO
+         * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
+         */
+        default String updateOneSql(T record) {
+            return updateOne(record).toString();
+        }
+
+        /**
+         * UPDATE BATCH, a single statement, the Null properties of a row are kept
+         *
+         * @param records the POJO list, 0 &lt; size &lt;= batch size
+         * @return UPDATE table SET column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END WHERE id IN (#{list[0].id})
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default SQL updateBatch(List<T> records) {
+            throw new UnsupportedOperationException("updateBatch isn't supported");
+        }
+
+        /**
+         * UPDATE BATCH, the implements may cache the sql by the Non-Null columns of the records
+         *
+         * @param records the POJO list, 0 &lt; size &lt;= batch size
+         * @return UPDATE table SET column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END WHERE id IN (#{list[0].id})
+         */
+        default String updateBatchSql(List<T> records) {
+            return updateBatch(records).toString();
+        }
+
+        /**
+         * the max rows of an UPDATE BATCH
+         *
+         * @return the batch size
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default int getBatchSize() {
+            throw new UnsupportedOperationException("updateBatch isn't supported");
+        }
+
+        /**
+         * the Non-Null shape of the record, the records of a shape have the same UPDATE ONE sql
+         * the UPDATE ONE sql itself by default
+         *
+         * @param record the POJO
+         * @return the shape, equals And hashCode by value
+         * @throws IllegalAccessException if the underlying field is inaccessible.
+         */
+        default Object getShape(T record) throws IllegalAccessException {
+            return updateOneSql(record);
+        }
+
+    }
+
+    /**
+     * Build UPSERT SQL, by the {@link Dialect}
+     */
+    public interface SqlUpsert {
+        /**
+         * UPSERT ONE
+         *
+         * @return INSERT INTO table (id, column) VALUES (#{id}, #{property}) ON DUPLICATE KEY UPDATE column = VALUES(column)
+         */
+        String upsertOneSql();
+
+        /**
+         * UPSERT BATCH
+         *
+         * @param rows the number of rows, 0 &lt; rows &lt;= {@link #getBatchSize()}
+         * @return INSERT INTO table (id, column) VALUES (#{list[0].id}, #{list[0].property}), (#{list[1].id}, #{list[1].property}) ON DUPLICATE KEY UPDATE column = VALUES(column)
+         */
+        String upsertBatchSql(int rows);
+
+        /**
+         * the max rows of a batch
+         *
+         * @return min(maxRows, maxParameters / columns)
+         */
+        int getBatchSize();
+
+        /**
+         * the dialect
+         *
+         * @return e.g. {@link Dialect#MYSQL}
+         */
+        Dialect getDialect();
+
     }
 
     /**
@@ -85,6 +315,76 @@ public final class SqlBuilder {
          */
         SQL deleteOne();
 
+        /**
+         * DELETE ONE
+         *
+         * @return DELETE FROM table WHERE id = #{id,jdbcType=JDBC_TYPE}
+         */
+        default String deleteOneSql() {
+            return deleteOne().toString();
+        }
+
+        /**
+         * DELETE WHERE, a chunk of at most #{chunkSize} rows, deleted physically, by the dialect
+         *
+         * @param conditions the conditions, not empty
+         * @return DELETE FROM table WHERE (column = #{property}) LIMIT #{chunkSize}, Or by an id subselect
+         * @throws UnsupportedOperationException if unsupported, e.g. the logical delete
+         */
+        default String deleteWhereSql(String[] conditions) {
+            throw new UnsupportedOperationException("deleteWhere isn't supported");
+        }
+
+        /**
+         * SELECT PURGE, the ids of the logically deleted rows, a page of #{pageSize}
+         *
+         * @return SELECT id FROM table WHERE deleted = 1 LIMIT #{pageSize}
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default SQL selectPurge() {
+            throw new UnsupportedOperationException("selectPurge isn't supported");
+        }
+
+        /**
+         * SELECT PURGE, paged by the dialect
+         *
+         * @return SELECT id FROM table WHERE deleted = 1 LIMIT #{pageSize}
+         */
+        default String selectPurgeSql() {
+            return selectPurge().toString();
+        }
+
+        /**
+         * PURGE BATCH, delete the logically deleted rows physically
+         *
+         * @param rows the number of rows, 0 &lt; rows &lt;= {@link #getBatchSize()}
+         * @return DELETE FROM table WHERE deleted = 1 AND id IN (#{list[0].id}, #{list[1].id})
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default SQL purgeBatch(int rows) {
+            throw new UnsupportedOperationException("purgeBatch isn't supported");
+        }
+
+        /**
+         * PURGE BATCH, the implements may cache the sql by the rows
+         *
+         * @param rows the number of rows, 0 &lt; rows &lt;= {@link #getBatchSize()}
+         * @return DELETE FROM table WHERE deleted = 1 AND id IN (#{list[0].id}, #{list[1].id})
+         */
+        default String purgeBatchSql(int rows) {
+            return purgeBatch(rows).toString();
+        }
+
+        /**
+         * the max rows of a PURGE BATCH
+         *
+         * @return min(maxRows, maxParameters / ids)
+         * @throws UnsupportedOperationException if unsupported
+         */
+        default int getBatchSize() {
+            throw new UnsupportedOperationException("purgeBatch isn't supported");
+        }
+
     }
 
 }
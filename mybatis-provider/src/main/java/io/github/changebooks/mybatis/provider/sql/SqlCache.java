@@ -0,0 +1,149 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded cache of the rendered sql, backed by a {@link SqlLruCache} bounded by the entries only
+ * Once {@link #maxSize} is reached, the least recently used sql is evicted, so the recurring shapes stay cached
+ * A pinned sql is never evicted, e.g. the full chunk of a batch, the heaviest And the most used
+ *
+ * @param <K> the type of the cache key
+ * @author changebooks@qq.com
+ */
+public final class SqlCache<K> {
+    /**
+     * the default max size
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * the max number of the cached sql
+     */
+    private final int maxSize;
+
+    /**
+     * [ key : sql ], null if maxSize is 0, nothing cached
+     */
+    private final SqlLruCache<K> caches;
+
+    /**
+     * [ key : pinned sql ], never evicted
+     */
+    private final ConcurrentMap<K, String> pinned = new ConcurrentHashMap<>(4);
+
+    /**
+     * the hit counter of the pinned sql
+     */
+    private final LongAdder pinnedHits = new LongAdder();
+
+    /**
+     * the miss counter of the pinned sql, Or of all if nothing cached
+     */
+    private final LongAdder misses = new LongAdder();
+
+    public SqlCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public SqlCache(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("maxSize can't be negative");
+        }
+
+        this.maxSize = maxSize;
+        this.caches = maxSize > 0 ? new SqlLruCache<>(maxSize, Long.MAX_VALUE) : null;
+    }
+
+    /**
+     * get the cached sql, render And cache it if absent
+     *
+     * @param key    the cache key
+     * @param render render the sql by key
+     * @return the sql
+     */
+    public String get(K key, Function<? super K, String> render) {
+        if (caches == null) {
+            misses.increment();
+            return render.apply(key);
+        }
+
+        return caches.get(key, render);
+    }
+
+    /**
+     * get the pinned sql, render And pin it if absent, it isn't evicted by the other keys
+     * for the few keys in use all the time only, e.g. the full chunk of a batch, they aren't bounded by maxSize
+     *
+     * @param key    the cache key
+     * @param render render the sql by key
+     * @return the sql
+     */
+    public String getPinned(K key, Function<? super K, String> render) {
+        String sql = pinned.get(key);
+        if (sql != null) {
+            pinnedHits.increment();
+            return sql;
+        }
+
+        misses.increment();
+
+        sql = render.apply(key);
+        if (sql == null || caches == null) {
+            return sql;
+        }
+
+        String previous = pinned.putIfAbsent(key, sql);
+        return previous != null ? previous : sql;
+    }
+
+    /**
+     * remove all cached sql, the counters are kept
+     */
+    public void clear() {
+        if (caches != null) {
+            caches.clear();
+        }
+
+        pinned.clear();
+    }
+
+    /**
+     * hits / (hits + misses)
+     *
+     * @return the hit ratio, 0 if never requested
+     */
+    public double getHitRatio() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return total > 0 ? (double) hit / total : 0;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public int getSize() {
+        return (caches != null ? caches.getSize() : 0) + pinned.size();
+    }
+
+    public long getHits() {
+        return (caches != null ? caches.getHits() : 0) + pinnedHits.sum();
+    }
+
+    public long getMisses() {
+        return (caches != null ? caches.getMisses() : 0) + misses.sum();
+    }
+
+    /**
+     * the sql evicted to make room, a high count means maxSize is too small for the shapes
+     *
+     * @return the eviction count
+     */
+    public long getEvictions() {
+        return caches != null ? caches.getEvictions() : 0;
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Process-wide {@link SqlCache} registry, keyed by the owner class, the java bean class And the cache name
+ * Mybatis creates a new Provider instance per call, so the caches are bound to the Provider class
+ * And the java bean class, a Provider class of several java beans has a cache per java bean
+ *
+ * @author changebooks@qq.com
+ */
+public final class SqlCaches {
+    /**
+     * [ owner class : [ java bean class : [ name : SqlCache ] ] ]
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, ConcurrentMap<String, SqlCache<?>>>> CACHES =
+            new ClassValue<ConcurrentMap<Class<?>, ConcurrentMap<String, SqlCache<?>>>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, ConcurrentMap<String, SqlCache<?>>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    /**
+     * [ owner class : [ java bean class : [ name : SqlLruCache ] ] ]
+     */
+    private static final ClassValue<ConcurrentMap<Class<?>, ConcurrentMap<String, SqlLruCache<?>>>> LRU_CACHES =
+            new ClassValue<ConcurrentMap<Class<?>, ConcurrentMap<String, SqlLruCache<?>>>>() {
+                @Override
+                protected ConcurrentMap<Class<?>, ConcurrentMap<String, SqlLruCache<?>>> computeValue(Class<?> type) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+
+    private SqlCaches() {
+    }
+
+    /**
+     * get the cache, create it with {@link SqlCache#DEFAULT_MAX_SIZE} if absent
+     *
+     * @param owner the owner class, e.g. the Provider class
+     * @param name  the cache name, e.g. updateOne
+     * @param <K>   the type of the cache key
+     * @return SqlCache
+     */
+    public static <K> SqlCache<K> get(Class<?> owner, String name) {
+        return get(owner, name, SqlCache.DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * get the cache, create it with maxSize if absent
+     *
+     * @param owner   the owner class, e.g. the Provider class
+     * @param name    the cache name, e.g. updateOne
+     * @param maxSize the max size, used in creating only
+     * @param <K>     the type of the cache key
+     * @return SqlCache
+     */
+    public static <K> SqlCache<K> get(Class<?> owner, String name, int maxSize) {
+        return get(owner, owner, name, maxSize);
+    }
+
+    /**
+     * get the cache of a java bean, create it with maxSize if absent
+     *
+     * @param owner   the owner class, e.g. the Provider class
+     * @param type    the java bean class, e.g. City.class
+     * @param name    the cache name, e.g. updateOne
+     * @param maxSize the max size, used in creating only
+     * @param <K>     the type of the cache key
+     * @return SqlCache
+     */
+    @SuppressWarnings("unchecked")
+    public static <K> SqlCache<K> get(Class<?> owner, Class<?> type, String name, int maxSize) {
+        ConcurrentMap<String, SqlCache<?>> caches = CACHES.get(owner).computeIfAbsent(type, x -> new ConcurrentHashMap<>());
+        return (SqlCache<K>) caches.computeIfAbsent(name, x -> new SqlCache<K>(maxSize));
+    }
+
+    /**
+     * get the LRU cache, create it with maxSize And maxWeight if absent
+     *
+     * @param owner     the owner class, e.g. the Provider class
+     * @param name      the cache name, e.g. selectList
+     * @param maxSize   the max entries, used in creating only
+     * @param maxWeight the max total length of the sql, used in creating only
+     * @param <K>       the type of the cache key
+     * @return SqlLruCache
+     */
+    public static <K> SqlLruCache<K> getLru(Class<?> owner, String name, int maxSize, long maxWeight) {
+        return getLru(owner, owner, name, maxSize, maxWeight);
+    }
+
+    /**
+     * get the LRU cache of a java bean, create it with maxSize And maxWeight if absent
+     *
+     * @param owner     the owner class, e.g. the Provider class
+     * @param type      the java bean class, e.g. City.class
+     * @param name      the cache name, e.g. selectList
+     * @param maxSize   the max entries, used in creating only
+     * @param maxWeight the max total length of the sql, used in creating only
+     * @param <K>       the type of the cache key
+     * @return SqlLruCache
+     */
+    @SuppressWarnings("unchecked")
+    public static <K> SqlLruCache<K> getLru(Class<?> owner, Class<?> type, String name, int maxSize, long maxWeight) {
+        ConcurrentMap<String, SqlLruCache<?>> caches = LRU_CACHES.get(owner).computeIfAbsent(type, x -> new ConcurrentHashMap<>());
+        return (SqlLruCache<K>) caches.computeIfAbsent(name, x -> new SqlLruCache<K>(maxSize, maxWeight));
+    }
+
+}
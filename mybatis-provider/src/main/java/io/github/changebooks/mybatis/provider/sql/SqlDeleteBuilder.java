@@ -1,13 +1,41 @@
 package io.github.changebooks.mybatis.provider.sql;
 
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.dialect.DialectRegistry;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
 import org.apache.ibatis.jdbc.SQL;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Build DELETE SQL
+ * An UPDATE of the logical delete column if logical delete, the deleted rows are purged in batches
  *
  * @author changebooks@qq.com
  */
 public class SqlDeleteBuilder implements SqlBuilder.SqlDelete {
+    /**
+     * the name of the purge batch parameter
+     * e.g. #{list[0].id}
+     */
+    public static final String BATCH_PARAM = SqlInsertBuilder.BATCH_PARAM;
+
+    /**
+     * the page size of SELECT PURGE
+     */
+    public static final String PURGE_LIMIT = "#{" + SqlSelectBuilder.PAGE_SIZE_PARAM + "}";
+
+    /**
+     * the name of the chunk size parameter of DELETE WHERE
+     */
+    public static final String CHUNK_SIZE_PARAM = "chunkSize";
+
+    /**
+     * the max rows of a DELETE WHERE chunk
+     */
+    public static final String CHUNK_LIMIT = "#{" + CHUNK_SIZE_PARAM + "}";
+
     /**
      * the table name
      * e.g. table_name, table_name_${tableNum}
@@ -20,13 +48,76 @@ public class SqlDeleteBuilder implements SqlBuilder.SqlDelete {
      */
     private final String[] whereId;
 
+    /**
+     * the id columns, null if purge unsupported
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    private final List<TagResult> ids;
+
+    /**
+     * the SET of a logical delete, null if deleted physically
+     * e.g. deleted = 1
+     */
+    private final String delete;
+
+    /**
+     * the condition of the deleted rows, null if deleted physically
+     * e.g. deleted = 1
+     */
+    private final String deleted;
+
+    /**
+     * the max rows of a purge batch, limited by max rows And max parameters
+     */
+    private final int batchSize;
+
+    /**
+     * [ rows : PURGE BATCH sql ], null if purge unsupported
+     */
+    private final SqlCache<Integer> purgeBatchCache;
+
+    /**
+     * the dialect of paging
+     */
+    private final Dialect dialect;
+
     public SqlDeleteBuilder(String table, String[] whereId) {
         this.table = table;
         this.whereId = whereId;
+        this.ids = null;
+        this.delete = null;
+        this.deleted = null;
+        this.batchSize = 0;
+        this.purgeBatchCache = null;
+        this.dialect = DialectRegistry.get();
+    }
+
+    public SqlDeleteBuilder(String table, String[] whereId, List<TagResult> ids, String delete, String deleted,
+                            int maxRows, int maxParameters, SqlCache<Integer> purgeBatchCache, Dialect dialect) {
+        Objects.requireNonNull(dialect, "dialect can't be null");
+
+        this.table = table;
+        this.whereId = whereId;
+        this.ids = ids;
+        this.delete = delete;
+        this.deleted = deleted;
+        this.batchSize = SqlInsertBuilder.getBatchSize(ids != null ? ids.size() : 0, maxRows, maxParameters);
+        this.purgeBatchCache = purgeBatchCache;
+        this.dialect = dialect;
     }
 
     @Override
     public SQL deleteOne() {
+        if (getDelete() != null) {
+            return new SQL() {
+                {
+                    UPDATE(getTable());
+                    SET(getDelete());
+                    WHERE(getWhereId());
+                }
+            };
+        }
+
         return new SQL() {
             {
                 DELETE_FROM(getTable());
@@ -35,6 +126,116 @@ public class SqlDeleteBuilder implements SqlBuilder.SqlDelete {
         };
     }
 
+    @Override
+    public String deleteWhereSql(String[] conditions) {
+        if (getDelete() != null) {
+            throw new UnsupportedOperationException("deleteWhere isn't supported by the logical delete, table: " + getTable());
+        }
+
+        String where = SqlSegment.getAnd(conditions);
+        if (where == null) {
+            throw new IllegalArgumentException("conditions can't be empty");
+        }
+
+        return getDialect().deleteLimit(getTable(), SqlSegment.getColumns(getIds()), where, CHUNK_LIMIT);
+    }
+
+    @Override
+    public SQL selectPurge() {
+        String[] columns = SqlSegment.getColumns(requireIds());
+        String where = requireDeleted();
+
+        return new PagedSql(getDialect(), PURGE_LIMIT, null) {
+            {
+                SELECT(columns);
+                FROM(getTable());
+                WHERE(where);
+            }
+        };
+    }
+
+    @Override
+    public String selectPurgeSql() {
+        return selectPurge().toString();
+    }
+
+    @Override
+    public SQL purgeBatch(int rows) {
+        String where = requireDeleted();
+        String in = SqlSegment.getIn(requireIds(), BATCH_PARAM, checkRows(rows));
+
+        return new SQL() {
+            {
+                DELETE_FROM(getTable());
+                WHERE(where);
+                WHERE(in);
+            }
+        };
+    }
+
+    @Override
+    public String purgeBatchSql(int rows) {
+        requireDeleted();
+        requireIds();
+        checkRows(rows);
+
+        return purgeBatchCache.get(rows, this::renderPurgeBatch);
+    }
+
+    /**
+     * render PURGE BATCH, on a cache miss
+     *
+     * @param rows the number of rows, checked
+     * @return DELETE FROM table WHERE deleted = 1 AND id IN (#{list[0].id,jdbcType=JDBC_TYPE})
+     */
+    protected String renderPurgeBatch(int rows) {
+        return purgeBatch(rows).toString();
+    }
+
+    /**
+     * the id columns of the purge
+     *
+     * @return the ids
+     * @throws UnsupportedOperationException if no ids
+     */
+    protected List<TagResult> requireIds() {
+        List<TagResult> result = getIds();
+        if (result == null || result.isEmpty()) {
+            throw new UnsupportedOperationException("purge requires the ids");
+        }
+
+        return result;
+    }
+
+    /**
+     * the condition of the deleted rows
+     *
+     * @return e.g. deleted = 1
+     * @throws UnsupportedOperationException if deleted physically
+     */
+    protected String requireDeleted() {
+        String result = getDeleted();
+        if (result == null) {
+            throw new UnsupportedOperationException("purge requires the logical delete");
+        }
+
+        return result;
+    }
+
+    /**
+     * check 0 &lt; rows &lt;= batch size
+     *
+     * @param rows the number of rows
+     * @return rows
+     */
+    protected int checkRows(int rows) {
+        if (rows <= 0 || rows > batchSize) {
+            throw new IllegalArgumentException("rows must be in (0, " + batchSize + "], rows: " + rows);
+        }
+
+        return rows;
+    }
+
     public String getTable() {
         return table;
     }
@@ -43,4 +244,29 @@ public class SqlDeleteBuilder implements SqlBuilder.SqlDelete {
         return whereId;
     }
 
+    public List<TagResult> getIds() {
+        return ids;
+    }
+
+    public String getDelete() {
+        return delete;
+    }
+
+    public String getDeleted() {
+        return deleted;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public SqlCache<Integer> getPurgeBatchCache() {
+        return purgeBatchCache;
+    }
+
+    public Dialect getDialect() {
+        return dialect;
+    }
+
 }
@@ -0,0 +1,62 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+
+/**
+ * Build DELETE SQL, render by {@link SqlText}
+ *
+ * @author changebooks@qq.com
+ */
+public class SqlDeleteTextBuilder extends SqlDeleteBuilder {
+
+    public SqlDeleteTextBuilder(String table, String[] whereId) {
+        super(table, whereId);
+    }
+
+    public SqlDeleteTextBuilder(String table, String[] whereId, List<TagResult> ids, String delete, String deleted,
+                                int maxRows, int maxParameters, SqlCache<Integer> purgeBatchCache, Dialect dialect) {
+        super(table, whereId, ids, delete, deleted, maxRows, maxParameters, purgeBatchCache, dialect);
+    }
+
+    @Override
+    public String deleteOneSql() {
+        if (getDelete() != null) {
+            return SqlText.begin().
+                    update(getTable()).
+                    set(new String[]{getDelete()}).
+                    where(getWhereId(), null).
+                    end();
+        }
+
+        return SqlText.begin().
+                deleteFrom(getTable()).
+                where(getWhereId(), null).
+                end();
+    }
+
+    @Override
+    public String selectPurgeSql() {
+        String[] columns = SqlSegment.getColumns(requireIds());
+
+        return SqlText.begin().
+                select(columns).
+                from(getTable()).
+                where(null, requireDeleted()).
+                limit(getDialect(), PURGE_LIMIT, null).
+                end();
+    }
+
+    @Override
+    protected String renderPurgeBatch(int rows) {
+        String in = SqlSegment.getIn(getIds(), BATCH_PARAM, rows);
+
+        return SqlText.begin().
+                deleteFrom(getTable()).
+                where(new String[]{getDeleted()}, in).
+                end();
+    }
+
+}
@@ -1,13 +1,38 @@
 package io.github.changebooks.mybatis.provider.sql;
 
+import io.github.changebooks.mybatis.provider.tag.TagResult;
 import org.apache.ibatis.jdbc.SQL;
 
+import java.util.List;
+
 /**
  * Build INSERT SQL
  *
  * @author changebooks@qq.com
  */
 public class SqlInsertBuilder implements SqlBuilder.SqlInsert {
+    /**
+     * the name of the batch parameter
+     * e.g. #{list[0].property}
+     */
+    public static final String BATCH_PARAM = "list";
+
+    /**
+     * the default max rows of a batch
+     */
+    public static final int DEFAULT_MAX_ROWS = 1000;
+
+    /**
+     * the default max parameters of a statement, e.g. MySQL And PostgreSQL
+     */
+    public static final int DEFAULT_MAX_PARAMETERS = 65535;
+
+    /**
+     * the default max size of the INSERT BATCH cache
+     * the remainders, the full chunk is pinned apart, a 1000 rows sql could be megabytes
+     */
+    public static final int DEFAULT_CACHE_SIZE = 16;
+
     /**
      * the table name
      * e.g. table_name, table_name_${tableNum}
@@ -26,10 +51,38 @@ public class SqlInsertBuilder implements SqlBuilder.SqlInsert {
      */
     private final String[] values;
 
+    /**
+     * the into elements, null if batch unsupported
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    private final List<TagResult> elements;
+
+    /**
+     * the max rows of a batch, limited by max rows And max parameters
+     */
+    private final int batchSize;
+
+    /**
+     * [ rows : INSERT BATCH sql ]
+     */
+    private final SqlCache<Integer> insertBatchCache;
+
     public SqlInsertBuilder(String table, String[] columns, String[] values) {
         this.table = table;
         this.columns = columns;
         this.values = values;
+        this.elements = null;
+        this.batchSize = 0;
+        this.insertBatchCache = null;
+    }
+
+    public SqlInsertBuilder(String table, List<TagResult> elements, int maxRows, int maxParameters, SqlCache<Integer> insertBatchCache) {
+        this.table = table;
+        this.columns = SqlSegment.getIntoColumns(elements);
+        this.values = SqlSegment.getIntoValues(elements);
+        this.elements = elements;
+        this.batchSize = getBatchSize(columns.length, maxRows, maxParameters);
+        this.insertBatchCache = insertBatchCache;
     }
 
     @Override
@@ -43,6 +96,86 @@ public class SqlInsertBuilder implements SqlBuilder.SqlInsert {
         };
     }
 
+    @Override
+    public SQL insertBatch(int rows) {
+        checkRows(rows);
+
+        return new SQL() {
+            {
+                INSERT_INTO(getTable());
+                INTO_COLUMNS(getColumns());
+
+                for (int i = 0; i < rows; i++) {
+                    if (i > 0) {
+                        ADD_ROW();
+                    }
+
+                    String prefix = getBatchPrefix(i);
+                    INTO_VALUES(SqlSegment.getIntoValues(getElements(), prefix));
+                }
+            }
+        };
+    }
+
+    @Override
+    public String insertBatchSql(int rows) {
+        checkRows(rows);
+
+        if (rows == batchSize) {
+            return insertBatchCache.getPinned(rows, this::renderInsertBatch);
+        }
+
+        return insertBatchCache.get(rows, this::renderInsertBatch);
+    }
+
+    /**
+     * render INSERT BATCH, on a cache miss
+     *
+     * @param rows the number of rows, checked
+     * @return INSERT INTO table (column, column) VALUES (#{list[0].property,jdbcType=JDBC_TYPE}, #{list[0].property}), (#{list[1].property,jdbcType=JDBC_TYPE}, #{list[1].property})
+     */
+    protected String renderInsertBatch(int rows) {
+        return insertBatch(rows).toString();
+    }
+
+    /**
+     * the element expression of a row
+     *
+     * @param row the row index
+     * @return list[row]
+     */
+    protected static String getBatchPrefix(int row) {
+        return SqlSegment.joinElement(BATCH_PARAM, row);
+    }
+
+    /**
+     * check 0 &lt; rows &lt;= batch size
+     *
+     * @param rows the number of rows
+     */
+    protected void checkRows(int rows) {
+        if (elements == null) {
+            throw new UnsupportedOperationException("insertBatch requires the elements");
+        }
+
+        if (rows <= 0 || rows > batchSize) {
+            throw new IllegalArgumentException("rows must be in (0, " + batchSize + "], rows: " + rows);
+        }
+    }
+
+    /**
+     * the max rows of a batch
+     *
+     * @param columns       the number of columns per row
+     * @param maxRows       the max rows of a batch
+     * @param maxParameters the max parameters of a statement
+     * @return min(maxRows, maxParameters / columns), at least 1
+     */
+    public static int getBatchSize(int columns, int maxRows, int maxParameters) {
+        int result = columns > 0 ? Math.min(maxRows, maxParameters / columns) : maxRows;
+        return Math.max(result, 1);
+    }
+
     public String getTable() {
         return table;
     }
@@ -55,4 +188,17 @@ public class SqlInsertBuilder implements SqlBuilder.SqlInsert {
         return values;
     }
 
+    public List<TagResult> getElements() {
+        return elements;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public SqlCache<Integer> getInsertBatchCache() {
+        return insertBatchCache;
+    }
+
 }
@@ -0,0 +1,44 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+
+/**
+ * Build INSERT SQL, render by {@link SqlText}
+ *
+ * @author changebooks@qq.com
+ */
+public class SqlInsertTextBuilder extends SqlInsertBuilder {
+
+    public SqlInsertTextBuilder(String table, String[] columns, String[] values) {
+        super(table, columns, values);
+    }
+
+    public SqlInsertTextBuilder(String table, List<TagResult> elements, int maxRows, int maxParameters, SqlCache<Integer> insertBatchCache) {
+        super(table, elements, maxRows, maxParameters, insertBatchCache);
+    }
+
+    @Override
+    public String insertOneSql() {
+        return SqlText.begin().
+                insertInto(getTable()).
+                intoColumns(getColumns()).
+                intoValues(getValues(), true).
+                end();
+    }
+
+    @Override
+    protected String renderInsertBatch(int rows) {
+        SqlText result = SqlText.begin().
+                insertInto(getTable()).
+                intoColumns(getColumns());
+
+        for (int i = 0; i < rows; i++) {
+            result.intoValues(getElements(), getBatchPrefix(i), i == 0);
+        }
+
+        return result.end();
+    }
+
+}
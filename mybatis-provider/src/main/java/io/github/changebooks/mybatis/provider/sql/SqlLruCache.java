@@ -0,0 +1,265 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache of the rendered sql, e.g. the recurring conditions of selectList And selectCount
+ * Lock striped, each segment is an access ordered map, bounded by the entries And the weight (the sql length)
+ * The least recently used sql is evicted, a sql heavier than a segment is rendered but not cached
+ *
+ * @param <K> the type of the cache key
+ * @author changebooks@qq.com
+ */
+public final class SqlLruCache<K> {
+    /**
+     * the default max entries
+     */
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    /**
+     * the default max weight, the total length of the cached sql
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 1L << 20;
+
+    /**
+     * the max number of segments
+     */
+    private static final int MAX_SEGMENTS = 16;
+
+    /**
+     * the segments, a power of 2
+     */
+    private final Segment<K>[] segments;
+
+    /**
+     * the max number of the cached sql
+     */
+    private final int maxSize;
+
+    /**
+     * the max total length of the cached sql
+     */
+    private final long maxWeight;
+
+    /**
+     * the hit counter
+     */
+    private final LongAdder hits = new LongAdder();
+
+    /**
+     * the miss counter
+     */
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * the eviction counter
+     */
+    private final LongAdder evictions = new LongAdder();
+
+    public SqlLruCache() {
+        this(DEFAULT_MAX_SIZE, DEFAULT_MAX_WEIGHT);
+    }
+
+    @SuppressWarnings("unchecked")
+    public SqlLruCache(int maxSize, long maxWeight) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive");
+        }
+
+        if (maxWeight <= 0) {
+            throw new IllegalArgumentException("maxWeight must be positive");
+        }
+
+        int n = 1;
+        while (n < MAX_SEGMENTS && n * 4 <= maxSize) {
+            n <<= 1;
+        }
+
+        this.maxSize = maxSize;
+        this.maxWeight = maxWeight;
+        this.segments = new Segment[n];
+
+        for (int i = 0; i < n; i++) {
+            int segmentSize = maxSize / n + (i < maxSize % n ? 1 : 0);
+            this.segments[i] = new Segment<>(segmentSize, Math.max(maxWeight / n, 1));
+        }
+    }
+
+    /**
+     * get the cached sql, render And cache it if absent
+     * the sql is rendered out of the lock, a concurrent miss of the same key renders twice
+     *
+     * @param key    the cache key
+     * @param render render the sql by key
+     * @return the sql
+     */
+    public String get(K key, Function<? super K, String> render) {
+        Segment<K> segment = segmentFor(key);
+
+        String sql = segment.get(key);
+        if (sql != null) {
+            hits.increment();
+            return sql;
+        }
+
+        misses.increment();
+
+        sql = render.apply(key);
+        if (sql != null) {
+            int evicted = segment.put(key, sql);
+            if (evicted > 0) {
+                evictions.add(evicted);
+            }
+        }
+
+        return sql;
+    }
+
+    /**
+     * remove all cached sql, the counters are kept
+     */
+    public void clear() {
+        for (Segment<K> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * hits / (hits + misses)
+     *
+     * @return the hit ratio, 0 if never requested
+     */
+    public double getHitRatio() {
+        long hit = getHits();
+        long total = hit + getMisses();
+        return total > 0 ? (double) hit / total : 0;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    public int getSegments() {
+        return segments.length;
+    }
+
+    public int getSize() {
+        int result = 0;
+        for (Segment<K> segment : segments) {
+            result += segment.size();
+        }
+
+        return result;
+    }
+
+    public long getWeight() {
+        long result = 0;
+        for (Segment<K> segment : segments) {
+            result += segment.weight();
+        }
+
+        return result;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * the segment of the key, by the spread hash
+     *
+     * @param key the cache key
+     * @return Segment
+     */
+    private Segment<K> segmentFor(K key) {
+        int h = key != null ? key.hashCode() : 0;
+        h ^= h >>> 16;
+        return segments[h & (segments.length - 1)];
+    }
+
+    /**
+     * an access ordered map, guarded by itself
+     *
+     * @param <K> the type of the cache key
+     */
+    private static final class Segment<K> {
+        /**
+         * [ key : sql ], in the access order
+         */
+        private final LinkedHashMap<K, String> caches = new LinkedHashMap<>(16, 0.75f, true);
+
+        private final int maxSize;
+
+        private final long maxWeight;
+
+        private long weight;
+
+        Segment(int maxSize, long maxWeight) {
+            this.maxSize = maxSize;
+            this.maxWeight = maxWeight;
+        }
+
+        synchronized String get(K key) {
+            return caches.get(key);
+        }
+
+        /**
+         * put the sql, And evict the least recently used over the bounds
+         *
+         * @param key the cache key
+         * @param sql the sql
+         * @return the number of the evicted
+         */
+        synchronized int put(K key, String sql) {
+            if (maxSize <= 0 || sql.length() > maxWeight) {
+                return 0;
+            }
+
+            String previous = caches.put(key, sql);
+            weight += sql.length() - (previous != null ? previous.length() : 0);
+
+            int result = 0;
+            Iterator<Map.Entry<K, String>> it = caches.entrySet().iterator();
+
+            while ((caches.size() > maxSize || weight > maxWeight) && it.hasNext()) {
+                Map.Entry<K, String> eldest = it.next();
+                weight -= eldest.getValue().length();
+                it.remove();
+                result++;
+            }
+
+            return result;
+        }
+
+        synchronized void clear() {
+            caches.clear();
+            weight = 0;
+        }
+
+        synchronized int size() {
+            return caches.size();
+        }
+
+        synchronized long weight() {
+            return weight;
+        }
+
+    }
+
+}
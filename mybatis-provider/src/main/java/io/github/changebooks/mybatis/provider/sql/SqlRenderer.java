@@ -0,0 +1,20 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+/**
+ * The rendering engine of the sql builders
+ *
+ * @author changebooks@qq.com
+ */
+public enum SqlRenderer {
+    /**
+     * render by {@link org.apache.ibatis.jdbc.SQL}, a new SQL instance per call
+     */
+    SQL,
+
+    /**
+     * render by {@link SqlText}, straight into a reused StringBuilder
+     * the output is the same as {@link #SQL}
+     */
+    TEXT
+
+}
@@ -1,21 +1,22 @@
 package io.github.changebooks.mybatis.provider.sql;
 
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
 import io.github.changebooks.mybatis.provider.tag.TagResult;
 import org.apache.ibatis.type.JdbcType;
 
-import java.util.Collections;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
 
 /**
  * Build SQL segment
+ * The segments of a column are rendered once in {@link TagResult}, here they are only collected
  *
  * @author changebooks@qq.com
  */
 public final class SqlSegment {
 
-    private static final List<TagResult> EMPTY_LIST = Collections.emptyList();
+    private static final String[] EMPTY_ARRAY = new String[0];
 
     private SqlSegment() {
     }
@@ -27,13 +28,21 @@ public final class SqlSegment {
      * @return [ column, column ]
      */
     public static String[] getColumns(List<TagResult> columns) {
-        return Optional.ofNullable(columns).
-                orElse(EMPTY_LIST).
-                stream().
-                filter(Objects::nonNull).
-                map(TagResult::getColumn).
-                filter(Objects::nonNull).
-                toArray(String[]::new);
+        if (columns == null || columns.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+
+        String[] result = new String[columns.size()];
+        int size = 0;
+
+        for (TagResult column : columns) {
+            String value = column != null ? column.getColumn() : null;
+            if (value != null) {
+                result[size++] = value;
+            }
+        }
+
+        return trim(result, size);
     }
 
     /**
@@ -43,13 +52,7 @@ public final class SqlSegment {
      * @return [ column = #{property,jdbcType=JDBC_TYPE}, column = #{property} ]
      */
     public static String[] getWhere(List<TagResult> columns) {
-        return Optional.ofNullable(columns).
-                orElse(EMPTY_LIST).
-                stream().
-                filter(Objects::nonNull).
-                map(SqlSegment::joinKeyValue).
-                filter(Objects::nonNull).
-                toArray(String[]::new);
+        return getKeyValues(columns);
     }
 
     /**
@@ -60,13 +63,25 @@ public final class SqlSegment {
      * @return [ column = #{property,jdbcType=JDBC_TYPE}, column = #{property}, column = ${property,jdbcType=JDBC_TYPE}, column = ${property} ]
      */
     public static String[] getWhere(List<TagResult> columns, boolean placeHolder) {
-        return Optional.ofNullable(columns).
-                orElse(EMPTY_LIST).
-                stream().
-                filter(Objects::nonNull).
-                map(x -> joinKeyValue(x, placeHolder)).
-                filter(Objects::nonNull).
-                toArray(String[]::new);
+        if (placeHolder) {
+            return getKeyValues(columns);
+        }
+
+        if (columns == null || columns.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+
+        String[] result = new String[columns.size()];
+        int size = 0;
+
+        for (TagResult column : columns) {
+            String value = joinKeyValue(column, false);
+            if (value != null) {
+                result[size++] = value;
+            }
+        }
+
+        return trim(result, size);
     }
 
     /**
@@ -76,13 +91,7 @@ public final class SqlSegment {
      * @return [ column, column ]
      */
     public static String[] getIntoColumns(List<TagResult> columns) {
-        return Optional.ofNullable(columns).
-                orElse(EMPTY_LIST).
-                stream().
-                filter(Objects::nonNull).
-                map(TagResult::getColumn).
-                filter(Objects::nonNull).
-                toArray(String[]::new);
+        return getColumns(columns);
     }
 
     /**
@@ -92,13 +101,46 @@ public final class SqlSegment {
      * @return [ #{property,jdbcType=JDBC_TYPE}, #{property} ]
      */
     public static String[] getIntoValues(List<TagResult> columns) {
-        return Optional.ofNullable(columns).
-                orElse(EMPTY_LIST).
-                stream().
-                filter(Objects::nonNull).
-                map(SqlSegment::joinValue).
-                filter(Objects::nonNull).
-                toArray(String[]::new);
+        if (columns == null || columns.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+
+        String[] result = new String[columns.size()];
+        int size = 0;
+
+        for (TagResult column : columns) {
+            String value = column != null ? column.getValueSegment() : null;
+            if (value != null) {
+                result[size++] = value;
+            }
+        }
+
+        return trim(result, size);
+    }
+
+    /**
+     * INSERT INTO VALUES, the properties of an element
+     *
+     * @param columns the {@link TagResult} List
+     * @param prefix  the element expression, e.g. list[0]
+     * @return [ #{prefix.property,jdbcType=JDBC_TYPE}, #{prefix.property} ]
+     */
+    public static String[] getIntoValues(List<TagResult> columns, String prefix) {
+        if (columns == null || columns.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+
+        String[] result = new String[columns.size()];
+        int size = 0;
+
+        for (TagResult column : columns) {
+            String value = joinValue(column, prefix);
+            if (value != null) {
+                result[size++] = value;
+            }
+        }
+
+        return trim(result, size);
     }
 
     /**
@@ -108,42 +150,345 @@ public final class SqlSegment {
      * @return [ column = #{property,jdbcType=JDBC_TYPE}, column = #{property} ]
      */
     public static String[] getSets(List<TagResult> columns) {
-        return Optional.ofNullable(columns).
-                orElse(EMPTY_LIST).
-                stream().
-                filter(Objects::nonNull).
-                map(SqlSegment::joinKeyValue).
-                filter(Objects::nonNull).
-                toArray(String[]::new);
+        return getKeyValues(columns);
     }
 
     /**
-     * join key = value
+     * UPDATE SET of a version column
+     *
+     * @param column the version column
+     * @return column = column + 1, null if no column
+     */
+    public static String getIncrement(TagResult column) {
+        String name = column != null ? column.getColumn() : null;
+        if (name == null) {
+            return null;
+        }
+
+        return new StringBuilder(name.length() * 2 + 7).
+                append(name).append(" = ").append(name).append(" + 1").
+                toString();
+    }
+
+    /**
+     * the conditions in a pair of parentheses
+     *
+     * @param conditions the conditions
+     * @return (condition AND condition), null if no conditions
+     */
+    public static String getAnd(String[] conditions) {
+        if (conditions == null || conditions.length == 0) {
+            return null;
+        }
+
+        StringBuilder result = new StringBuilder(conditions.length * 32).append('(');
+
+        for (int i = 0; i < conditions.length; i++) {
+            if (i > 0) {
+                result.append(" AND ");
+            }
+
+            result.append(conditions[i]);
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * the condition of the live rows, leading the selects of a logical delete
+     *
+     * @param column    the logical delete column
+     * @param liveValue the sql literal of a live row
+     * @return column = liveValue, column IS NULL if NULL; null if no column
+     */
+    public static String getLive(String column, String liveValue) {
+        if (column == null) {
+            return null;
+        }
+
+        return isNull(liveValue) ? column + " IS NULL" : column + " = " + liveValue;
+    }
+
+    /**
+     * the condition of the deleted rows, e.g. the purge
+     *
+     * @param column       the logical delete column
+     * @param deletedValue the sql literal of a deleted row
+     * @param liveValue    the sql literal of a live row
+     * @return column = deletedValue, column IS NULL if NULL, column IS NOT NULL if the live is NULL; null if no column
+     */
+    public static String getDeleted(String column, String deletedValue, String liveValue) {
+        if (column == null) {
+            return null;
+        }
+
+        if (isNull(deletedValue)) {
+            return column + " IS NULL";
+        }
+
+        return isNull(liveValue) ? column + " IS NOT NULL" : column + " = " + deletedValue;
+    }
+
+    /**
+     * the SET of a logical delete
+     *
+     * @param column       the logical delete column
+     * @param deletedValue the sql literal of a deleted row
+     * @return column = deletedValue, null if no column
+     */
+    public static String getDelete(String column, String deletedValue) {
+        return column != null ? column + " = " + deletedValue : null;
+    }
+
+    /**
+     * the sql literal is NULL ?
+     */
+    private static boolean isNull(String value) {
+        return value == null || "NULL".equalsIgnoreCase(value.trim());
+    }
+
+    /**
+     * ORDER BY sort keys
+     *
+     * @param columns    the sort keys
+     * @param descending DESC if true; ASC if false
+     * @return [ column ASC, column ASC ]
+     */
+    public static String[] getOrders(List<TagResult> columns, boolean descending) {
+        if (columns == null || columns.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        String[] result = new String[columns.size()];
+        int size = 0;
+
+        for (TagResult column : columns) {
+            String value = column != null ? column.getColumn() : null;
+            if (value != null) {
+                result[size++] = value.concat(direction);
+            }
+        }
+
+        return trim(result, size);
+    }
+
+    /**
+     * the seek condition of keyset pagination, a row value comparison if more than one key
      *
      * <pre>
-     * column = #{property,jdbcType=JDBC_TYPE}
-     * column = #{property}
+     * column &gt; #{array[0],jdbcType=JDBC_TYPE}
+     * (column, column) &gt; (#{array[0],jdbcType=JDBC_TYPE}, #{array[1]})
+     * (column, column) &lt; (#{array[0],jdbcType=JDBC_TYPE}, #{array[1]})
      * </pre>
      *
-     * @param tagResult the {@link TagResult} instance
-     * @return key = #{}
+     * @param columns    the sort keys
+     * @param array      the values expression, e.g. cursor.values
+     * @param descending {@code <} if true; {@code >} if false
+     * @return the seek condition, null if no keys
      */
-    public static String joinKeyValue(TagResult tagResult) {
-        if (tagResult == null) {
+    public static String getSeek(List<TagResult> columns, String array, boolean descending) {
+        return getSeek(columns, array, descending, Dialect.MYSQL);
+    }
+
+    /**
+     * the seek condition of keyset pagination, rendered by {@link Dialect#seek}
+     *
+     * <pre>
+     * (column, column) &gt; (#{array[0],jdbcType=JDBC_TYPE}, #{array[1]})
+     * (column &gt; #{array[0],jdbcType=JDBC_TYPE} OR (column = #{array[0],jdbcType=JDBC_TYPE} AND column &gt; #{array[1]}))
+     * </pre>
+     *
+     * @param columns    the sort keys
+     * @param array      the values expression, e.g. cursor.values
+     * @param descending {@code <} if true; {@code >} if false
+     * @param dialect    the dialect, e.g. {@link Dialect#SQL_SERVER} expands the row value
+     * @return the seek condition, null if no keys
+     */
+    public static String getSeek(List<TagResult> columns, String array, boolean descending, Dialect dialect) {
+        if (columns == null || columns.isEmpty()) {
             return null;
         }
 
-        String column = tagResult.getColumn();
-        if (column == null) {
+        int size = columns.size();
+        String[] names = new String[size];
+        String[] values = new String[size];
+
+        for (int i = 0; i < size; i++) {
+            TagResult column = columns.get(i);
+            names[i] = column.getColumn();
+            values[i] = joinIndexedValue(column, array, i);
+        }
+
+        return dialect.seek(names, values, descending);
+    }
+
+    /**
+     * the SET of a batch, the column of the rows where it's Non-Null, or else itself
+     *
+     * <pre>
+     * column = CASE id WHEN #{list[0].id} THEN #{list[0].property} WHEN #{list[2].id} THEN #{list[2].property} ELSE column END
+     * column = CASE WHEN id = #{list[0].id} AND id2 = #{list[0].id2} THEN #{list[0].property} ELSE column END
+     * </pre>
+     *
+     * @param column the set column
+     * @param ids    the id columns
+     * @param array  the list expression, e.g. list
+     * @param rows   the rows where the column is Non-Null
+     * @return column = CASE ... END, null if no rows
+     */
+    public static String getCase(TagResult column, List<TagResult> ids, String array, BitSet rows) {
+        if (column == null || column.getColumn() == null || rows.isEmpty()) {
             return null;
         }
 
-        String value = joinValue(tagResult);
-        if (value != null) {
-            return String.format("%s = %s", column, value);
-        } else {
+        String name = column.getColumn();
+        boolean simple = ids.size() == 1;
+
+        StringBuilder result = new StringBuilder(64 + rows.cardinality() * (array.length() + 64) * (ids.size() + 1)).
+                append(name).append(" = CASE ");
+
+        if (simple) {
+            result.append(ids.get(0).getColumn()).append(' ');
+        }
+
+        for (int i = rows.nextSetBit(0); i >= 0; i = rows.nextSetBit(i + 1)) {
+            String element = joinElement(array, i);
+
+            result.append("WHEN ");
+            if (simple) {
+                result.append(joinValue(ids.get(0), element));
+            } else {
+                for (int j = 0; j < ids.size(); j++) {
+                    if (j > 0) {
+                        result.append(" AND ");
+                    }
+
+                    TagResult id = ids.get(j);
+                    result.append(id.getColumn()).append(" = ").append(joinValue(id, element));
+                }
+            }
+
+            result.append(" THEN ").append(joinValue(column, element)).append(' ');
+        }
+
+        return result.append("ELSE ").append(name).append(" END").toString();
+    }
+
+    /**
+     * the id condition of a batch, a row value IN if more than one id
+     *
+     * <pre>
+     * id IN (#{list[0].id}, #{list[1].id})
+     * (id, id2) IN ((#{list[0].id}, #{list[0].id2}), (#{list[1].id}, #{list[1].id2}))
+     * </pre>
+     *
+     * @param ids   the id columns
+     * @param array the list expression, e.g. list
+     * @param rows  the number of rows
+     * @return id IN (...), null if no ids
+     */
+    public static String getIn(List<TagResult> ids, String array, int rows) {
+        if (ids == null || ids.isEmpty()) {
             return null;
         }
+
+        int size = ids.size();
+        StringBuilder result = new StringBuilder(16 + rows * size * (array.length() + 32));
+
+        if (size == 1) {
+            result.append(ids.get(0).getColumn());
+        } else {
+            result.append('(');
+            for (int j = 0; j < size; j++) {
+                if (j > 0) {
+                    result.append(", ");
+                }
+                result.append(ids.get(j).getColumn());
+            }
+            result.append(')');
+        }
+
+        result.append(" IN (");
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+
+            String element = joinElement(array, i);
+            if (size == 1) {
+                result.append(joinValue(ids.get(0), element));
+            } else {
+                result.append('(');
+                for (int j = 0; j < size; j++) {
+                    if (j > 0) {
+                        result.append(", ");
+                    }
+                    result.append(joinValue(ids.get(j), element));
+                }
+                result.append(')');
+            }
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * the condition of a list of ids, a row value IN if more than one id column
+     *
+     * <pre>
+     * id IN (#{ids[0],jdbcType=JDBC_TYPE}, #{ids[1],jdbcType=JDBC_TYPE})
+     * (id, id2) IN ((#{ids[0].id}, #{ids[0].id2}), (#{ids[1].id}, #{ids[1].id2}))
+     * </pre>
+     *
+     * @param ids   the id columns
+     * @param array the list expression, e.g. ids
+     * @param rows  the number of ids
+     * @return id IN (...), null if no id columns
+     */
+    public static String getIdsIn(List<TagResult> ids, String array, int rows) {
+        if (ids == null || ids.size() != 1) {
+            return getIn(ids, array, rows);
+        }
+
+        TagResult id = ids.get(0);
+        StringBuilder result = new StringBuilder(16 + rows * (array.length() + 32)).
+                append(id.getColumn()).append(" IN (");
+
+        for (int i = 0; i < rows; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            appendIndexedValue(result, id, array, i);
+        }
+
+        return result.append(')').toString();
+    }
+
+    /**
+     * join an element of an array or a list
+     *
+     * @param array the array expression, e.g. list
+     * @param index the element index
+     * @return array[index]
+     */
+    public static String joinElement(String array, int index) {
+        return array + "[" + index + "]";
+    }
+
+    /**
+     * join key = value
+     *
+     * <pre>
+     * column = #{property,jdbcType=JDBC_TYPE}
+     * column = #{property}
+     * </pre>
+     *
+     * @param tagResult the {@link TagResult} instance
+     * @return key = #{}
+     */
+    public static String joinKeyValue(TagResult tagResult) {
+        return tagResult != null ? tagResult.getKeyValueSegment() : null;
     }
 
     /**
@@ -161,6 +506,10 @@ public final class SqlSegment {
      * @return key = #{}; key = ${}
      */
     public static String joinKeyValue(TagResult tagResult, boolean placeHolder) {
+        if (placeHolder) {
+            return joinKeyValue(tagResult);
+        }
+
         if (tagResult == null) {
             return null;
         }
@@ -170,9 +519,11 @@ public final class SqlSegment {
             return null;
         }
 
-        String value = joinValue(tagResult, placeHolder);
+        String value = joinValue(tagResult, false);
         if (value != null) {
-            return String.format("%s = %s", column, value);
+            return new StringBuilder(column.length() + 3 + value.length()).
+                    append(column).append(" = ").append(value).
+                    toString();
         } else {
             return null;
         }
@@ -190,7 +541,60 @@ public final class SqlSegment {
      * @return #{}
      */
     public static String joinValue(TagResult tagResult) {
-        return joinValue(tagResult, true);
+        return tagResult != null ? tagResult.getValueSegment() : null;
+    }
+
+    /**
+     * join value, the property of an element
+     *
+     * <pre>
+     * #{prefix.property,jdbcType=JDBC_TYPE}
+     * #{prefix.property}
+     * </pre>
+     *
+     * @param tagResult the {@link TagResult} instance
+     * @param prefix    the element expression, e.g. list[0]
+     * @return #{prefix.property}
+     */
+    public static String joinValue(TagResult tagResult, String prefix) {
+        if (tagResult == null) {
+            return null;
+        }
+
+        String property = tagResult.getProperty();
+        if (property == null) {
+            return null;
+        }
+
+        JdbcType jdbcType = tagResult.getJdbcType();
+        String type = jdbcType != null ? jdbcType.name() : null;
+
+        StringBuilder result = new StringBuilder(prefix.length() + property.length() + 4 + (type != null ? type.length() + 10 : 0)).
+                append("#{").append(prefix).append('.').append(property);
+
+        if (type != null) {
+            result.append(",jdbcType=").append(type);
+        }
+
+        return result.append('}').toString();
+    }
+
+    /**
+     * join value, an element of an array or a list
+     *
+     * <pre>
+     * #{array[index],jdbcType=JDBC_TYPE}
+     * #{array[index]}
+     * </pre>
+     *
+     * @param tagResult the {@link TagResult} instance, for the jdbc type
+     * @param array     the array expression, e.g. cursor.values
+     * @param index     the element index
+     * @return #{array[index]}
+     */
+    public static String joinIndexedValue(TagResult tagResult, String array, int index) {
+        StringBuilder result = new StringBuilder(array.length() + 40);
+        return appendIndexedValue(result, tagResult, array, index).toString();
     }
 
     /**
@@ -208,21 +612,71 @@ public final class SqlSegment {
      * @return #{}; ${}
      */
     public static String joinValue(TagResult tagResult, boolean placeHolder) {
-        if (tagResult == null) {
-            return null;
+        if (placeHolder) {
+            return joinValue(tagResult);
         }
 
-        String property = tagResult.getProperty();
-        if (property == null) {
+        String value = joinValue(tagResult);
+        if (value != null) {
+            return '$' + value.substring(1);
+        } else {
             return null;
         }
+    }
 
-        JdbcType jdbcType = tagResult.getJdbcType();
+    /**
+     * the key = value segments
+     *
+     * @param columns the {@link TagResult} List
+     * @return [ column = #{property,jdbcType=JDBC_TYPE}, column = #{property} ]
+     */
+    private static String[] getKeyValues(List<TagResult> columns) {
+        if (columns == null || columns.isEmpty()) {
+            return EMPTY_ARRAY;
+        }
+
+        String[] result = new String[columns.size()];
+        int size = 0;
+
+        for (TagResult column : columns) {
+            String value = column != null ? column.getKeyValueSegment() : null;
+            if (value != null) {
+                result[size++] = value;
+            }
+        }
+
+        return trim(result, size);
+    }
+
+    /**
+     * append #{array[index],jdbcType=JDBC_TYPE}
+     *
+     * @param result    the builder
+     * @param tagResult the {@link TagResult} instance, for the jdbc type
+     * @param array     the array expression, e.g. cursor.values
+     * @param index     the element index
+     * @return the builder
+     */
+    private static StringBuilder appendIndexedValue(StringBuilder result, TagResult tagResult, String array, int index) {
+        result.append("#{").append(array).append('[').append(index).append(']');
+
+        JdbcType jdbcType = tagResult != null ? tagResult.getJdbcType() : null;
         if (jdbcType != null) {
-            return String.format("%s{%s,jdbcType=%s}", (placeHolder ? "#" : "$"), property, jdbcType.name());
-        } else {
-            return String.format("%s{%s}", (placeHolder ? "#" : "$"), property);
+            result.append(",jdbcType=").append(jdbcType.name());
         }
+
+        return result.append('}');
+    }
+
+    /**
+     * the first size elements
+     *
+     * @param array the array
+     * @param size  the used size
+     * @return the array itself if full
+     */
+    private static String[] trim(String[] array, int size) {
+        return size == array.length ? array : Arrays.copyOf(array, size);
     }
 
 }
@@ -1,13 +1,90 @@
 package io.github.changebooks.mybatis.provider.sql;
 
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.dialect.DialectRegistry;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
 import org.apache.ibatis.jdbc.SQL;
 
+import java.util.List;
+import java.util.Objects;
+
 /**
  * Build SELECT SQL
  *
  * @author changebooks@qq.com
  */
 public class SqlSelectBuilder implements SqlBuilder.SqlSelect {
+    /**
+     * the name of the conditions parameter
+     */
+    public static final String CONDITIONS_PARAM = "conditions";
+
+    /**
+     * the name of the orders parameter
+     */
+    public static final String ORDERS_PARAM = "orders";
+
+    /**
+     * the name of the start row parameter
+     */
+    public static final String START_ROW_PARAM = "startRow";
+
+    /**
+     * the name of the page size parameter
+     */
+    public static final String PAGE_SIZE_PARAM = "pageSize";
+
+    /**
+     * the name of the cap parameter of SELECT CAPPED COUNT
+     */
+    public static final String CAP_PARAM = "cap";
+
+    /**
+     * the max rows counted by SELECT CAPPED COUNT
+     */
+    public static final String CAP_LIMIT = "#{" + CAP_PARAM + "}";
+
+    /**
+     * the alias of the capped rows
+     */
+    public static final String CAPPED_ALIAS = "t_";
+
+    /**
+     * the name of the projection properties parameter
+     */
+    public static final String PROPERTIES_PARAM = "properties";
+
+    /**
+     * the name of the keyset cursor parameter
+     */
+    public static final String CURSOR_PARAM = "cursor";
+
+    /**
+     * the sort key values of the keyset cursor
+     */
+    public static final String CURSOR_VALUES = CURSOR_PARAM + ".values";
+
+    /**
+     * the page size of the keyset cursor
+     */
+    public static final String CURSOR_LIMIT = "#{" + CURSOR_PARAM + ".pageSize}";
+
+    /**
+     * the name of the ids parameter
+     * e.g. #{ids[0]}, #{ids[0].property}
+     */
+    public static final String IDS_PARAM = "ids";
+
+    /**
+     * the default max ids of a SELECT BY IDS
+     */
+    public static final int DEFAULT_MAX_IDS = 1024;
+
+    /**
+     * the default max size of the SELECT BY IDS cache, a sql per bucket
+     */
+    public static final int DEFAULT_CACHE_SIZE = 32;
+
     /**
      * the table name
      * e.g. table_name, table_name_${tableNum}
@@ -26,19 +103,88 @@ public class SqlSelectBuilder implements SqlBuilder.SqlSelect {
      */
     private final String[] whereId;
 
+    /**
+     * the sort keys of keyset pagination, null if unsupported
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    private final List<TagResult> sortKeys;
+
+    /**
+     * the id columns, null if SELECT BY IDS unsupported
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    private final List<TagResult> ids;
+
+    /**
+     * the max ids of a SELECT BY IDS, limited by max ids And max parameters
+     */
+    private final int maxIds;
+
+    /**
+     * [ size : SELECT BY IDS sql ], null if SELECT BY IDS unsupported
+     */
+    private final SqlCache<Integer> selectByIdsCache;
+
+    /**
+     * the dialect of paging
+     */
+    private final Dialect dialect;
+
+    /**
+     * the condition of the live rows, leading the WHERE, null if deleted physically
+     * e.g. deleted = 0
+     */
+    private final String live;
+
     public SqlSelectBuilder(String table, String[] columns, String[] whereId) {
+        this(table, columns, whereId, null);
+    }
+
+    public SqlSelectBuilder(String table, String[] columns, String[] whereId, List<TagResult> sortKeys) {
         this.table = table;
         this.columns = columns;
         this.whereId = whereId;
+        this.sortKeys = sortKeys;
+        this.ids = null;
+        this.maxIds = 0;
+        this.selectByIdsCache = null;
+        this.dialect = DialectRegistry.get();
+        this.live = null;
+    }
+
+    public SqlSelectBuilder(String table, String[] columns, String[] whereId, List<TagResult> sortKeys,
+                            List<TagResult> ids, int maxIds, int maxParameters, SqlCache<Integer> selectByIdsCache,
+                            Dialect dialect) {
+        this(table, columns, whereId, sortKeys, ids, maxIds, maxParameters, selectByIdsCache, dialect, null);
+    }
+
+    public SqlSelectBuilder(String table, String[] columns, String[] whereId, List<TagResult> sortKeys,
+                            List<TagResult> ids, int maxIds, int maxParameters, SqlCache<Integer> selectByIdsCache,
+                            Dialect dialect, String live) {
+        Objects.requireNonNull(dialect, "dialect can't be null");
+
+        this.table = table;
+        this.columns = columns;
+        this.whereId = whereId;
+        this.sortKeys = sortKeys;
+        this.ids = ids;
+        this.maxIds = SqlInsertBuilder.getBatchSize(ids != null ? ids.size() : 0, maxIds, maxParameters);
+        this.selectByIdsCache = selectByIdsCache;
+        this.dialect = dialect;
+        this.live = live;
     }
 
     @Override
     public SQL selectList(String[] conditions, String[] orders, Long startRow, Integer pageSize) {
-        return new SQL() {
+        return new PagedSql(getDialect(), pageSize, pageSize != null ? startRow : null) {
             {
                 SELECT(getColumns());
                 FROM(getTable());
 
+                if (getLive() != null) {
+                    WHERE(getLive());
+                }
+
                 if (conditions != null) {
                     WHERE(conditions);
                 }
@@ -46,18 +192,15 @@ public class SqlSelectBuilder implements SqlBuilder.SqlSelect {
                 if (orders != null) {
                     ORDER_BY(orders);
                 }
-
-                if (pageSize != null) {
-                    LIMIT(pageSize);
-
-                    if (startRow != null) {
-                        OFFSET(startRow);
-                    }
-                }
             }
         };
     }
 
+    @Override
+    public String selectListSql(String[] conditions, String[] orders, Long startRow, Integer pageSize) {
+        return selectList(conditions, orders, startRow, pageSize).toString();
+    }
+
     @Override
     public SQL selectCount(String[] conditions) {
         return new SQL() {
@@ -65,6 +208,10 @@ public class SqlSelectBuilder implements SqlBuilder.SqlSelect {
                 SELECT(COUNT);
                 FROM(getTable());
 
+                if (getLive() != null) {
+                    WHERE(getLive());
+                }
+
                 if (conditions != null) {
                     WHERE(conditions);
                 }
@@ -72,17 +219,147 @@ public class SqlSelectBuilder implements SqlBuilder.SqlSelect {
         };
     }
 
+    @Override
+    public String selectCappedCountSql(String[] conditions) {
+        SQL capped = new SQL() {
+            {
+                SELECT("1");
+                FROM(getTable());
+
+                if (getLive() != null) {
+                    WHERE(getLive());
+                }
+
+                if (conditions != null) {
+                    WHERE(conditions);
+                }
+            }
+        };
+
+        StringBuilder select = new StringBuilder(capped.toString());
+        getDialect().limit(select, CAP_LIMIT, null);
+
+        return new SQL() {
+            {
+                SELECT(COUNT);
+                FROM("(" + select + ") " + CAPPED_ALIAS);
+            }
+        }.toString();
+    }
+
     @Override
     public SQL selectOne() {
         return new SQL() {
             {
                 SELECT(getColumns());
                 FROM(getTable());
+                if (getLive() != null) {
+                    WHERE(getLive());
+                }
                 WHERE(getWhereId());
             }
         };
     }
 
+    @Override
+    public SQL selectKeyset(String[] conditions, boolean first, boolean descending) {
+        List<TagResult> keys = requireSortKeys();
+
+        String seek = first ? null : SqlSegment.getSeek(keys, CURSOR_VALUES, descending, getDialect());
+        String[] orders = SqlSegment.getOrders(keys, descending);
+
+        return new PagedSql(getDialect(), CURSOR_LIMIT, null) {
+            {
+                SELECT(getColumns());
+                FROM(getTable());
+
+                if (getLive() != null) {
+                    WHERE(getLive());
+                }
+
+                if (conditions != null) {
+                    WHERE(conditions);
+                }
+
+                if (seek != null) {
+                    WHERE(seek);
+                }
+
+                ORDER_BY(orders);
+            }
+        };
+    }
+
+    @Override
+    public String selectKeysetSql(String[] conditions, boolean first, boolean descending) {
+        return selectKeyset(conditions, first, descending).toString();
+    }
+
+    @Override
+    public SQL selectByIds(int size) {
+        checkIds(size);
+
+        String in = SqlSegment.getIdsIn(getIds(), IDS_PARAM, size);
+
+        return new SQL() {
+            {
+                SELECT(getColumns());
+                FROM(getTable());
+                if (getLive() != null) {
+                    WHERE(getLive());
+                }
+                WHERE(in);
+            }
+        };
+    }
+
+    @Override
+    public String selectByIdsSql(int size) {
+        checkIds(size);
+
+        return selectByIdsCache.get(size, this::renderSelectByIds);
+    }
+
+    /**
+     * render SELECT BY IDS, on a cache miss
+     *
+     * @param size the number of ids, checked
+     * @return SELECT column, column FROM table WHERE id IN (#{ids[0],jdbcType=JDBC_TYPE}, #{ids[1],jdbcType=JDBC_TYPE})
+     */
+    protected String renderSelectByIds(int size) {
+        return selectByIds(size).toString();
+    }
+
+    /**
+     * check 0 &lt; size &lt;= max ids
+     *
+     * @param size the number of ids
+     */
+    protected void checkIds(int size) {
+        if (ids == null || ids.isEmpty()) {
+            throw new UnsupportedOperationException("selectByIds requires the ids");
+        }
+
+        if (size <= 0 || size > maxIds) {
+            throw new IllegalArgumentException("size must be in (0, " + maxIds + "], size: " + size);
+        }
+    }
+
+    /**
+     * the sort keys of keyset pagination
+     *
+     * @return the sort keys
+     * @throws UnsupportedOperationException if no sort keys
+     */
+    protected List<TagResult> requireSortKeys() {
+        List<TagResult> keys = getSortKeys();
+        if (keys == null || keys.isEmpty()) {
+            throw new UnsupportedOperationException("selectKeyset requires the sort keys");
+        }
+
+        return keys;
+    }
+
     public String getTable() {
         return table;
     }
@@ -95,4 +372,29 @@ public class SqlSelectBuilder implements SqlBuilder.SqlSelect {
         return whereId;
     }
 
+    public List<TagResult> getSortKeys() {
+        return sortKeys;
+    }
+
+    public List<TagResult> getIds() {
+        return ids;
+    }
+
+    @Override
+    public int getMaxIds() {
+        return maxIds;
+    }
+
+    public SqlCache<Integer> getSelectByIdsCache() {
+        return selectByIdsCache;
+    }
+
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    public String getLive() {
+        return live;
+    }
+
 }
@@ -0,0 +1,106 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+
+/**
+ * Build SELECT SQL, render by {@link SqlText}
+ *
+ * @author changebooks@qq.com
+ */
+public class SqlSelectTextBuilder extends SqlSelectBuilder {
+
+    public SqlSelectTextBuilder(String table, String[] columns, String[] whereId) {
+        super(table, columns, whereId);
+    }
+
+    public SqlSelectTextBuilder(String table, String[] columns, String[] whereId, List<TagResult> sortKeys) {
+        super(table, columns, whereId, sortKeys);
+    }
+
+    public SqlSelectTextBuilder(String table, String[] columns, String[] whereId, List<TagResult> sortKeys,
+                                List<TagResult> ids, int maxIds, int maxParameters, SqlCache<Integer> selectByIdsCache,
+                                Dialect dialect) {
+        super(table, columns, whereId, sortKeys, ids, maxIds, maxParameters, selectByIdsCache, dialect);
+    }
+
+    public SqlSelectTextBuilder(String table, String[] columns, String[] whereId, List<TagResult> sortKeys,
+                                List<TagResult> ids, int maxIds, int maxParameters, SqlCache<Integer> selectByIdsCache,
+                                Dialect dialect, String live) {
+        super(table, columns, whereId, sortKeys, ids, maxIds, maxParameters, selectByIdsCache, dialect, live);
+    }
+
+    @Override
+    public String selectListSql(String[] conditions, String[] orders, Long startRow, Integer pageSize) {
+        return SqlText.begin().
+                select(getColumns()).
+                from(getTable()).
+                where(getLive(), conditions, null).
+                orderBy(orders).
+                limit(getDialect(), pageSize, pageSize != null ? startRow : null).
+                end();
+    }
+
+    @Override
+    public String selectCountSql(String[] conditions) {
+        return SqlText.begin().
+                select(COUNT).
+                from(getTable()).
+                where(getLive(), conditions, null).
+                end();
+    }
+
+    @Override
+    public String selectCappedCountSql(String[] conditions) {
+        String capped = SqlText.begin().
+                select("1").
+                from(getTable()).
+                where(getLive(), conditions, null).
+                limit(getDialect(), CAP_LIMIT, null).
+                end();
+
+        return SqlText.begin().
+                select(COUNT).
+                from("(" + capped + ") " + CAPPED_ALIAS).
+                end();
+    }
+
+    @Override
+    public String selectOneSql() {
+        return SqlText.begin().
+                select(getColumns()).
+                from(getTable()).
+                where(getLive(), getWhereId(), null).
+                end();
+    }
+
+    @Override
+    public String selectKeysetSql(String[] conditions, boolean first, boolean descending) {
+        List<TagResult> keys = requireSortKeys();
+
+        String seek = first ? null : SqlSegment.getSeek(keys, CURSOR_VALUES, descending, getDialect());
+        String[] orders = SqlSegment.getOrders(keys, descending);
+
+        return SqlText.begin().
+                select(getColumns()).
+                from(getTable()).
+                where(getLive(), conditions, seek).
+                orderBy(orders).
+                limit(getDialect(), CURSOR_LIMIT, null).
+                end();
+    }
+
+    @Override
+    protected String renderSelectByIds(int size) {
+        String in = SqlSegment.getIdsIn(getIds(), IDS_PARAM, size);
+
+        return SqlText.begin().
+                select(getColumns()).
+                from(getTable()).
+                where(getLive(), null, in).
+                end();
+    }
+
+}
@@ -0,0 +1,334 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+
+/**
+ * Write SQL straight into a reused StringBuilder
+ * The layout is the same as {@link org.apache.ibatis.jdbc.SQL#toString()}, e.g.
+ *
+ * <pre>
+ * SELECT column, column
+ * FROM table
+ * WHERE (column = #{property} AND column = #{property})
+ * ORDER BY column ASC LIMIT 10 OFFSET 20
+ * </pre>
+ *
+ * @author changebooks@qq.com
+ */
+public final class SqlText {
+    /**
+     * the initial capacity of the reused builder
+     */
+    public static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * the max capacity kept by the reused builder, a larger one is dropped after use
+     */
+    public static final int MAX_CAPACITY = 64 * 1024;
+
+    /**
+     * the reused writer per thread
+     */
+    private static final ThreadLocal<SqlText> WRITERS = ThreadLocal.withInitial(SqlText::new);
+
+    private StringBuilder builder = new StringBuilder(INITIAL_CAPACITY);
+
+    private SqlText() {
+    }
+
+    /**
+     * begin writing a sql, the writer is reused by the thread, don't keep it
+     *
+     * @return the empty writer
+     */
+    public static SqlText begin() {
+        SqlText result = WRITERS.get();
+        result.builder.setLength(0);
+        return result;
+    }
+
+    /**
+     * finish writing a sql, the writer is empty after
+     *
+     * @return the sql
+     */
+    public String end() {
+        String result = builder.toString();
+
+        if (builder.capacity() > MAX_CAPACITY) {
+            builder = new StringBuilder(INITIAL_CAPACITY);
+        } else {
+            builder.setLength(0);
+        }
+
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return builder.toString();
+    }
+
+    /**
+     * SELECT column, column
+     *
+     * @param columns the column names
+     * @return this
+     */
+    public SqlText select(String... columns) {
+        return clause("SELECT", columns, "", "", ", ");
+    }
+
+    /**
+     * FROM table
+     *
+     * @param table the table name
+     * @return this
+     */
+    public SqlText from(String table) {
+        return clause("FROM", table);
+    }
+
+    /**
+     * WHERE (condition AND condition AND more)
+     *
+     * @param conditions the conditions, nullable
+     * @param more       the last condition, nullable
+     * @return this
+     */
+    public SqlText where(String[] conditions, String more) {
+        return where(null, conditions, more);
+    }
+
+    /**
+     * WHERE (first AND condition AND condition AND more)
+     *
+     * @param first      the leading condition, nullable, e.g. the live rows of a logical delete
+     * @param conditions the conditions, nullable
+     * @param more       the last condition, nullable
+     * @return this
+     */
+    public SqlText where(String first, String[] conditions, String more) {
+        int size = conditions != null ? conditions.length : 0;
+        if (first == null && size == 0 && more == null) {
+            return this;
+        }
+
+        keyword("WHERE").append('(');
+        if (first != null) {
+            builder.append(first);
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (i > 0 || first != null) {
+                builder.append(" AND ");
+            }
+            builder.append(conditions[i]);
+        }
+
+        if (more != null) {
+            if (size > 0 || first != null) {
+                builder.append(" AND ");
+            }
+            builder.append(more);
+        }
+
+        builder.append(')');
+        return this;
+    }
+
+    /**
+     * ORDER BY column ASC, column DESC
+     *
+     * @param orders the orders, nullable
+     * @return this
+     */
+    public SqlText orderBy(String[] orders) {
+        return clause("ORDER BY", orders, "", "", ", ");
+    }
+
+    /**
+     * page by the dialect, e.g. LIMIT limit OFFSET offset
+     *
+     * @param dialect the {@link Dialect} instance
+     * @param limit   the limit, nullable
+     * @param offset  the offset, nullable
+     * @return this
+     */
+    public SqlText limit(Dialect dialect, Object limit, Object offset) {
+        dialect.limit(builder, limit, offset);
+        return this;
+    }
+
+    /**
+     * INSERT INTO table
+     *
+     * @param table the table name
+     * @return this
+     */
+    public SqlText insertInto(String table) {
+        return clause("INSERT INTO", table);
+    }
+
+    /**
+     * (column, column)
+     *
+     * @param columns the column names
+     * @return this
+     */
+    public SqlText intoColumns(String[] columns) {
+        return clause("", columns, "(", ")", ", ");
+    }
+
+    /**
+     * VALUES (value, value), the first row
+     * , (value, value), the other rows
+     *
+     * @param values the values of a row
+     * @param first  the first row ?
+     * @return this
+     */
+    public SqlText intoValues(String[] values, boolean first) {
+        return clause(first ? "VALUES" : ",", values, "(", ")", ", ");
+    }
+
+    /**
+     * VALUES (#{prefix.property}, #{prefix.property}), the first row
+     * , (#{prefix.property}, #{prefix.property}), the other rows
+     *
+     * @param elements the {@link TagResult} List
+     * @param prefix   the element expression, e.g. list[0]
+     * @param first    the first row ?
+     * @return this
+     */
+    public SqlText intoValues(List<TagResult> elements, String prefix, boolean first) {
+        return intoValues(SqlSegment.getIntoValues(elements, prefix), first);
+    }
+
+    /**
+     * UPDATE table
+     *
+     * @param table the table name
+     * @return this
+     */
+    public SqlText update(String table) {
+        return clause("UPDATE", table);
+    }
+
+    /**
+     * SET set, set
+     *
+     * @param sets the sets, nullable
+     * @return this
+     */
+    public SqlText set(String[] sets) {
+        return clause("SET", sets, "", "", ", ");
+    }
+
+    /**
+     * SET column = #{property}, column = #{property}
+     *
+     * @param columns the {@link TagResult} List
+     * @return this
+     */
+    public SqlText set(List<TagResult> columns) {
+        return set(columns, null);
+    }
+
+    /**
+     * SET column = #{property}, column = #{property}, more
+     *
+     * @param columns the {@link TagResult} List
+     * @param more    the last set, nullable, e.g. version = version + 1
+     * @return this
+     */
+    public SqlText set(List<TagResult> columns, String more) {
+        boolean first = true;
+        int size = columns != null ? columns.size() : 0;
+
+        for (int i = 0; i <= size; i++) {
+            String value = i < size ? SqlSegment.joinKeyValue(columns.get(i)) : more;
+            if (value == null) {
+                continue;
+            }
+
+            if (first) {
+                keyword("SET");
+                first = false;
+            } else {
+                builder.append(", ");
+            }
+
+            builder.append(value);
+        }
+
+        return this;
+    }
+
+    /**
+     * DELETE FROM table
+     *
+     * @param table the table name
+     * @return this
+     */
+    public SqlText deleteFrom(String table) {
+        return clause("DELETE FROM", table);
+    }
+
+    /**
+     * keyword part
+     *
+     * @param keyword the keyword
+     * @param part    the only part
+     * @return this
+     */
+    private SqlText clause(String keyword, String part) {
+        keyword(keyword).append(part);
+        return this;
+    }
+
+    /**
+     * keyword open part conjunction part close, nothing if no parts
+     *
+     * @param keyword     the keyword
+     * @param parts       the parts, nullable
+     * @param open        the open
+     * @param close       the close
+     * @param conjunction the conjunction
+     * @return this
+     */
+    private SqlText clause(String keyword, String[] parts, String open, String close, String conjunction) {
+        if (parts == null || parts.length == 0) {
+            return this;
+        }
+
+        keyword(keyword).append(open);
+        for (int i = 0; i < parts.length; i++) {
+            if (i > 0) {
+                builder.append(conjunction);
+            }
+            builder.append(parts[i]);
+        }
+
+        builder.append(close);
+        return this;
+    }
+
+    /**
+     * a new line if not the first clause, then the keyword And a space
+     *
+     * @param keyword the keyword
+     * @return the builder
+     */
+    private StringBuilder keyword(String keyword) {
+        if (builder.length() > 0) {
+            builder.append('\n');
+        }
+
+        return builder.append(keyword).append(' ');
+    }
+
+}
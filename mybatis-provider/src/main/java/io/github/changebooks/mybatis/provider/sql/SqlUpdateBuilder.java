@@ -4,6 +4,8 @@ import io.github.changebooks.mybatis.provider.tag.TagResult;
 import io.github.changebooks.mybatis.provider.tag.TagResultFilter;
 import org.apache.ibatis.jdbc.SQL;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -13,6 +15,12 @@ import java.util.List;
  * @author changebooks@qq.com
  */
 public class SqlUpdateBuilder<T> implements SqlBuilder.SqlUpdate<T> {
+    /**
+     * the name of the batch parameter
+     * e.g. #{list[0].property}
+     */
+    public static final String BATCH_PARAM = SqlInsertBuilder.BATCH_PARAM;
+
     /**
      * the table name
      * e.g. table_name, table_name_${tableNum}
@@ -25,16 +33,72 @@ public class SqlUpdateBuilder<T> implements SqlBuilder.SqlUpdate<T> {
      */
     private final List<TagResult> columns;
 
+    /**
+     * the id columns, null if batch unsupported
+     * e.g. [ {@link TagResult}, {@link TagResult} ]
+     */
+    private final List<TagResult> ids;
+
     /**
      * the id condition
      * e.g. [ column = #{property,jdbcType=JDBC_TYPE}, column = #{property} ]
      */
     private final String[] whereId;
 
+    /**
+     * the version column, null if unversioned
+     * UPDATE sets version = version + 1 WHERE id AND version = #{version}
+     */
+    private final TagResult version;
+
+    /**
+     * the max rows of a batch, limited by max rows And max parameters
+     */
+    private final int batchSize;
+
+    /**
+     * [ Non-Null shape : UPDATE ONE sql ]
+     * the shape is a {@link Long} mask if columns &lt;= 64, or else a {@link BitSet}
+     */
+    private final SqlCache<Object> updateOneCache;
+
+    /**
+     * [ [ Non-Null shape of each row ] : UPDATE BATCH sql ], null if batch unsupported
+     */
+    private final SqlCache<List<Object>> updateBatchCache;
+
     public SqlUpdateBuilder(String table, List<TagResult> columns, String[] whereId) {
+        this(table, columns, whereId, new SqlCache<>());
+    }
+
+    public SqlUpdateBuilder(String table, List<TagResult> columns, String[] whereId, SqlCache<Object> updateOneCache) {
+        this.table = table;
+        this.columns = columns;
+        this.ids = null;
+        this.whereId = whereId;
+        this.version = null;
+        this.batchSize = 0;
+        this.updateOneCache = updateOneCache;
+        this.updateBatchCache = null;
+    }
+
+    public SqlUpdateBuilder(String table, List<TagResult> columns, List<TagResult> ids, String[] whereId, int maxRows, int maxParameters,
+                            SqlCache<Object> updateOneCache, SqlCache<List<Object>> updateBatchCache) {
+        this(table, columns, ids, whereId, null, maxRows, maxParameters, updateOneCache, updateBatchCache);
+    }
+
+    public SqlUpdateBuilder(String table, List<TagResult> columns, List<TagResult> ids, String[] whereId, TagResult version,
+                            int maxRows, int maxParameters, SqlCache<Object> updateOneCache, SqlCache<List<Object>> updateBatchCache) {
+        int sets = (columns != null ? columns.size() : 0) + (version != null ? 1 : 0);
+
         this.table = table;
         this.columns = columns;
+        this.ids = ids;
         this.whereId = whereId;
+        this.version = version;
+        this.batchSize = getBatchSize(sets, ids != null ? ids.size() : 0, maxRows, maxParameters);
+        this.updateOneCache = updateOneCache;
+        this.updateBatchCache = updateBatchCache;
     }
 
     @Override
@@ -46,17 +110,288 @@ public class SqlUpdateBuilder<T> implements SqlBuilder.SqlUpdate<T> {
             throw new RuntimeException(tr);
         }
 
+        return updateOne(columns);
+    }
+
+    @Override
+    public String updateOneSql(T record) {
+        Object shape;
+        try {
+            shape = getShape(record);
+        } catch (IllegalAccessException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        return updateOneCache.get(shape, x -> renderUpdateOne(filterShape(x)));
+    }
+
+    /**
+     * render UPDATE table SET columns WHERE id, on a cache miss
+     *
+     * @param columns the set columns
+     * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
+     */
+    protected String renderUpdateOne(List<TagResult> columns) {
+        return updateOne(columns).toString();
+    }
+
+    /**
+     * UPDATE table SET columns WHERE id
+     *
+     * @param columns the set columns
+     * @return UPDATE table SET column = #{property,jdbcType=JDBC_TYPE}, column = #{property} WHERE id = #{id,jdbcType=JDBC_TYPE}
+     */
+    public SQL updateOne(List<TagResult> columns) {
         String[] sets = SqlSegment.getSets(columns);
+        String versionSet = getVersionSet();
+        String versionWhere = getVersionWhere();
 
         return new SQL() {
             {
                 UPDATE(getTable());
                 SET(sets);
+                if (versionSet != null) {
+                    SET(versionSet);
+                }
                 WHERE(getWhereId());
+                if (versionWhere != null) {
+                    WHERE(versionWhere);
+                }
+            }
+        };
+    }
+
+    @Override
+    public SQL updateBatch(List<T> records) {
+        return updateShapes(getShapes(records));
+    }
+
+    @Override
+    public String updateBatchSql(List<T> records) {
+        return updateBatchCache.get(getShapes(records), this::renderUpdateBatch);
+    }
+
+    /**
+     * render UPDATE BATCH, on a cache miss
+     *
+     * @param shapes the Non-Null shape of each row
+     * @return UPDATE table SET column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END WHERE id IN (#{list[0].id})
+     */
+    protected String renderUpdateBatch(List<Object> shapes) {
+        return updateShapes(shapes).toString();
+    }
+
+    /**
+     * UPDATE table SET column = CASE ... END WHERE id IN (...)
+     *
+     * @param shapes the Non-Null shape of each row
+     * @return UPDATE table SET column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END WHERE id IN (#{list[0].id})
+     */
+    public SQL updateShapes(List<Object> shapes) {
+        String[] sets = getBatchSets(shapes);
+        String[] where = getBatchWhere(shapes.size());
+
+        return new SQL() {
+            {
+                UPDATE(getTable());
+                SET(sets);
+                WHERE(where);
             }
         };
     }
 
+    /**
+     * the SET of a batch, a column is skipped if Null in all rows, the version is increased in all rows
+     *
+     * @param shapes the Non-Null shape of each row
+     * @return [ column = CASE id WHEN #{list[0].id} THEN #{list[0].property} ELSE column END ]
+     */
+    public String[] getBatchSets(List<Object> shapes) {
+        List<TagResult> columns = getColumns();
+        List<String> result = new ArrayList<>(columns.size());
+
+        int rows = shapes.size();
+        for (int i = 0; i < columns.size(); i++) {
+            BitSet nonNull = new BitSet(rows);
+            for (int r = 0; r < rows; r++) {
+                if (isNonNull(shapes.get(r), i)) {
+                    nonNull.set(r);
+                }
+            }
+
+            String set = SqlSegment.getCase(columns.get(i), getIds(), BATCH_PARAM, nonNull);
+            if (set != null) {
+                result.add(set);
+            }
+        }
+
+        String versionSet = getVersionSet();
+        if (versionSet != null) {
+            result.add(versionSet);
+        }
+
+        return result.toArray(new String[0]);
+    }
+
+    /**
+     * the WHERE of a batch, the version of each row is checked, a Null version matches nothing
+     *
+     * <pre>
+     * id IN (#{list[0].id}, #{list[1].id})
+     * version = CASE id WHEN #{list[0].id} THEN #{list[0].version} WHEN #{list[1].id} THEN #{list[1].version} ELSE version END
+     * </pre>
+     *
+     * @param rows the number of rows
+     * @return [ id IN (...) ], [ id IN (...), version = CASE ... END ] if versioned
+     */
+    public String[] getBatchWhere(int rows) {
+        String in = SqlSegment.getIn(getIds(), BATCH_PARAM, rows);
+        if (version == null) {
+            return new String[]{in};
+        }
+
+        BitSet all = new BitSet(rows);
+        all.set(0, rows);
+
+        return new String[]{in, SqlSegment.getCase(version, getIds(), BATCH_PARAM, all)};
+    }
+
+    /**
+     * the SET of the version column
+     *
+     * @return version = version + 1, null if unversioned
+     */
+    public String getVersionSet() {
+        return SqlSegment.getIncrement(version);
+    }
+
+    /**
+     * the WHERE of the version column
+     *
+     * @return version = #{version,jdbcType=JDBC_TYPE}, null if unversioned
+     */
+    public String getVersionWhere() {
+        return version != null ? SqlSegment.joinKeyValue(version) : null;
+    }
+
+    /**
+     * the Non-Null shape of each record, checks 0 &lt; size &lt;= batch size
+     *
+     * @param records the POJO list
+     * @return [ shape, shape ]
+     * @throws IllegalArgumentException if unversioned And all properties of all records are Null, nothing to SET
+     */
+    public List<Object> getShapes(List<T> records) {
+        if (ids == null || ids.isEmpty()) {
+            throw new UnsupportedOperationException("updateBatch requires the ids");
+        }
+
+        int rows = records != null ? records.size() : 0;
+        if (rows <= 0 || rows > batchSize) {
+            throw new IllegalArgumentException("rows must be in (0, " + batchSize + "], rows: " + rows);
+        }
+
+        List<Object> result = new ArrayList<>(rows);
+
+        try {
+            for (T record : records) {
+                result.add(getShape(record));
+            }
+        } catch (IllegalAccessException tr) {
+            throw new RuntimeException(tr);
+        }
+
+        if (version == null && result.stream().allMatch(SqlUpdateBuilder::isEmpty)) {
+            throw new IllegalArgumentException("updateBatch has no Non-Null property to set, rows: " + rows);
+        }
+
+        return result;
+    }
+
+    /**
+     * the Non-Null shape of the record
+     *
+     * @param record the POJO
+     * @return a {@link Long} mask if columns &lt;= 64, or else a {@link BitSet}
+     * @throws IllegalAccessException if the underlying field is inaccessible.
+     */
+    @Override
+    public Object getShape(T record) throws IllegalAccessException {
+        List<TagResult> columns = getColumns();
+        if (columns == null || columns.size() <= Long.SIZE) {
+            return TagResultFilter.nonNullMask(columns, record);
+        } else {
+            return TagResultFilter.nonNullBits(columns, record);
+        }
+    }
+
+    /**
+     * filter the set columns by the Non-Null shape
+     *
+     * @param shape a {@link Long} mask or a {@link BitSet}
+     * @return the Non-Null columns
+     */
+    public List<TagResult> filterShape(Object shape) {
+        List<TagResult> columns = getColumns();
+        if (columns == null) {
+            return null;
+        }
+
+        List<TagResult> result = new ArrayList<>();
+
+        int size = columns.size();
+        for (int i = 0; i < size; i++) {
+            if (isNonNull(shape, i)) {
+                result.add(columns.get(i));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * is the i-th column Non-Null in the shape ?
+     *
+     * @param shape a {@link Long} mask or a {@link BitSet}
+     * @param index the column index
+     * @return Non-Null ?
+     */
+    private static boolean isNonNull(Object shape, int index) {
+        if (shape instanceof Long) {
+            return ((Long) shape & (1L << index)) != 0;
+        } else {
+            return ((BitSet) shape).get(index);
+        }
+    }
+
+    /**
+     * are all columns Null in the shape ?
+     *
+     * @param shape a {@link Long} mask or a {@link BitSet}
+     * @return {@code true} if no column is set
+     */
+    private static boolean isEmpty(Object shape) {
+        if (shape instanceof Long) {
+            return (Long) shape == 0L;
+        } else {
+            return ((BitSet) shape).isEmpty();
+        }
+    }
+
+    /**
+     * the max rows of a batch
+     * a row has at most (ids + 1) parameters per column in CASE, And ids parameters in IN
+     *
+     * @param columns       the number of set columns
+     * @param ids           the number of id columns
+     * @param maxRows       the max rows of a batch
+     * @param maxParameters the max parameters of a statement
+     * @return min(maxRows, maxParameters / parameters per row), at least 1
+     */
+    public static int getBatchSize(int columns, int ids, int maxRows, int maxParameters) {
+        return SqlInsertBuilder.getBatchSize(columns * (ids + 1) + ids, maxRows, maxParameters);
+    }
+
     public String getTable() {
         return table;
     }
@@ -65,8 +400,29 @@ public class SqlUpdateBuilder<T> implements SqlBuilder.SqlUpdate<T> {
         return columns;
     }
 
+    public List<TagResult> getIds() {
+        return ids;
+    }
+
     public String[] getWhereId() {
         return whereId;
     }
 
+    public TagResult getVersion() {
+        return version;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public SqlCache<Object> getUpdateOneCache() {
+        return updateOneCache;
+    }
+
+    public SqlCache<List<Object>> getUpdateBatchCache() {
+        return updateBatchCache;
+    }
+
 }
@@ -0,0 +1,54 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+
+/**
+ * Build UPDATE SQL, render by {@link SqlText}
+ *
+ * @param <T> the type of the POJO
+ * @author changebooks@qq.com
+ */
+public class SqlUpdateTextBuilder<T> extends SqlUpdateBuilder<T> {
+
+    public SqlUpdateTextBuilder(String table, List<TagResult> columns, String[] whereId) {
+        super(table, columns, whereId);
+    }
+
+    public SqlUpdateTextBuilder(String table, List<TagResult> columns, String[] whereId, SqlCache<Object> updateOneCache) {
+        super(table, columns, whereId, updateOneCache);
+    }
+
+    public SqlUpdateTextBuilder(String table, List<TagResult> columns, List<TagResult> ids, String[] whereId, int maxRows, int maxParameters,
+                                SqlCache<Object> updateOneCache, SqlCache<List<Object>> updateBatchCache) {
+        super(table, columns, ids, whereId, maxRows, maxParameters, updateOneCache, updateBatchCache);
+    }
+
+    public SqlUpdateTextBuilder(String table, List<TagResult> columns, List<TagResult> ids, String[] whereId, TagResult version,
+                                int maxRows, int maxParameters, SqlCache<Object> updateOneCache, SqlCache<List<Object>> updateBatchCache) {
+        super(table, columns, ids, whereId, version, maxRows, maxParameters, updateOneCache, updateBatchCache);
+    }
+
+    @Override
+    protected String renderUpdateOne(List<TagResult> columns) {
+        return SqlText.begin().
+                update(getTable()).
+                set(columns, getVersionSet()).
+                where(getWhereId(), getVersionWhere()).
+                end();
+    }
+
+    @Override
+    protected String renderUpdateBatch(List<Object> shapes) {
+        String[] sets = getBatchSets(shapes);
+        String[] where = getBatchWhere(shapes.size());
+
+        return SqlText.begin().
+                update(getTable()).
+                set(sets).
+                where(where, null).
+                end();
+    }
+
+}
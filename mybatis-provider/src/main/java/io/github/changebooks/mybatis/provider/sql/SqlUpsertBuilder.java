@@ -0,0 +1,128 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import io.github.changebooks.mybatis.provider.tag.TagResult;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Build UPSERT SQL, the INSERT of {@link SqlBuilder.SqlInsert} wrapped by the {@link Dialect}
+ *
+ * @author changebooks@qq.com
+ */
+public class SqlUpsertBuilder implements SqlBuilder.SqlUpsert {
+    /**
+     * the cache key of UPSERT ONE, a batch is keyed by its rows
+     */
+    public static final int ONE = 0;
+
+    /**
+     * the INSERT of all columns, ids included
+     */
+    private final SqlBuilder.SqlInsert insertBuilder;
+
+    /**
+     * the conflict columns
+     * e.g. [ id ]
+     */
+    private final String[] ids;
+
+    /**
+     * the columns updated on conflict, the version excluded
+     * e.g. [ column_name, column_name ]
+     */
+    private final String[] updates;
+
+    /**
+     * the version column increased on conflict, null if unversioned
+     */
+    private final String version;
+
+    /**
+     * the dialect
+     */
+    private final Dialect dialect;
+
+    /**
+     * [ ONE or rows : UPSERT sql ]
+     */
+    private final SqlCache<Integer> upsertCache;
+
+    public SqlUpsertBuilder(SqlBuilder.SqlInsert insertBuilder, List<TagResult> ids, List<TagResult> updates,
+                            TagResult version, Dialect dialect, SqlCache<Integer> upsertCache) {
+        Objects.requireNonNull(insertBuilder, "insertBuilder can't be null");
+        Objects.requireNonNull(dialect, "dialect can't be null");
+        Objects.requireNonNull(upsertCache, "upsertCache can't be null");
+
+        this.insertBuilder = insertBuilder;
+        this.ids = SqlSegment.getIntoColumns(ids);
+        this.updates = SqlSegment.getIntoColumns(updates);
+        this.version = version != null ? version.getColumn() : null;
+        this.dialect = dialect;
+        this.upsertCache = upsertCache;
+    }
+
+    @Override
+    public String upsertOneSql() {
+        checkIds();
+
+        return upsertCache.get(ONE, x -> dialect.upsert(insertBuilder.insertOneSql(), ids, updates, version));
+    }
+
+    @Override
+    public String upsertBatchSql(int rows) {
+        checkIds();
+
+        int batchSize = getBatchSize();
+        if (rows <= 0 || rows > batchSize) {
+            throw new IllegalArgumentException("rows must be in (0, " + batchSize + "], rows: " + rows);
+        }
+
+        if (rows == batchSize) {
+            return upsertCache.getPinned(rows, x -> dialect.upsert(insertBuilder.insertBatchSql(x), ids, updates, version));
+        }
+
+        return upsertCache.get(rows, x -> dialect.upsert(insertBuilder.insertBatchSql(x), ids, updates, version));
+    }
+
+    /**
+     * an upsert conflicts on the ids
+     */
+    protected void checkIds() {
+        if (ids == null || ids.length == 0) {
+            throw new UnsupportedOperationException("upsert requires the ids");
+        }
+    }
+
+    public SqlBuilder.SqlInsert getInsertBuilder() {
+        return insertBuilder;
+    }
+
+    public String[] getIds() {
+        return ids;
+    }
+
+    public String[] getUpdates() {
+        return updates;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    @Override
+    public Dialect getDialect() {
+        return dialect;
+    }
+
+    @Override
+    public int getBatchSize() {
+        return insertBuilder.getBatchSize();
+    }
+
+    public SqlCache<Integer> getUpsertCache() {
+        return upsertCache;
+    }
+
+}
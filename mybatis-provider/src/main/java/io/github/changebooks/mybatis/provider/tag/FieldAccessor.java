@@ -0,0 +1,21 @@
+package io.github.changebooks.mybatis.provider.tag;
+
+/**
+ * Read the value of a java bean field, e.g. record -&gt; ((City) record).getId() of the generated ProviderMeta
+ * Used if the element has no reflect Field, e.g. in a native image
+ *
+ * @author changebooks@qq.com
+ * @see TagResultFilter#getValue
+ */
+@FunctionalInterface
+public interface FieldAccessor {
+    /**
+     * read the field value
+     *
+     * @param record the POJO
+     * @return the field value, primitives are boxed
+     * @throws IllegalAccessException if the underlying field is inaccessible, reflection only
+     */
+    Object get(Object record) throws IllegalAccessException;
+
+}
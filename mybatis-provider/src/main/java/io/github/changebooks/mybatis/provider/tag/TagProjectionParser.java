@@ -0,0 +1,113 @@
+package io.github.changebooks.mybatis.provider.tag;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Parse a projection, a class of the &#064;MybatisResult fields, e.g. the columns of a list page
+ * The fields are matched to the java bean by the property, the column And the jdbcType are the java bean's
+ *
+ * @author changebooks@qq.com
+ */
+public final class TagProjectionParser {
+    /**
+     * [ projection class : the &#064;MybatisResult fields ], each class is parsed once per process
+     */
+    private static final ClassValue<List<TagResult>> FIELDS = new ClassValue<List<TagResult>>() {
+        @Override
+        protected List<TagResult> computeValue(Class<?> type) {
+            List<TagResult> result = Arrays.stream(type.getDeclaredFields()).
+                    filter(Objects::nonNull).
+                    peek(TagResultParser::setAccessibleTrue).
+                    map(TagResultParser::parse).
+                    filter(Objects::nonNull).
+                    collect(Collectors.toList());
+
+            return Collections.unmodifiableList(result);
+        }
+    };
+
+    private TagProjectionParser() {
+    }
+
+    /**
+     * the class has &#064;MybatisResult fields ?
+     *
+     * @param type the class
+     * @return {@code false} if null Or no &#064;MybatisResult field
+     */
+    public static boolean isProjection(Class<?> type) {
+        return type != null && !FIELDS.get(type).isEmpty();
+    }
+
+    /**
+     * the properties of the projection class, in the declaration order
+     *
+     * @param projection the projection class
+     * @return [ property, property ]
+     * @throws IllegalArgumentException if no &#064;MybatisResult field
+     */
+    public static String[] getProperties(Class<?> projection) {
+        Objects.requireNonNull(projection, "projection can't be null");
+
+        List<TagResult> fields = FIELDS.get(projection);
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("projection has no @MybatisResult field, projection: " + projection.getName());
+        }
+
+        return fields.stream().
+                map(TagResult::getProperty).
+                toArray(String[]::new);
+    }
+
+    /**
+     * the projection class to a new {@link TagResultMap} class, the type is the projection
+     * the elements are copied from the java bean's, the java type And the field are the projection's
+     *
+     * @param resultMap  the TagResultMap of the java bean
+     * @param projection the projection class
+     * @return TagResultMap
+     * @throws IllegalArgumentException if a property isn't found in the java bean
+     */
+    public static TagResultMap parse(TagResultMap resultMap, Class<?> projection) {
+        Objects.requireNonNull(resultMap, "resultMap can't be null");
+
+        String[] properties = getProperties(projection);
+        List<TagResult> columns = TagResultFilter.filterProperty(resultMap.getElements(), properties);
+        List<TagResult> fields = FIELDS.get(projection);
+
+        List<TagResult> elements = new ArrayList<>(columns.size());
+
+        for (int i = 0; i < columns.size(); i++) {
+            TagResult column = columns.get(i);
+            TagResult field = fields.get(i);
+
+            TagResult element = new TagResult();
+
+            element.setColumn(column.getColumn());
+            element.setJdbcType(column.getJdbcType());
+            element.setProperty(field.getProperty());
+            element.setJavaType(field.getJavaType());
+            element.setId(column.isId());
+            element.setAutoIncrement(column.isAutoIncrement());
+            element.setField(field.getField());
+            element.setAccessor(field.getAccessor());
+
+            elements.add(element);
+        }
+
+        TagResultMap result = new TagResultMap();
+
+        result.setTable(resultMap.getTable());
+        result.setType(projection);
+        result.setElements(elements);
+
+        return result;
+    }
+
+}
@@ -42,11 +42,38 @@ public final class TagResult implements Serializable {
      */
     private boolean autoIncrement;
 
+    /**
+     * lazy ? omitted from the default selects
+     */
+    private boolean lazy;
+
+    /**
+     * version ? the optimistic lock
+     */
+    private boolean version;
+
     /**
      * java field
      */
     private Field field;
 
+    /**
+     * read the java field
+     */
+    private FieldAccessor accessor;
+
+    /**
+     * the value segment, rendered once
+     * e.g. #{property,jdbcType=JDBC_TYPE}, #{property}
+     */
+    private transient String valueSegment;
+
+    /**
+     * the key = value segment, rendered once
+     * e.g. column = #{property,jdbcType=JDBC_TYPE}, column = #{property}
+     */
+    private transient String keyValueSegment;
+
     @Override
     public String toString() {
         String column = Optional.ofNullable(getColumn()).orElse("");
@@ -55,6 +82,8 @@ public final class TagResult implements Serializable {
         String javaType = Optional.ofNullable(getJavaType()).map(Class::getName).orElse("");
         boolean id = isId();
         boolean autoIncrement = isAutoIncrement();
+        boolean lazy = isLazy();
+        boolean version = isVersion();
         String field = Optional.ofNullable(getField()).map(Field::getName).orElse("");
 
         return "{" +
@@ -64,6 +93,8 @@ public final class TagResult implements Serializable {
                 "\"javaType\": \"" + javaType + "\", " +
                 "\"id\": " + id + ", " +
                 "\"autoIncrement\": " + autoIncrement + ", " +
+                "\"lazy\": " + lazy + ", " +
+                "\"version\": " + version + ", " +
                 "\"field\": \"" + field + "\"" +
                 "}";
     }
@@ -74,6 +105,7 @@ public final class TagResult implements Serializable {
 
     public void setColumn(String column) {
         this.column = column;
+        this.keyValueSegment = null;
     }
 
     public JdbcType getJdbcType() {
@@ -82,6 +114,8 @@ public final class TagResult implements Serializable {
 
     public void setJdbcType(JdbcType jdbcType) {
         this.jdbcType = jdbcType;
+        this.valueSegment = null;
+        this.keyValueSegment = null;
     }
 
     public String getProperty() {
@@ -90,6 +124,8 @@ public final class TagResult implements Serializable {
 
     public void setProperty(String property) {
         this.property = property;
+        this.valueSegment = null;
+        this.keyValueSegment = null;
     }
 
     public Class<?> getJavaType() {
@@ -116,6 +152,22 @@ public final class TagResult implements Serializable {
         this.autoIncrement = autoIncrement;
     }
 
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    public void setLazy(boolean lazy) {
+        this.lazy = lazy;
+    }
+
+    public boolean isVersion() {
+        return version;
+    }
+
+    public void setVersion(boolean version) {
+        this.version = version;
+    }
+
     public Field getField() {
         return field;
     }
@@ -124,4 +176,82 @@ public final class TagResult implements Serializable {
         this.field = field;
     }
 
+    public FieldAccessor getAccessor() {
+        return accessor;
+    }
+
+    public void setAccessor(FieldAccessor accessor) {
+        this.accessor = accessor;
+    }
+
+    /**
+     * the value segment, rendered on first call
+     *
+     * <pre>
+     * #{property,jdbcType=JDBC_TYPE}
+     * #{property}
+     * </pre>
+     *
+     * @return #{}, null if no property
+     */
+    public String getValueSegment() {
+        String result = valueSegment;
+        if (result == null && property != null) {
+            result = renderValue('#');
+            valueSegment = result;
+        }
+
+        return result;
+    }
+
+    /**
+     * the key = value segment, rendered on first call
+     *
+     * <pre>
+     * column = #{property,jdbcType=JDBC_TYPE}
+     * column = #{property}
+     * </pre>
+     *
+     * @return key = #{}, null if no column or no property
+     */
+    public String getKeyValueSegment() {
+        String result = keyValueSegment;
+        if (result == null && column != null) {
+            String value = getValueSegment();
+            if (value != null) {
+                result = new StringBuilder(column.length() + 3 + value.length()).
+                        append(column).append(" = ").append(value).
+                        toString();
+                keyValueSegment = result;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * render the value segment
+     *
+     * <pre>
+     * #{property,jdbcType=JDBC_TYPE}
+     * ${property}
+     * </pre>
+     *
+     * @param placeHolder {@code #} or {@code $}
+     * @return #{}; ${}
+     */
+    private String renderValue(char placeHolder) {
+        String type = jdbcType != null ? jdbcType.name() : null;
+        int capacity = property.length() + 3 + (type != null ? type.length() + 10 : 0);
+
+        StringBuilder result = new StringBuilder(capacity).
+                append(placeHolder).append('{').append(property);
+
+        if (type != null) {
+            result.append(",jdbcType=").append(type);
+        }
+
+        return result.append('}').toString();
+    }
+
 }
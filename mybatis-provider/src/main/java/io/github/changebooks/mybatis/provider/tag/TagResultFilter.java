@@ -31,6 +31,34 @@ public final class TagResultFilter {
                 collect(Collectors.toList());
     }
 
+    /**
+     * filter properties from {@link TagResult} List, in the order of properties
+     *
+     * @param columns    the {@link TagResult} List
+     * @param properties the java field names
+     * @return TagResult List With the properties
+     * @throws IllegalArgumentException if a property isn't found
+     */
+    public static List<TagResult> filterProperty(List<TagResult> columns, String... properties) {
+        Objects.requireNonNull(properties, "properties can't be null");
+
+        List<TagResult> result = new ArrayList<>(properties.length);
+
+        for (String property : properties) {
+            TagResult column = Optional.ofNullable(columns).
+                    orElse(EMPTY_LIST).
+                    stream().
+                    filter(Objects::nonNull).
+                    filter(x -> Objects.equals(x.getProperty(), property)).
+                    findFirst().
+                    orElseThrow(() -> new IllegalArgumentException("property isn't found, property: " + property));
+
+            result.add(column);
+        }
+
+        return result;
+    }
+
     /**
      * remove Id from {@link TagResult} List
      *
@@ -76,6 +104,66 @@ public final class TagResultFilter {
                 collect(Collectors.toList());
     }
 
+    /**
+     * filter Lazy from {@link TagResult} List
+     *
+     * @param columns the {@link TagResult} List
+     * @return TagResult List With Lazy
+     */
+    public static List<TagResult> filterLazy(List<TagResult> columns) {
+        return Optional.ofNullable(columns).
+                orElse(EMPTY_LIST).
+                stream().
+                filter(Objects::nonNull).
+                filter(TagResult::isLazy).
+                collect(Collectors.toList());
+    }
+
+    /**
+     * remove Lazy from {@link TagResult} List
+     *
+     * @param columns the {@link TagResult} List
+     * @return TagResult List Without Lazy
+     */
+    public static List<TagResult> removeLazy(List<TagResult> columns) {
+        return Optional.ofNullable(columns).
+                orElse(EMPTY_LIST).
+                stream().
+                filter(Objects::nonNull).
+                filter(x -> !x.isLazy()).
+                collect(Collectors.toList());
+    }
+
+    /**
+     * filter Version from {@link TagResult} List
+     *
+     * @param columns the {@link TagResult} List
+     * @return TagResult List With Version
+     */
+    public static List<TagResult> filterVersion(List<TagResult> columns) {
+        return Optional.ofNullable(columns).
+                orElse(EMPTY_LIST).
+                stream().
+                filter(Objects::nonNull).
+                filter(TagResult::isVersion).
+                collect(Collectors.toList());
+    }
+
+    /**
+     * remove Version from {@link TagResult} List
+     *
+     * @param columns the {@link TagResult} List
+     * @return TagResult List Without Version
+     */
+    public static List<TagResult> removeVersion(List<TagResult> columns) {
+        return Optional.ofNullable(columns).
+                orElse(EMPTY_LIST).
+                stream().
+                filter(Objects::nonNull).
+                filter(x -> !x.isVersion()).
+                collect(Collectors.toList());
+    }
+
     /**
      * remove Null from {@link TagResult} List
      *
@@ -101,10 +189,7 @@ public final class TagResultFilter {
                 continue;
             }
 
-            Field field = column.getField();
-            Objects.requireNonNull(field, "field can't be null");
-
-            Object value = field.get(record);
+            Object value = getValue(column, record);
             if (value != null) {
                 result.add(column);
             }
@@ -113,4 +198,111 @@ public final class TagResultFilter {
         return result;
     }
 
+    /**
+     * the Non-Null mask of {@link TagResult} List, bit i is set if the i-th column isn't null
+     *
+     * @param columns the {@link TagResult} List, at most 64 columns
+     * @param record  the POJO
+     * @param <T>     the type of the POJO
+     * @return the Non-Null mask
+     * @throws IllegalAccessException if this {@code Field} object is enforcing Java language access control
+     *                                and
+     *                                the underlying field is inaccessible.
+     */
+    public static <T> long nonNullMask(List<TagResult> columns, T record) throws IllegalAccessException {
+        Objects.requireNonNull(record, "record can't be null");
+
+        if (columns == null) {
+            return 0L;
+        }
+
+        int size = columns.size();
+        if (size > Long.SIZE) {
+            throw new IllegalArgumentException("columns can't be more than " + Long.SIZE + ", size: " + size);
+        }
+
+        long result = 0L;
+
+        for (int i = 0; i < size; i++) {
+            if (isNonNull(columns.get(i), record)) {
+                result |= 1L << i;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * the Non-Null bits of {@link TagResult} List, bit i is set if the i-th column isn't null
+     *
+     * @param columns the {@link TagResult} List
+     * @param record  the POJO
+     * @param <T>     the type of the POJO
+     * @return the Non-Null bits
+     * @throws IllegalAccessException if this {@code Field} object is enforcing Java language access control
+     *                                and
+     *                                the underlying field is inaccessible.
+     */
+    public static <T> BitSet nonNullBits(List<TagResult> columns, T record) throws IllegalAccessException {
+        Objects.requireNonNull(record, "record can't be null");
+
+        if (columns == null) {
+            return new BitSet();
+        }
+
+        int size = columns.size();
+        BitSet result = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            if (isNonNull(columns.get(i), record)) {
+                result.set(i);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * is the column of the record Non-Null ?
+     *
+     * @param column the {@link TagResult} instance
+     * @param record the POJO
+     * @param <T>    the type of the POJO
+     * @return {@code false} if column is null or value is null
+     * @throws IllegalAccessException if this {@code Field} object is enforcing Java language access control
+     *                                and
+     *                                the underlying field is inaccessible.
+     */
+    private static <T> boolean isNonNull(TagResult column, T record) throws IllegalAccessException {
+        if (column == null) {
+            return false;
+        }
+
+        return getValue(column, record) != null;
+    }
+
+    /**
+     * read the column value of the record, by {@link Field} if present, or else by {@link FieldAccessor}
+     * the Field call site stays monomorphic, so a reflected java bean is read as fast as the typed accessors
+     *
+     * @param column the {@link TagResult} instance
+     * @param record the POJO
+     * @param <T>    the type of the POJO
+     * @return the column value
+     * @throws IllegalAccessException if this {@code Field} object is enforcing Java language access control
+     *                                and
+     *                                the underlying field is inaccessible.
+     */
+    public static <T> Object getValue(TagResult column, T record) throws IllegalAccessException {
+        Field field = column.getField();
+        if (field != null) {
+            return field.get(record);
+        }
+
+        FieldAccessor accessor = column.getAccessor();
+        Objects.requireNonNull(accessor, "accessor can't be null");
+
+        return accessor.get(record);
+    }
+
 }
@@ -28,9 +28,25 @@ public final class TagResultMap implements Serializable {
      */
     private List<TagResult> elements;
 
+    /**
+     * &#064;MybatisResultMap(logicalDelete), null if deleted physically
+     */
+    private String logicalDelete;
+
+    /**
+     * &#064;MybatisResultMap(deletedValue)
+     */
+    private String deletedValue;
+
+    /**
+     * &#064;MybatisResultMap(liveValue)
+     */
+    private String liveValue;
+
     @Override
     public String toString() {
         String table = Optional.ofNullable(getTable()).orElse("");
+        String logicalDelete = Optional.ofNullable(getLogicalDelete()).orElse("");
         String type = Optional.ofNullable(getType()).map(Class::getName).orElse("");
         String elements = Optional.ofNullable(getElements()).
                 orElse(Collections.emptyList()).
@@ -41,7 +57,8 @@ public final class TagResultMap implements Serializable {
         return "{" +
                 "\"table\": \"" + table + "\", " +
                 "\"type\": \"" + type + "\", " +
-                "\"elements\": " + elements + "" +
+                "\"elements\": " + elements + ", " +
+                "\"logicalDelete\": \"" + logicalDelete + "\"" +
                 "}";
     }
 
@@ -69,4 +86,28 @@ public final class TagResultMap implements Serializable {
         this.elements = elements;
     }
 
+    public String getLogicalDelete() {
+        return logicalDelete;
+    }
+
+    public void setLogicalDelete(String logicalDelete) {
+        this.logicalDelete = logicalDelete;
+    }
+
+    public String getDeletedValue() {
+        return deletedValue;
+    }
+
+    public void setDeletedValue(String deletedValue) {
+        this.deletedValue = deletedValue;
+    }
+
+    public String getLiveValue() {
+        return liveValue;
+    }
+
+    public void setLiveValue(String liveValue) {
+        this.liveValue = liveValue;
+    }
+
 }
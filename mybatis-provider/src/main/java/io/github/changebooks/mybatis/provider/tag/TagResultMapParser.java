@@ -1,13 +1,18 @@
 package io.github.changebooks.mybatis.provider.tag;
 
 import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import io.github.changebooks.mybatis.provider.meta.ProviderMeta;
+import io.github.changebooks.mybatis.provider.meta.ProviderMetas;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
@@ -16,6 +21,20 @@ import java.util.stream.Collectors;
  * @author changebooks@qq.com
  */
 public final class TagResultMapParser {
+    /**
+     * [ java bean class : TagResultMap ], each class is parsed once per process
+     */
+    private static final ClassValue<Optional<TagResultMap>> CACHES = new ClassValue<Optional<TagResultMap>>() {
+        @Override
+        protected Optional<TagResultMap> computeValue(Class<?> type) {
+            TagResultMap result = create(type);
+            if (result != null && result.getElements() != null) {
+                result.setElements(Collections.unmodifiableList(result.getElements()));
+            }
+
+            return Optional.ofNullable(result);
+        }
+    };
 
     private TagResultMapParser() {
     }
@@ -27,6 +46,17 @@ public final class TagResultMapParser {
      * @return TagResultMap
      */
     public static TagResultMap parseGeneric(Class<?> type) {
+        Class<?> clazzArgument = parseGenericType(type);
+        return clazzArgument != null ? parse(clazzArgument) : null;
+    }
+
+    /**
+     * Class&lt;Generic&gt; to the Generic class, nothing is parsed
+     *
+     * @param type Class&lt;Generic&gt;
+     * @return null if not generic
+     */
+    public static Class<?> parseGenericType(Class<?> type) {
         if (type == null) {
             return null;
         }
@@ -34,9 +64,8 @@ public final class TagResultMapParser {
         Type parameterizedType = type.getGenericSuperclass();
         if (parameterizedType instanceof ParameterizedType) {
             Type[] typeArguments = ((ParameterizedType) parameterizedType).getActualTypeArguments();
-            if (typeArguments != null && typeArguments.length > 0) {
-                Class<?> clazzArgument = (Class<?>) typeArguments[0];
-                return parse(clazzArgument);
+            if (typeArguments != null && typeArguments.length > 0 && typeArguments[0] instanceof Class) {
+                return (Class<?>) typeArguments[0];
             }
         }
 
@@ -44,7 +73,8 @@ public final class TagResultMapParser {
     }
 
     /**
-     * java bean class to {@link TagResultMap} class
+     * java bean class to {@link TagResultMap} class, cached
+     * the result is shared by all Providers of the class, don't modify it
      *
      * @param type java bean class
      * @return TagResultMap
@@ -54,12 +84,73 @@ public final class TagResultMapParser {
             return null;
         }
 
+        return CACHES.get(type).orElse(null);
+    }
+
+    /**
+     * java bean class to a new {@link TagResultMap} class, uncached
+     * by the generated {@link ProviderMeta} if present, or else by reflection
+     *
+     * @param type java bean class
+     * @return TagResultMap
+     * @throws IllegalStateException if {@link ProviderMetas#isStrict()} And no ProviderMeta is registered
+     */
+    public static TagResultMap create(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+
+        ProviderMeta<?> meta = ProviderMetas.find(type);
+        if (meta != null) {
+            return create(meta);
+        }
+
+        if (ProviderMetas.isStrict()) {
+            throw new IllegalStateException("ProviderMeta isn't registered, type: " + type.getName());
+        }
+
+        return reflect(type);
+    }
+
+    /**
+     * the generated {@link ProviderMeta} to a new {@link TagResultMap} class, no reflection
+     *
+     * @param meta the generated metadata
+     * @return TagResultMap
+     */
+    public static TagResultMap create(ProviderMeta<?> meta) {
+        Objects.requireNonNull(meta, "meta can't be null");
+
+        TagResultMap result = new TagResultMap();
+
+        result.setTable(meta.getTable());
+        result.setType(meta.getType());
+        result.setElements(new ArrayList<>(meta.getElements()));
+        result.setLogicalDelete(meta.getLogicalDelete());
+        result.setDeletedValue(meta.getDeletedValue());
+        result.setLiveValue(meta.getLiveValue());
+
+        return result;
+    }
+
+    /**
+     * java bean class to a new {@link TagResultMap} class, by reflection
+     *
+     * @param type java bean class
+     * @return TagResultMap
+     */
+    public static TagResultMap reflect(Class<?> type) {
+        if (type == null) {
+            return null;
+        }
+
         MybatisResultMap annotation = type.getAnnotation(MybatisResultMap.class);
         if (annotation == null) {
             return null;
         }
 
         String table = annotation.table();
+        String logicalDelete = annotation.logicalDelete();
         Field[] fields = type.getDeclaredFields();
         List<TagResult> elements = Arrays.stream(fields).
                 filter(Objects::nonNull).
@@ -74,6 +165,12 @@ public final class TagResultMapParser {
         result.setType(type);
         result.setElements(elements);
 
+        if (!logicalDelete.isEmpty()) {
+            result.setLogicalDelete(logicalDelete);
+            result.setDeletedValue(annotation.deletedValue());
+            result.setLiveValue(annotation.liveValue());
+        }
+
         return result;
     }
 
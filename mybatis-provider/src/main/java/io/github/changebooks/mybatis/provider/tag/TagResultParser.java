@@ -37,6 +37,8 @@ public final class TagResultParser {
         Class<?> javaType = field.getType();
         boolean id = annotation.id();
         boolean autoIncrement = annotation.autoIncrement();
+        boolean lazy = annotation.lazy();
+        boolean version = annotation.version();
 
         TagResult result = new TagResult();
 
@@ -46,6 +48,8 @@ public final class TagResultParser {
         result.setJavaType(javaType);
         result.setId(id);
         result.setAutoIncrement(autoIncrement);
+        result.setLazy(lazy);
+        result.setVersion(version);
         result.setField(field);
 
         return result;
@@ -0,0 +1,160 @@
+package io.github.changebooks.mybatis.provider;
+
+import io.github.changebooks.mybatis.provider.annotation.MybatisResult;
+import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import io.github.changebooks.mybatis.provider.dialect.Dialect;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.datasource.unpooled.UnpooledDataSource;
+import org.apache.ibatis.mapping.Environment;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
+import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.Test;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * An upsert over an existing versioned row keeps the version, And increases it by one
+ *
+ * @author changebooks@qq.com
+ */
+public class UpsertVersionTest {
+
+    @Test
+    public void testMySqlUpsert() throws SQLException {
+        try (SqlSession session = open("MySQL", MySqlAccountMapper.class).openSession(true)) {
+            MySqlAccountMapper mapper = session.getMapper(MySqlAccountMapper.class);
+
+            mapper.upsertOne(newAccount(10, 3L));
+            assertRow(session, 10, 3L);
+
+            mapper.upsertOne(newAccount(20, null));
+            assertRow(session, 20, 4L);
+
+            mapper.upsertBatch(Collections.singletonList(newAccount(30, 0L)));
+            assertRow(session, 30, 5L);
+        }
+    }
+
+    @Test
+    public void testH2Upsert() throws SQLException {
+        try (SqlSession session = open("REGULAR", H2AccountMapper.class).openSession(true)) {
+            H2AccountMapper mapper = session.getMapper(H2AccountMapper.class);
+
+            mapper.upsertOne(newAccount(10, 3L));
+            assertRow(session, 10, 3L);
+
+            mapper.upsertOne(newAccount(20, null));
+            assertRow(session, 20, 4L);
+
+            mapper.upsertBatch(Collections.singletonList(newAccount(30, 0L)));
+            assertRow(session, 30, 5L);
+        }
+    }
+
+    private static SqlSessionFactory open(String mode, Class<?> mapper) throws SQLException {
+        UnpooledDataSource dataSource = new UnpooledDataSource("org.h2.Driver",
+                "jdbc:h2:mem:upsert_" + mode + ";MODE=" + mode + ";DB_CLOSE_DELAY=-1", "sa", "");
+
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS account");
+            statement.execute("CREATE TABLE account (id INT PRIMARY KEY, balance INT, version BIGINT)");
+        }
+
+        Configuration configuration = new Configuration(new Environment("test", new JdbcTransactionFactory(), dataSource));
+        configuration.addMapper(mapper);
+
+        return new SqlSessionFactoryBuilder().build(configuration);
+    }
+
+    private static Account newAccount(int balance, Long version) {
+        Account result = new Account();
+        result.setId(1);
+        result.setBalance(balance);
+        result.setVersion(version);
+        return result;
+    }
+
+    private static void assertRow(SqlSession session, int balance, long version) throws SQLException {
+        try (Statement statement = session.getConnection().createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT balance, version FROM account WHERE id = 1")) {
+            resultSet.next();
+            assertEquals(balance, resultSet.getInt(1));
+            assertEquals(version, resultSet.getLong(2));
+        }
+    }
+
+    @MybatisResultMap(table = "account")
+    public static class Account {
+        @MybatisResult(column = "id", jdbcType = JdbcType.INTEGER, id = true)
+        private Integer id;
+
+        @MybatisResult(column = "balance", jdbcType = JdbcType.INTEGER)
+        private Integer balance;
+
+        @MybatisResult(column = "version", jdbcType = JdbcType.BIGINT, version = true)
+        private Long version;
+
+        public Integer getId() {
+            return id;
+        }
+
+        public void setId(Integer id) {
+            this.id = id;
+        }
+
+        public Integer getBalance() {
+            return balance;
+        }
+
+        public void setBalance(Integer balance) {
+            this.balance = balance;
+        }
+
+        public Long getVersion() {
+            return version;
+        }
+
+        public void setVersion(Long version) {
+            this.version = version;
+        }
+    }
+
+    public static class MySqlAccountProvider extends BaseProvider<Account> {
+    }
+
+    public static class H2AccountProvider extends BaseProvider<Account> {
+        @Override
+        public void afterPropertiesSet() {
+            this.dialect = Dialect.H2;
+        }
+    }
+
+    public interface MySqlAccountMapper {
+        @InsertProvider(type = MySqlAccountProvider.class, method = "upsertOne")
+        int upsertOne(Account record);
+
+        @InsertProvider(type = MySqlAccountProvider.class, method = "upsertBatch")
+        int upsertBatch(@Param("list") List<Account> records);
+    }
+
+    public interface H2AccountMapper {
+        @InsertProvider(type = H2AccountProvider.class, method = "upsertOne")
+        int upsertOne(Account record);
+
+        @InsertProvider(type = H2AccountProvider.class, method = "upsertBatch")
+        int upsertBatch(@Param("list") List<Account> records);
+    }
+
+}
@@ -0,0 +1,67 @@
+package io.github.changebooks.mybatis.provider.meta;
+
+import io.github.changebooks.mybatis.provider.annotation.MybatisResult;
+import io.github.changebooks.mybatis.provider.annotation.MybatisResultMap;
+import io.github.changebooks.mybatis.provider.tag.TagResultMapParser;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * A snapshot is read back, a truncated one is read as empty
+ *
+ * @author changebooks@qq.com
+ */
+public class ProviderMetaSnapshotTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRead() throws IOException {
+        Path file = write();
+
+        List<ProviderMeta<?>> metas = ProviderMetaSnapshot.read(file, getClass().getClassLoader());
+        assertEquals(1, metas.size());
+        assertEquals(Account.class, metas.get(0).getType());
+        assertEquals("account", metas.get(0).getTable());
+    }
+
+    @Test
+    public void testReadTruncated() throws IOException {
+        Path file = write();
+        byte[] bytes = Files.readAllBytes(file);
+
+        for (int length = 0; length < bytes.length; length++) {
+            Files.write(file, Arrays.copyOf(bytes, length));
+            assertTrue("length: " + length, ProviderMetaSnapshot.read(file, getClass().getClassLoader()).isEmpty());
+        }
+    }
+
+    private Path write() throws IOException {
+        Path file = folder.getRoot().toPath().resolve("meta.bin");
+        assertEquals(1, ProviderMetaSnapshot.write(file, Collections.singletonList(TagResultMapParser.reflect(Account.class))));
+        return file;
+    }
+
+    @MybatisResultMap(table = "account")
+    public static class Account {
+        @MybatisResult(column = "id", jdbcType = JdbcType.INTEGER, id = true)
+        private Integer id;
+
+        @MybatisResult(column = "balance", jdbcType = JdbcType.INTEGER)
+        private Integer balance;
+    }
+
+}
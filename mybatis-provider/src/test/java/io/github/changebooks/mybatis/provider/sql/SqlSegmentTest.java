@@ -0,0 +1,43 @@
+package io.github.changebooks.mybatis.provider.sql;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * The live And deleted predicates of a logical delete, a NULL marker is compared by IS NULL
+ *
+ * @author changebooks@qq.com
+ */
+public class SqlSegmentTest {
+
+    @Test
+    public void testGetLive() {
+        assertEquals("deleted = 0", SqlSegment.getLive("deleted", "0"));
+        assertEquals("deleted_at IS NULL", SqlSegment.getLive("deleted_at", "NULL"));
+        assertEquals("deleted_at IS NULL", SqlSegment.getLive("deleted_at", null));
+        assertNull(SqlSegment.getLive(null, "0"));
+    }
+
+    @Test
+    public void testGetDeleted() {
+        assertEquals("deleted = 1", SqlSegment.getDeleted("deleted", "1", "0"));
+        assertEquals("deleted_at IS NOT NULL", SqlSegment.getDeleted("deleted_at", "CURRENT_TIMESTAMP", "NULL"));
+        assertNull(SqlSegment.getDeleted(null, "1", "0"));
+    }
+
+    @Test
+    public void testGetDeletedOfNullMarker() {
+        assertEquals("archived IS NULL", SqlSegment.getDeleted("archived", "NULL", "1"));
+        assertEquals("archived IS NULL", SqlSegment.getDeleted("archived", " null ", "1"));
+        assertEquals("archived IS NULL", SqlSegment.getDeleted("archived", null, "1"));
+    }
+
+    @Test
+    public void testGetDelete() {
+        assertEquals("archived = NULL", SqlSegment.getDelete("archived", "NULL"));
+        assertNull(SqlSegment.getDelete(null, "1"));
+    }
+
+}